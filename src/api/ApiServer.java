@@ -0,0 +1,497 @@
+package api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import model.Admin;
+import model.CourseSection;
+import model.EnrollmentStatus;
+import model.Instructor;
+import model.Student;
+import model.User;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import system.SectionQuery;
+import system.SessionManager;
+import util.VirtualThreads;
+
+/**
+ * Serves the enrollment system as an HTTP/JSON API so many students can register at once against one process.
+ *
+ * Endpoints:
+ * <pre>
+ * POST /api/login      {"email": ..., "password": ...}   the account of the user and a session token
+ * POST /api/logout                                       ends the session of the token sent
+ * GET  /api/courses    ?q=MATH&amp;open=true&amp;limit=100     sections whose course ID starts with q or name contains it
+ *                      &amp;subject=ITSC&amp;day=M&amp;after=9:00%20AM&amp;before=12:00%20PM&amp;credits=3&amp;instructor=...
+ * GET  /api/schedule                                     the sections the student is enrolled in
+ * POST /api/enroll     {"crn": ...}                      enrolls the student in a section
+ * POST /api/drop       {"crn": ...}                      drops the student from a section or its waitlist
+ * </pre>
+ * The schedule, enroll, and drop endpoints need either the token from login in a Bearer
+ * {@code Authorization} header, or the student's email and password in a Basic one. A token skips
+ * checking the password again and lasts until logout or until it goes unused for 30 minutes.
+ * Only registered accounts are accepted; the console override logins are not.
+ * Errors are returned as {@code {"error": "..."}} with a 4xx status. An enroll or drop that is rejected,
+ * such as for a full section, returns 409 with the same status and message fields as a success.
+ *
+ * Each request runs on its own thread from {@link VirtualThreads}, which uses virtual threads on Java 21 and later.
+ *
+ * @version Oct 17, 2026
+ */
+public class ApiServer {
+    private static final int defaultSearchLimit = 100;
+    private static final int maxSearchLimit = 1000;
+    private static final int maxBodyBytes = 1 << 16;
+    private static final long sessionMinutes = 30;
+    private static final long sweepMinutes = 1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final EnrollmentSystem enrollmentSystem;
+    private final AccountManager accountManager;
+    private final SessionManager sessions = new SessionManager(sessionMinutes, TimeUnit.MINUTES);
+
+    /**
+     * A request handler that returns the response status and body.
+     */
+    private interface Endpoint {
+        /**
+         * Handles a request.
+         *
+         * @param exchange the request
+         * @return the response
+         * @throws IOException if the request cannot be read
+         */
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * The status code and JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        /**
+         * Constructs a Response.
+         *
+         * @param status the HTTP status code
+         * @param body the JSON body
+         */
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Constructs an ApiServer bound to an address. Call {@link #start()} to begin serving.
+     *
+     * @param address the address and port to listen on; port 0 picks a free port
+     * @param enrollmentSystem the enrollment system to serve
+     * @param accountManager the account manager used to log users in
+     * @throws IOException if the address cannot be bound
+     */
+    public ApiServer(InetSocketAddress address, EnrollmentSystem enrollmentSystem, AccountManager accountManager)
+            throws IOException {
+        this.enrollmentSystem = enrollmentSystem;
+        this.accountManager = accountManager;
+        this.server = HttpServer.create(address, 0);
+        this.executor = VirtualThreads.newPerTaskExecutor("api");
+        server.setExecutor(executor);
+        route("/api/login", "POST", this::login);
+        route("/api/logout", "POST", this::logout);
+        route("/api/courses", "GET", this::courses);
+        route("/api/schedule", "GET", this::schedule);
+        route("/api/enroll", "POST", exchange -> changeEnrollment(exchange, true));
+        route("/api/drop", "POST", exchange -> changeEnrollment(exchange, false));
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        sessions.startSweeper(sweepMinutes, TimeUnit.MINUTES);
+        server.start();
+    }
+
+    /**
+     * Stops serving requests, waiting up to a second for requests in progress to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+        sessions.close();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Registers an endpoint for a path and method.
+     * Requests with another method get 405, invalid JSON gets 400, and any other failure gets 500.
+     *
+     * @param path the path
+     * @param method the HTTP method
+     * @param endpoint the handler
+     */
+    private void route(String path, String method, Endpoint endpoint) {
+        server.createContext(path, exchange -> {
+            Response response;
+            try {
+                if (!exchange.getRequestURI().getPath().equals(path)) {
+                    response = error(404, "Not found");
+                } else if (!exchange.getRequestMethod().equals(method)) {
+                    exchange.getResponseHeaders().set("Allow", method);
+                    response = error(405, "Use " + method);
+                } else {
+                    response = endpoint.handle(exchange);
+                }
+            } catch (IllegalArgumentException e) {
+                response = error(400, e.getMessage());
+            } catch (RuntimeException e) {
+                response = error(500, "Internal error");
+            }
+            send(exchange, response);
+        });
+    }
+
+    /**
+     * Handles POST /api/login.
+     *
+     * @param exchange the request
+     * @return the user's account and a session token, or 401 if the email or password is wrong
+     * @throws IOException if the request cannot be read
+     */
+    private Response login(HttpExchange exchange) throws IOException {
+        Map<String, String> body = readBody(exchange);
+        User user = authenticate(body.get("email"), body.get("password"));
+        if (user == null) {
+            return error(401, "Invalid email or password");
+        }
+        Json json = new Json().beginObject()
+                .name("id").value(user.getId())
+                .name("name").value(user.getName())
+                .name("email").value(user.getEmail())
+                .name("role").value(roleOf(user))
+                .name("needsPasswordReset").value(user.needsPasswordReset())
+                .name("token").value(sessions.createSession(user))
+                .endObject();
+        return new Response(200, json.toString());
+    }
+
+    /**
+     * Handles POST /api/logout.
+     *
+     * @param exchange the request
+     * @return 200, or 401 if the request has no valid session token
+     */
+    private Response logout(HttpExchange exchange) {
+        if (!sessions.invalidate(bearerToken(exchange))) {
+            return error(401, "Not logged in");
+        }
+        return new Response(200, new Json().beginObject().name("loggedOut").value(true).endObject().toString());
+    }
+
+    /**
+     * Handles GET /api/courses.
+     *
+     * @param exchange the request
+     * @return the matching sections ordered by course ID then CRN
+     */
+    private Response courses(HttpExchange exchange) {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        int limit = defaultSearchLimit;
+        if (query.containsKey("limit")) {
+            limit = Math.max(1, Math.min(maxSearchLimit, parseNumber(query, "limit")));
+        }
+        SectionQuery search = new SectionQuery()
+                .text(query.get("q"))
+                .courseIdPrefix(query.get("subject"))
+                .instructor(query.get("instructor"))
+                .openOnly(Boolean.parseBoolean(query.get("open")))
+                .limit(limit);
+        if (query.containsKey("day")) {
+            DayOfWeek day = SectionQuery.parseDay(query.get("day"));
+            if (day == null) {
+                throw new IllegalArgumentException("day must be M, T, W, Th, F, or a day name");
+            }
+            search.day(day);
+        }
+        search.startingAfter(parseTime(query, "after"));
+        search.endingBefore(parseTime(query, "before"));
+        if (query.containsKey("credits")) {
+            search.credits(parseNumber(query, "credits"));
+        }
+        return new Response(200, sectionList(enrollmentSystem.findSections(search)));
+    }
+
+    /**
+     * Reads a whole number from a query parameter.
+     *
+     * @param query the query parameters
+     * @param name the name of the parameter, which must be present
+     * @return the number
+     * @throws IllegalArgumentException if the parameter is not a number
+     */
+    private static int parseNumber(Map<String, String> query, String name) {
+        try {
+            return Integer.parseInt(query.get(name).strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+    }
+
+    /**
+     * Reads a time such as 9:30 AM or 09:30 from a query parameter.
+     *
+     * @param query the query parameters
+     * @param name the name of the parameter
+     * @return the time, or null if the parameter is missing
+     * @throws IllegalArgumentException if the parameter is not a time
+     */
+    private static LocalTime parseTime(Map<String, String> query, String name) {
+        if (!query.containsKey(name)) {
+            return null;
+        }
+        LocalTime time = SectionQuery.parseTime(query.get(name));
+        if (time == null) {
+            throw new IllegalArgumentException(name + " must be a time such as 9:30 AM or 09:30");
+        }
+        return time;
+    }
+
+    /**
+     * Handles GET /api/schedule.
+     *
+     * @param exchange the request
+     * @return the student's sections, or an error if the request is not from a student
+     */
+    private Response schedule(HttpExchange exchange) {
+        User user = authenticate(exchange);
+        if (!(user instanceof Student student)) {
+            return user == null ? error(401, "Log in with a student account") : error(403, "Only students have schedules");
+        }
+        List<CourseSection> sections;
+        synchronized (student) {
+            sections = new ArrayList<>(student.getEnrolledCourses());
+        }
+        return new Response(200, sectionList(sections));
+    }
+
+    /**
+     * Handles POST /api/enroll and POST /api/drop.
+     *
+     * @param exchange the request
+     * @param enroll true to enroll, false to drop
+     * @return the enrollment status, or an error
+     * @throws IOException if the request cannot be read
+     */
+    private Response changeEnrollment(HttpExchange exchange, boolean enroll) throws IOException {
+        User user = authenticate(exchange);
+        if (!(user instanceof Student student)) {
+            return user == null ? error(401, "Log in with a student account") : error(403, "Only students can enroll");
+        }
+        String crn = readBody(exchange).get("crn");
+        if (crn == null) {
+            throw new IllegalArgumentException("crn is required");
+        }
+        CourseSection section = enrollmentSystem.findCourseByCRN(crn);
+        if (section == null) {
+            return error(404, "No section with CRN " + crn);
+        }
+        EnrollmentStatus status = enroll
+                ? enrollmentSystem.getEnrollmentEngine().enroll(student, section)
+                : enrollmentSystem.getEnrollmentEngine().drop(student, section);
+        Json json = new Json().beginObject()
+                .name("crn").value(crn)
+                .name("status").value(status.name())
+                .name("message").value(status.getMessage())
+                .endObject();
+        return new Response(status.isSuccess() ? 200 : 409, json.toString());
+    }
+
+    /**
+     * Authenticates a request from its Bearer or Basic Authorization header.
+     *
+     * @param exchange the request
+     * @return the user, or null if the header is missing, the session has ended, or the credentials are wrong
+     */
+    private User authenticate(HttpExchange exchange) {
+        String token = bearerToken(exchange);
+        if (token != null) {
+            User user = sessions.getUser(token);
+            // A removed user's sessions end with the account
+            if (user != null && accountManager.getUserByEmail(user.getEmail()) != user) {
+                sessions.invalidateUser(user);
+                return null;
+            }
+            return user;
+        }
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.regionMatches(true, 0, "Basic ", 0, 6)) {
+            return null;
+        }
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(header.substring(6).strip()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int colon = credentials.indexOf(':');
+        return colon < 0 ? null : authenticate(credentials.substring(0, colon), credentials.substring(colon + 1));
+    }
+
+    /**
+     * Returns the session token from a Bearer Authorization header.
+     *
+     * @param exchange the request
+     * @return the token, or null if the request has no Bearer header
+     */
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return null;
+        }
+        return header.substring(7).strip();
+    }
+
+    /**
+     * Authenticates a registered user.
+     *
+     * @param email the email
+     * @param password the password
+     * @return the user, or null if the credentials are wrong or belong to a console override login
+     */
+    private User authenticate(String email, String password) {
+        if (email == null || password == null) {
+            return null;
+        }
+        User user = accountManager.authenticate(email, password);
+        return user != null && accountManager.getUserByEmail(email) == user ? user : null;
+    }
+
+    /**
+     * Writes a list of sections as JSON.
+     *
+     * @param sections the sections
+     * @return {@code {"sections": [...]}}
+     */
+    private static String sectionList(List<CourseSection> sections) {
+        Json json = new Json().beginObject().name("sections").beginArray();
+        for (CourseSection section : sections) {
+            Instructor instructor = section.getInstructor();
+            json.beginObject()
+                    .name("crn").value(section.getCRN())
+                    .name("courseId").value(section.getCourse().getId())
+                    .name("sectionId").value(section.getSectionId())
+                    .name("name").value(section.getCourse().getName())
+                    .name("credits").value(section.getCourse().getCredits())
+                    .name("meetingTimes").value(section.getTimeSlotsFormatted())
+                    .name("enrolled").value(section.getEnrolledCount())
+                    .name("capacity").value(section.getMaxCapacity())
+                    .name("instructor").value(instructor == null ? null : instructor.getName())
+                    .endObject();
+        }
+        return json.endArray().endObject().toString();
+    }
+
+    /**
+     * Returns the role name of a user.
+     *
+     * @param user the user
+     * @return "student", "instructor", or "admin"
+     */
+    private static String roleOf(User user) {
+        if (user instanceof Student) {
+            return "student";
+        }
+        return user instanceof Admin ? "admin" : "instructor";
+    }
+
+    /**
+     * Reads a request body as a flat JSON object.
+     *
+     * @param exchange the request
+     * @return the fields of the body
+     * @throws IOException if the body cannot be read
+     * @throws IllegalArgumentException if the body is too large or not a JSON object
+     */
+    private static Map<String, String> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(maxBodyBytes + 1);
+            if (body.length > maxBodyBytes) {
+                throw new IllegalArgumentException("Request body is too large");
+            }
+            return Json.parseObject(new String(body, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Parses a URL query string.
+     *
+     * @param query the raw query, or null
+     * @return the decoded parameters
+     */
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Creates an error response.
+     *
+     * @param status the HTTP status code
+     * @param message the error message
+     * @return {@code {"error": message}} with the status
+     */
+    private static Response error(int status, String message) {
+        return new Response(status, new Json().beginObject().name("error").value(message).endObject().toString());
+    }
+
+    /**
+     * Sends a response and closes the exchange.
+     *
+     * @param exchange the request
+     * @param response the response
+     * @throws IOException if the response cannot be written
+     */
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package api;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes JSON responses and reads the flat JSON objects sent as request bodies, without external libraries.
+ *
+ * How to use:
+ * <pre>
+ * String body = new Json().beginObject().name("crn").value("10001").endObject().toString();
+ * Map&lt;String, String&gt; fields = Json.parseObject("{\"crn\": \"10001\"}");
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class Json {
+    private final StringBuilder out = new StringBuilder();
+
+    /**
+     * Whether the innermost open object or array has no values yet, so the next one needs no comma.
+     */
+    private final Deque<Boolean> empty = new ArrayDeque<>();
+    private boolean afterName;
+
+    /**
+     * Starts an object.
+     *
+     * @return this writer
+     */
+    public Json beginObject() {
+        beforeValue();
+        out.append('{');
+        empty.push(true);
+        return this;
+    }
+
+    /**
+     * Ends the current object.
+     *
+     * @return this writer
+     */
+    public Json endObject() {
+        empty.pop();
+        out.append('}');
+        return this;
+    }
+
+    /**
+     * Starts an array.
+     *
+     * @return this writer
+     */
+    public Json beginArray() {
+        beforeValue();
+        out.append('[');
+        empty.push(true);
+        return this;
+    }
+
+    /**
+     * Ends the current array.
+     *
+     * @return this writer
+     */
+    public Json endArray() {
+        empty.pop();
+        out.append(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next field of the current object.
+     *
+     * @param name the field name
+     * @return this writer
+     */
+    public Json name(String name) {
+        beforeValue();
+        appendString(name);
+        out.append(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value, or null.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public Json value(String value) {
+        beforeValue();
+        if (value == null) {
+            out.append("null");
+        } else {
+            appendString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a number value.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public Json value(long value) {
+        beforeValue();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public Json value(boolean value) {
+        beforeValue();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Returns the JSON written so far.
+     *
+     * @return the JSON text
+     */
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    /**
+     * Writes a comma if the value is not the first in its object or array.
+     */
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (!empty.isEmpty()) {
+            if (!empty.peek()) {
+                out.append(',');
+            }
+            empty.pop();
+            empty.push(false);
+        }
+    }
+
+    /**
+     * Writes a quoted string, escaping quotes, backslashes, and control characters.
+     *
+     * @param value the string
+     */
+    private void appendString(String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Parses a JSON object whose values are strings, numbers, booleans, or null.
+     * Numbers and booleans are returned as their text; null values are left out.
+     *
+     * @param text the JSON text
+     * @return the fields of the object
+     * @throws IllegalArgumentException if the text is not such an object
+     */
+    public static Map<String, String> parseObject(String text) {
+        Map<String, String> fields = new HashMap<>();
+        int[] position = {skipWhitespace(text, 0)};
+        expect(text, position, '{');
+        if (peek(text, position) == '}') {
+            position[0]++;
+        } else {
+            while (true) {
+                String name = readString(text, position);
+                expect(text, position, ':');
+                String value = readValue(text, position);
+                if (value != null) {
+                    fields.put(name, value);
+                }
+                if (peek(text, position) == ',') {
+                    position[0]++;
+                    continue;
+                }
+                expect(text, position, '}');
+                break;
+            }
+        }
+        if (skipWhitespace(text, position[0]) != text.length()) {
+            throw new IllegalArgumentException("Unexpected text after JSON object");
+        }
+        return fields;
+    }
+
+    /**
+     * Reads a string, number, boolean, or null value.
+     *
+     * @param text the JSON text
+     * @param position the current position, advanced past the value
+     * @return the value as text, or null for a JSON null
+     */
+    private static String readValue(String text, int[] position) {
+        char c = peek(text, position);
+        if (c == '"') {
+            return readString(text, position);
+        }
+        int start = position[0];
+        int end = start;
+        while (end < text.length() && "+-.0123456789eEtrufalsn".indexOf(text.charAt(end)) >= 0) {
+            end++;
+        }
+        String literal = text.substring(start, end);
+        position[0] = end;
+        if (literal.equals("null")) {
+            return null;
+        }
+        if (literal.equals("true") || literal.equals("false")) {
+            return literal;
+        }
+        try {
+            Double.parseDouble(literal);
+            return literal;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a string, number, boolean, or null at position " + start);
+        }
+    }
+
+    /**
+     * Reads a quoted string, decoding escapes.
+     *
+     * @param text the JSON text
+     * @param position the current position, advanced past the closing quote
+     * @return the string
+     */
+    private static String readString(String text, int[] position) {
+        expect(text, position, '"');
+        StringBuilder value = new StringBuilder();
+        int i = position[0];
+        while (i < text.length()) {
+            char c = text.charAt(i++);
+            if (c == '"') {
+                position[0] = i;
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (i >= text.length()) {
+                break;
+            }
+            char escaped = text.charAt(i++);
+            switch (escaped) {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'u':
+                    if (i + 4 > text.length()) {
+                        throw new IllegalArgumentException("Invalid unicode escape");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(text.substring(i, i + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid unicode escape");
+                    }
+                    i += 4;
+                    break;
+                default:
+                    value.append(escaped);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated string");
+    }
+
+    /**
+     * Skips whitespace and checks the next character.
+     *
+     * @param text the JSON text
+     * @param position the current position, advanced past the character
+     * @param expected the expected character
+     */
+    private static void expect(String text, int[] position, char expected) {
+        if (peek(text, position) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at position " + position[0]);
+        }
+        position[0]++;
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it.
+     *
+     * @param text the JSON text
+     * @param position the current position, advanced past any whitespace
+     * @return the next character, or 0 at the end of the text
+     */
+    private static char peek(String text, int[] position) {
+        position[0] = skipWhitespace(text, position[0]);
+        return position[0] < text.length() ? text.charAt(position[0]) : 0;
+    }
+
+    /**
+     * Returns the position of the first character at or after a position that is not whitespace.
+     *
+     * @param text the JSON text
+     * @param position the position to start from
+     * @return the position of the next non-whitespace character, or the length of the text
+     */
+    private static int skipWhitespace(String text, int position) {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,203 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import util.ColumnExtractor;
+import util.TablePrinter;
+
+/**
+ * A small harness for measuring the throughput and allocation rate of an operation.
+ * Each benchmark is warmed up for a fixed time so the JIT compiles the hot path, then
+ * measured for a fixed time in batches. Allocation is read from the current thread's
+ * allocated byte counter, so benchmarks must run on a single thread.
+ *
+ * How to use:
+ * <pre>
+ * Benchmark benchmark = new Benchmark(1000, 2000);
+ * benchmark.run("findCourseByCRN", "10000", i -> system.findCourseByCRN(crns[Math.floorMod(i, crns.length)]));
+ * benchmark.printResults();
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class Benchmark {
+    /**
+     * An operation to benchmark. The argument is the index of the invocation, which can be used
+     * to cycle through inputs; the result is consumed so the JIT cannot remove the work.
+     * The index wraps around to negative values on long runs, so cycle with a mask or {@link Math#floorMod(int, int)}.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * Runs the operation once.
+         *
+         * @param i the index of the invocation
+         * @return any value produced by the operation
+         */
+        Object run(int i);
+    }
+
+    /**
+     * The result of one benchmark.
+     *
+     * @param name the name of the benchmark
+     * @param parameter the parameter the benchmark ran with, such as the catalog size
+     * @param operations the number of operations measured
+     * @param nanos the time taken by the measured operations in nanoseconds
+     * @param bytes the bytes allocated by the measured operations, or -1 if unsupported
+     */
+    public record Result(String name, String parameter, long operations, long nanos, long bytes) {
+        /**
+         * Returns the number of operations per second.
+         *
+         * @return the throughput
+         */
+        public double opsPerSecond() {
+            return operations * 1_000_000_000.0 / nanos;
+        }
+
+        /**
+         * Returns the average time per operation in nanoseconds.
+         *
+         * @return the average latency
+         */
+        public double nanosPerOp() {
+            return (double) nanos / operations;
+        }
+
+        /**
+         * Returns the average bytes allocated per operation.
+         *
+         * @return the allocation rate, or -1 if unsupported
+         */
+        public double bytesPerOp() {
+            return bytes < 0 ? -1 : (double) bytes / operations;
+        }
+    }
+
+    private static final int batchSize = 1000;
+    private final long warmupMillis;
+    private final long measureMillis;
+    private final List<Result> results;
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    /**
+     * A value all operation results are folded into so the JIT cannot remove them.
+     */
+    private int sink;
+
+    /**
+     * Constructs a Benchmark with the specified warmup and measurement times.
+     *
+     * @param warmupMillis the time to run each operation before measuring
+     * @param measureMillis the time to measure each operation
+     */
+    public Benchmark(long warmupMillis, long measureMillis) {
+        this.warmupMillis = warmupMillis;
+        this.measureMillis = measureMillis;
+        this.results = new ArrayList<>();
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            this.threadBean = bean;
+        } else {
+            this.threadBean = null;
+        }
+    }
+
+    /**
+     * Warms up and measures an operation, recording the result.
+     *
+     * @param name the name of the benchmark
+     * @param parameter the parameter the benchmark runs with
+     * @param operation the operation to measure
+     * @return the result of the benchmark
+     */
+    public Result run(String name, String parameter, Operation operation) {
+        int index = 0;
+        long warmupEnd = System.nanoTime() + warmupMillis * 1_000_000;
+        while (System.nanoTime() < warmupEnd) {
+            for (int i = 0; i < batchSize; i++) {
+                consume(operation.run(index++));
+            }
+        }
+
+        long operations = 0;
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long measureEnd = start + measureMillis * 1_000_000;
+        long now = start;
+        while (now < measureEnd) {
+            for (int i = 0; i < batchSize; i++) {
+                consume(operation.run(index++));
+            }
+            operations += batchSize;
+            now = System.nanoTime();
+        }
+        long bytesAfter = allocatedBytes();
+
+        long bytes = bytesBefore < 0 ? -1 : bytesAfter - bytesBefore;
+        Result result = new Result(name, parameter, operations, now - start, bytes);
+        results.add(result);
+        return result;
+    }
+
+    /**
+     * Returns the number of non-null results consumed, which keeps the sink observable.
+     *
+     * @return the sink value
+     */
+    public int getSink() {
+        return sink;
+    }
+
+    /**
+     * Returns the results recorded so far.
+     *
+     * @return the list of results
+     */
+    public List<Result> getResults() {
+        return results;
+    }
+
+    /**
+     * Prints the results recorded so far in a formatted table.
+     */
+    public void printResults() {
+        List<String> headers = List.of("Benchmark", "Param", "ops/s", "ns/op", "B/op");
+
+        List<ColumnExtractor<Result>> extractors = List.of(
+            Result::name,
+            Result::parameter,
+            result -> String.format("%,.0f", result.opsPerSecond()),
+            result -> String.format("%,.1f", result.nanosPerOp()),
+            result -> result.bytes() < 0 ? "n/a" : String.format("%,.1f", result.bytesPerOp())
+        );
+
+        TablePrinter<Result> printer = new TablePrinter<>(headers, extractors, results);
+        printer.printTable();
+    }
+
+    /**
+     * Folds an operation result into the sink.
+     *
+     * @param value the value to consume
+     */
+    private void consume(Object value) {
+        sink += value == null ? 0 : 1;
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread.
+     *
+     * @return the allocated bytes, or -1 if unsupported
+     */
+    private long allocatedBytes() {
+        if (threadBean == null) {
+            return -1;
+        }
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,134 @@
+package bench;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import model.Course;
+import model.CourseSection;
+import model.Student;
+import model.TimeSlot;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import util.PasswordHasher;
+
+/**
+ * Builds realistic catalogs and student bodies for benchmarks and load tests.
+ * Courses are created through {@link EnrollmentSystem#addCourse(Course)} and sections through
+ * {@link Course#createSection(List, int)}, so every index the system maintains is populated
+ * the same way as when an admin creates them.
+ *
+ * @version Oct 17, 2026
+ */
+public class CatalogFixture {
+    /**
+     * The password of every student created by {@link #createStudents(AccountManager, int)}.
+     */
+    public static final String studentPassword = "Password1";
+
+    private static final String[] subjects = {
+        "ACCT", "BIOL", "CHEM", "CSCI", "ECON", "ENGL", "HIST", "MATH", "PHYS", "PSYC"
+    };
+    private static final String[] firstNames = {
+        "Alex", "Blake", "Casey", "Drew", "Emery", "Finley", "Gray", "Harper", "Indy", "Jordan",
+        "Kai", "Logan", "Morgan", "Noel", "Oakley", "Parker", "Quinn", "Riley", "Sage", "Taylor"
+    };
+    private static final String[] lastNames = {
+        "Adams", "Baker", "Clark", "Davis", "Evans", "Fisher", "Garcia", "Hughes", "Irwin", "Jones",
+        "King", "Lewis", "Moore", "Nguyen", "Owens", "Patel", "Reed", "Smith", "Turner", "Walker"
+    };
+    private static final DayOfWeek[][] meetingPatterns = {
+        { DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY },
+        { DayOfWeek.TUESDAY, DayOfWeek.THURSDAY },
+        { DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY },
+        { DayOfWeek.WEDNESDAY }
+    };
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private CatalogFixture() {
+    }
+
+    /**
+     * Builds an enrollment system with the specified number of sections.
+     *
+     * @param sectionCount the total number of sections to create
+     * @param sectionsPerCourse the number of sections each course gets
+     * @param capacity the maximum capacity of each section
+     * @param random the random source for meeting times
+     * @return the enrollment system containing the catalog
+     */
+    public static EnrollmentSystem buildCatalog(int sectionCount, int sectionsPerCourse, int capacity, Random random) {
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        int courseCount = (sectionCount + sectionsPerCourse - 1) / sectionsPerCourse;
+        int created = 0;
+        for (int c = 0; c < courseCount; c++) {
+            String id = subjects[c % subjects.length] + " " + (1000 + c / subjects.length);
+            Course course = new Course(id, "Course " + id, "Generated course " + id, 1 + random.nextInt(4));
+            enrollmentSystem.addCourse(course);
+            for (int s = 0; s < sectionsPerCourse && created < sectionCount; s++, created++) {
+                course.createSection(randomTimeSlots(random), capacity);
+            }
+        }
+        return enrollmentSystem;
+    }
+
+    /**
+     * Creates students through the account manager's email generation, all with {@link #studentPassword}.
+     * The password is hashed once with the account manager's work factor and the hash shared, with the
+     * students added as restored users so the hash is kept, so building a large student body does not
+     * take a full hash per student.
+     *
+     * @param accountManager the account manager to add the students to
+     * @param count the number of students to create
+     * @return the created students in order
+     */
+    public static List<Student> createStudents(AccountManager accountManager, int count) {
+        List<Student> students = new ArrayList<>(count);
+        String password = PasswordHasher.hash(studentPassword, accountManager.getHashIterations());
+        for (int i = 0; i < count; i++) {
+            String name = firstNames[i % firstNames.length] + " " + lastNames[(i / firstNames.length) % lastNames.length];
+            String email = accountManager.generateEmail(name, "university.edu");
+            Student student = new Student(name, email, password, false);
+            accountManager.addRestoredUser(student);
+            students.add(student);
+        }
+        return students;
+    }
+
+    /**
+     * Returns every section in the catalog.
+     *
+     * @param enrollmentSystem the enrollment system containing the catalog
+     * @return the list of sections
+     */
+    public static List<CourseSection> allSections(EnrollmentSystem enrollmentSystem) {
+        List<CourseSection> sections = new ArrayList<>();
+        for (Course course : enrollmentSystem.getCourses()) {
+            sections.addAll(course.getSections());
+        }
+        return sections;
+    }
+
+    /**
+     * Returns the time slots of a section meeting on a random pattern of days.
+     *
+     * @param random the random source
+     * @return the list of time slots
+     */
+    public static List<TimeSlot> randomTimeSlots(Random random) {
+        DayOfWeek[] days = meetingPatterns[random.nextInt(meetingPatterns.length)];
+        int startMinutes = 8 * 60 + 30 * random.nextInt(24);
+        int length = days.length == 3 ? 50 : 75;
+        LocalTime start = LocalTime.of(startMinutes / 60, startMinutes % 60);
+        LocalTime end = start.plusMinutes(length);
+        List<TimeSlot> timeSlots = new ArrayList<>(days.length);
+        for (DayOfWeek day : days) {
+            timeSlots.add(new TimeSlot(start, end, day));
+        }
+        return timeSlots;
+    }
+}
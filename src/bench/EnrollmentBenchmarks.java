@@ -0,0 +1,137 @@
+package bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import model.CourseSection;
+import model.Student;
+import model.TimeSlot;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import system.SectionQuery;
+import util.TablePrinter;
+
+/**
+ * Benchmarks the enrollment hot paths at several catalog sizes.
+ * Covers {@link Student#enroll(CourseSection)}, {@link CourseSection#enrollStudent(Student)} and
+ * {@link CourseSection#dropStudent(Student)}, {@link EnrollmentSystem#findCourseByCRN(String)},
+ * {@link AccountManager#authenticate(String, String)}, {@link TimeSlot#conflictsWith(TimeSlot)} and
+ * building the table of every section whole and a page at a time with {@link EnrollmentSystem#getSectionTable()},
+ * and searching sections by subject and by meeting time with {@link EnrollmentSystem#findSections(SectionQuery)}.
+ *
+ * How to run:
+ * <pre>
+ * javac -d out $(find src -name "*.java")
+ * java -cp out bench.EnrollmentBenchmarks              # 1000, 10000 and 100000 sections
+ * java -cp out bench.EnrollmentBenchmarks 1000 5000    # custom catalog sizes
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class EnrollmentBenchmarks {
+    private static final int studentCount = 10_000;
+    private static final int sectionsPerCourse = 5;
+    private static final long warmupMillis = 1000;
+    private static final long measureMillis = 2000;
+
+    public static void main(String[] args) {
+        List<Integer> sizes = new ArrayList<>();
+        for (String arg : args) {
+            sizes.add(Integer.parseInt(arg));
+        }
+        if (sizes.isEmpty()) {
+            sizes.addAll(List.of(1_000, 10_000, 100_000));
+        }
+
+        PrintStream console = System.out;
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+
+        for (int size : sizes) {
+            console.println("Building catalog with " + size + " sections...");
+            Random random = new Random(size);
+            EnrollmentSystem enrollmentSystem = CatalogFixture.buildCatalog(size, sectionsPerCourse, 1_000_000, random);
+            AccountManager accountManager = new AccountManager();
+            List<Student> students = CatalogFixture.createStudents(accountManager, studentCount);
+            List<CourseSection> sectionList = CatalogFixture.allSections(enrollmentSystem);
+            CourseSection[] sections = sectionList.toArray(new CourseSection[0]);
+            Student[] studentArray = students.toArray(new Student[0]);
+            String param = String.valueOf(size);
+
+            String[] crns = new String[4096];
+            for (int i = 0; i < crns.length; i++) {
+                crns[i] = sections[random.nextInt(sections.length)].getCRN();
+            }
+            String[] emails = new String[4096];
+            for (int i = 0; i < emails.length; i++) {
+                emails[i] = studentArray[random.nextInt(studentArray.length)].getEmail();
+            }
+            TimeSlot[] slots = new TimeSlot[4096];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = sections[random.nextInt(sections.length)].getTimeSlots().get(0);
+            }
+
+            // Give every student a realistic schedule so conflict checks have work to do
+            System.setOut(silent);
+            for (Student student : studentArray) {
+                for (int i = 0; i < 4; i++) {
+                    student.enroll(sections[random.nextInt(sections.length)]);
+                }
+            }
+            System.setOut(console);
+
+            console.println("Running benchmarks for " + size + " sections...");
+            benchmark.run("findCourseByCRN", param, i -> enrollmentSystem.findCourseByCRN(crns[i & 4095]));
+            // Repeat logins, answered from the verified-credential cache; see LoginBenchmark for the full hash cost
+            benchmark.run("authenticate", param,
+                    i -> accountManager.authenticate(emails[i & 4095], CatalogFixture.studentPassword));
+            benchmark.run("TimeSlot.conflictsWith", param,
+                    i -> slots[i & 4095].conflictsWith(slots[(i * 7 + 1) & 4095]) ? Boolean.TRUE : null);
+
+            System.setOut(silent);
+            benchmark.run("enrollStudent+dropStudent", param, i -> {
+                CourseSection section = sections[Math.floorMod(i * 31, sections.length)];
+                Student student = studentArray[Math.floorMod(i, studentArray.length)];
+                return section.enrollStudent(student) && section.dropStudent(student) ? Boolean.TRUE : null;
+            });
+            benchmark.run("Student.enroll+drop", param, i -> {
+                CourseSection section = sections[Math.floorMod(i * 31, sections.length)];
+                Student student = studentArray[Math.floorMod(i, studentArray.length)];
+                return student.enroll(section) && section.removeStudent(student) ? Boolean.TRUE : null;
+            });
+            System.setOut(console);
+            benchmark.run("section table", param, i -> enrollmentSystem.getSectionTable().render());
+            benchmark.run("section table page", param,
+                    i -> enrollmentSystem.getSectionTable().renderPage(1 + Math.floorMod(i, 40), TablePrinter.defaultPageSize));
+
+            SectionQuery[] bySubject = new SectionQuery[4096];
+            SectionQuery[] byTime = new SectionQuery[4096];
+            for (int i = 0; i < bySubject.length; i++) {
+                CourseSection section = sections[random.nextInt(sections.length)];
+                TimeSlot slot = section.getTimeSlots().get(0);
+                bySubject[i] = new SectionQuery().courseIdPrefix(section.getCourse().getId().substring(0, 7))
+                        .openOnly(true).limit(100);
+                byTime[i] = new SectionQuery().day(slot.getDay()).startingAfter(slot.getStartTime())
+                        .endingBefore(slot.getStartTime().plusMinutes(60)).openOnly(true).limit(100);
+            }
+            benchmark.run("findSections subject", param, i -> enrollmentSystem.findSections(bySubject[i & 4095]));
+            benchmark.run("findSections day+time", param, i -> enrollmentSystem.findSections(byTime[i & 4095]));
+            // The same search checking every section, as it was done before the indexes
+            benchmark.run("scan day+time", param, i -> {
+                SectionQuery query = byTime[i & 4095];
+                List<CourseSection> matches = new ArrayList<>();
+                for (CourseSection section : sections) {
+                    if (query.matches(section)) {
+                        matches.add(section);
+                    }
+                }
+                return matches;
+            });
+        }
+
+        benchmark.printResults();
+    }
+}
@@ -0,0 +1,311 @@
+package bench;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import model.CourseSection;
+import model.EnrollmentStatus;
+import model.RosterStore;
+import model.Student;
+import system.AccountManager;
+import system.EnrollmentEngine;
+import system.EnrollmentSystem;
+import util.ColumnExtractor;
+import util.TablePrinter;
+
+/**
+ * Replays a synthetic registration-week surge against the enrollment core without the console.
+ * The catalog is built through {@link EnrollmentSystem} and {@link model.Course#createSection},
+ * students are created through {@link AccountManager}, and worker threads then send a mix of
+ * enroll, drop, and waitlist requests through the {@link EnrollmentEngine}. Most requests target
+ * a small set of popular sections, as they do when registration opens.
+ *
+ * When it finishes it reports throughput, p50/p99/max latency per request type, and how many
+ * requests ended with each {@link EnrollmentStatus}.
+ *
+ * How to run:
+ * <pre>
+ * java -cp out bench.LoadGenerator --students 50000 --sections 20000 --threads 16 --requests 2000000
+ * </pre>
+ *
+ * Options (defaults in parentheses):
+ * <pre>
+ * --students N    students to create (20000)
+ * --sections N    sections to create (5000)
+ * --capacity N    seats per section (30)
+ * --threads N     worker threads (available processors)
+ * --requests N    total requests across all threads (500000)
+ * --enroll P      fraction of requests that enroll (0.7)
+ * --drop P        fraction of requests that drop (0.2); the rest join a waitlist
+ * --retries N     times a student retries an enroll rejected as full (2)
+ * --hot P         fraction of requests aimed at popular sections (0.8)
+ * --hotSections P fraction of sections that are popular (0.02)
+ * --seed N        random seed (42)
+ * --rosterFile F  keep rosters in a memory-mapped file instead of the heap (off)
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class LoadGenerator {
+    /**
+     * The kinds of request the generator sends.
+     */
+    private enum RequestType { ENROLL, RETRY, DROP, WAITLIST }
+
+    /**
+     * Latency statistics for one request type.
+     *
+     * @param type the request type
+     * @param count the number of requests
+     * @param p50 the median latency in microseconds
+     * @param p99 the 99th percentile latency in microseconds
+     * @param max the maximum latency in microseconds
+     */
+    private record LatencyRow(String type, long count, double p50, double p99, double max) {
+    }
+
+    /**
+     * Per-thread record of request latencies, kept separate to avoid contention while measuring.
+     */
+    private static class Recorder {
+        private final Map<RequestType, long[]> latencies = new EnumMap<>(RequestType.class);
+        private final Map<RequestType, Integer> counts = new EnumMap<>(RequestType.class);
+
+        /**
+         * Records the latency of one request.
+         *
+         * @param type the request type
+         * @param nanos the latency in nanoseconds
+         */
+        void record(RequestType type, long nanos) {
+            long[] values = latencies.computeIfAbsent(type, t -> new long[1024]);
+            int count = counts.getOrDefault(type, 0);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                latencies.put(type, values);
+            }
+            values[count] = nanos;
+            counts.put(type, count + 1);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        Map<String, String> options = parseOptions(args);
+        int studentCount = Integer.parseInt(options.getOrDefault("students", "20000"));
+        int sectionCount = Integer.parseInt(options.getOrDefault("sections", "5000"));
+        int capacity = Integer.parseInt(options.getOrDefault("capacity", "30"));
+        int threadCount = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int requestCount = Integer.parseInt(options.getOrDefault("requests", "500000"));
+        double enrollShare = Double.parseDouble(options.getOrDefault("enroll", "0.7"));
+        double dropShare = Double.parseDouble(options.getOrDefault("drop", "0.2"));
+        int retries = Integer.parseInt(options.getOrDefault("retries", "2"));
+        double hotShare = Double.parseDouble(options.getOrDefault("hot", "0.8"));
+        double hotSectionShare = Double.parseDouble(options.getOrDefault("hotSections", "0.02"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        if (options.containsKey("rosterFile")) {
+            RosterStore.install(RosterStore.open(Path.of(options.get("rosterFile"))));
+        }
+
+        System.out.println("Building catalog of " + sectionCount + " sections and " + studentCount + " students...");
+        Random setupRandom = new Random(seed);
+        EnrollmentSystem enrollmentSystem = CatalogFixture.buildCatalog(sectionCount, 5, capacity, setupRandom);
+        AccountManager accountManager = new AccountManager();
+        List<Student> students = CatalogFixture.createStudents(accountManager, studentCount);
+        List<CourseSection> sections = CatalogFixture.allSections(enrollmentSystem);
+        EnrollmentEngine engine = enrollmentSystem.getEnrollmentEngine();
+        int hotSections = Math.max(1, (int) (sections.size() * hotSectionShare));
+
+        AtomicLongArray statusCounts = new AtomicLongArray(EnrollmentStatus.values().length);
+        List<Recorder> recorders = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < threadCount; t++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            int requests = requestCount / threadCount + (t < requestCount % threadCount ? 1 : 0);
+            Random random = new Random(seed + t + 1);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int r = 0; r < requests; r++) {
+                    Student student = students.get(random.nextInt(students.size()));
+                    double roll = random.nextDouble();
+                    if (roll < enrollShare) {
+                        CourseSection section = random.nextDouble() < hotShare
+                                ? sections.get(random.nextInt(hotSections))
+                                : sections.get(random.nextInt(sections.size()));
+                        EnrollmentStatus status = timed(recorder, RequestType.ENROLL, () -> engine.enroll(student, section));
+                        statusCounts.incrementAndGet(status.ordinal());
+                        for (int i = 0; i < retries && status == EnrollmentStatus.SECTION_FULL; i++) {
+                            status = timed(recorder, RequestType.RETRY, () -> engine.enroll(student, section));
+                            statusCounts.incrementAndGet(status.ordinal());
+                        }
+                    } else if (roll < enrollShare + dropShare) {
+                        CourseSection section = pickEnrolledSection(student, random);
+                        if (section == null) {
+                            continue;
+                        }
+                        EnrollmentStatus status = timed(recorder, RequestType.DROP, () -> engine.drop(student, section));
+                        statusCounts.incrementAndGet(status.ordinal());
+                    } else {
+                        CourseSection section = sections.get(random.nextInt(hotSections));
+                        EnrollmentStatus status = timed(recorder, RequestType.WAITLIST,
+                                () -> engine.joinWaitlist(student, section));
+                        statusCounts.incrementAndGet(status.ordinal());
+                    }
+                }
+            }, "load-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+
+        System.out.println("Replaying " + requestCount + " requests on " + threadCount + " threads...");
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - began;
+
+        printReport(recorders, statusCounts, elapsed);
+        if (RosterStore.getInstalled() != null) {
+            System.out.printf("%nRoster store: %,d bytes in use%n", RosterStore.getInstalled().getUsedBytes());
+        }
+    }
+
+    /**
+     * Runs a request and records its latency.
+     *
+     * @param recorder the recorder for the current thread
+     * @param type the request type
+     * @param request the request to run
+     * @return the status returned by the request
+     */
+    private static EnrollmentStatus timed(Recorder recorder, RequestType type, Supplier<EnrollmentStatus> request) {
+        long start = System.nanoTime();
+        EnrollmentStatus status = request.get();
+        recorder.record(type, System.nanoTime() - start);
+        return status;
+    }
+
+    /**
+     * Picks one of a student's enrolled sections at random.
+     *
+     * @param student the student
+     * @param random the random source
+     * @return an enrolled section, or {@code null} if the student has none
+     */
+    private static CourseSection pickEnrolledSection(Student student, Random random) {
+        synchronized (student) {
+            List<CourseSection> enrolled = student.getEnrolledCourses();
+            return enrolled.isEmpty() ? null : enrolled.get(random.nextInt(enrolled.size()));
+        }
+    }
+
+    /**
+     * Prints the throughput, latency percentiles, and status counts.
+     *
+     * @param recorders the per-thread latency recorders
+     * @param statusCounts the number of requests ending with each status
+     * @param elapsed the wall-clock time of the run in nanoseconds
+     */
+    private static void printReport(List<Recorder> recorders, AtomicLongArray statusCounts, long elapsed) {
+        List<LatencyRow> rows = new ArrayList<>();
+        long total = 0;
+        for (RequestType type : RequestType.values()) {
+            int count = 0;
+            for (Recorder recorder : recorders) {
+                count += recorder.counts.getOrDefault(type, 0);
+            }
+            if (count == 0) {
+                continue;
+            }
+            long[] merged = new long[count];
+            int offset = 0;
+            for (Recorder recorder : recorders) {
+                int n = recorder.counts.getOrDefault(type, 0);
+                if (n > 0) {
+                    System.arraycopy(recorder.latencies.get(type), 0, merged, offset, n);
+                    offset += n;
+                }
+            }
+            Arrays.sort(merged);
+            total += count;
+            rows.add(new LatencyRow(type.name(), count, percentile(merged, 0.50) / 1000.0,
+                    percentile(merged, 0.99) / 1000.0, merged[count - 1] / 1000.0));
+        }
+
+        System.out.println();
+        System.out.printf("Requests: %,d in %.2f s (%,.0f requests/s)%n", total, elapsed / 1e9, total * 1e9 / elapsed);
+        System.out.println();
+
+        List<String> latencyHeaders = List.of("Request", "Count", "p50 (us)", "p99 (us)", "max (us)");
+        List<ColumnExtractor<LatencyRow>> latencyExtractors = List.of(
+            LatencyRow::type,
+            row -> String.format("%,d", row.count()),
+            row -> String.format("%.1f", row.p50()),
+            row -> String.format("%.1f", row.p99()),
+            row -> String.format("%.1f", row.max())
+        );
+        new TablePrinter<>(latencyHeaders, latencyExtractors, rows).printTable();
+
+        System.out.println();
+        List<EnrollmentStatus> statuses = new ArrayList<>();
+        for (EnrollmentStatus status : EnrollmentStatus.values()) {
+            if (statusCounts.get(status.ordinal()) > 0) {
+                statuses.add(status);
+            }
+        }
+        List<String> statusHeaders = List.of("Outcome", "Count", "Reason");
+        List<ColumnExtractor<EnrollmentStatus>> statusExtractors = List.of(
+            EnrollmentStatus::name,
+            status -> String.format("%,d", statusCounts.get(status.ordinal())),
+            EnrollmentStatus::getMessage
+        );
+        new TablePrinter<>(statusHeaders, statusExtractors, statuses).printTable();
+    }
+
+    /**
+     * Returns a percentile of sorted values.
+     *
+     * @param sorted the sorted values
+     * @param fraction the percentile as a fraction between 0 and 1
+     * @return the value at the percentile
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Parses "--name value" pairs from the command line.
+     *
+     * @param args the command line arguments
+     * @return the options keyed by name without the leading dashes
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value but found: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,204 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.Student;
+import system.AccountManager;
+import util.ColumnExtractor;
+import util.PasswordHasher;
+import util.TablePrinter;
+
+/**
+ * Measures how many logins per second {@link AccountManager#authenticate(String, String)} handles
+ * when registration opens and every student logs in, and logs in again, at once.
+ *
+ * It first measures logins that each check the PBKDF2 hash, with the verified-credential cache
+ * turned off, then replays a surge with the cache on: each student's first login and every
+ * mistyped password check the hash, and repeat logins are answered from the cache. The surge rate
+ * is compared against a target.
+ *
+ * How to run:
+ * <pre>
+ * java -cp out bench.LoginBenchmark --students 5000 --logins 500000 --threads 16 --target 5000
+ * </pre>
+ *
+ * Options (defaults in parentheses):
+ * <pre>
+ * --students N    students to create (500)
+ * --iterations N  PBKDF2 work factor ({@link PasswordHasher#defaultIterations})
+ * --cache N       verified logins to remember (50000)
+ * --threads N     threads logging in (available processors)
+ * --uncached N    logins to measure without the cache (100)
+ * --logins N      logins in the surge (50000)
+ * --wrong P       fraction of surge logins with a mistyped password (0.01)
+ * --target N      logins per second the surge must sustain (1000)
+ * --seed N        random seed (42)
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class LoginBenchmark {
+    /**
+     * Results of one phase.
+     *
+     * @param phase the phase
+     * @param logins the number of logins
+     * @param perSecond logins per second
+     * @param p50 the median latency in microseconds
+     * @param p99 the 99th percentile latency in microseconds
+     */
+    private record PhaseRow(String phase, long logins, double perSecond, double p50, double p99) {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parseOptions(args);
+        int studentCount = Integer.parseInt(options.getOrDefault("students", "500"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", String.valueOf(PasswordHasher.defaultIterations)));
+        int cacheSize = Integer.parseInt(options.getOrDefault("cache", "50000"));
+        int threadCount = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int uncachedLogins = Integer.parseInt(options.getOrDefault("uncached", "100"));
+        int surgeLogins = Integer.parseInt(options.getOrDefault("logins", "50000"));
+        double wrongShare = Double.parseDouble(options.getOrDefault("wrong", "0.01"));
+        long target = Long.parseLong(options.getOrDefault("target", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        System.out.println("Creating " + studentCount + " students with a work factor of " + iterations + "...");
+        AccountManager accountManager = new AccountManager();
+        accountManager.setHashIterations(iterations);
+        List<Student> students = CatalogFixture.createStudents(accountManager, studentCount);
+        String[] emails = new String[students.size()];
+        for (int i = 0; i < emails.length; i++) {
+            emails[i] = students.get(i).getEmail();
+        }
+
+        System.out.println("Measuring " + uncachedLogins + " logins without the cache on " + threadCount + " threads...");
+        accountManager.setCredentialCacheSize(0);
+        PhaseRow uncached = run("Hash checked every login", accountManager, emails, uncachedLogins, 0, threadCount, seed);
+
+        System.out.println("Replaying a surge of " + surgeLogins + " logins on " + threadCount + " threads...");
+        accountManager.setCredentialCacheSize(cacheSize);
+        PhaseRow surge = run("Surge with cache", accountManager, emails, surgeLogins, wrongShare, threadCount, seed + 1);
+
+        System.out.println();
+        List<String> headers = List.of("Phase", "Logins", "Logins/s", "p50 (us)", "p99 (us)");
+        List<ColumnExtractor<PhaseRow>> extractors = List.of(
+            PhaseRow::phase,
+            row -> String.format("%,d", row.logins()),
+            row -> String.format("%,.0f", row.perSecond()),
+            row -> String.format("%.1f", row.p50()),
+            row -> String.format("%.1f", row.p99())
+        );
+        new TablePrinter<>(headers, extractors, List.of(uncached, surge)).printTable();
+
+        System.out.println();
+        System.out.printf("Surge: %,.0f logins/s against a target of %,d: %s%n", surge.perSecond(), target,
+                surge.perSecond() >= target ? "within target" : "BELOW TARGET");
+    }
+
+    /**
+     * Runs logins of random students from several threads and measures them.
+     *
+     * @param phase the name of the phase
+     * @param accountManager the account manager to log in to
+     * @param emails the students' emails
+     * @param logins the total number of logins
+     * @param wrongShare the fraction of logins with a wrong password
+     * @param threadCount the number of threads
+     * @param seed the random seed
+     * @return the results of the phase
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    private static PhaseRow run(String phase, AccountManager accountManager, String[] emails, int logins,
+            double wrongShare, int threadCount, long seed) throws InterruptedException {
+        long[][] latencies = new long[threadCount][];
+        AtomicLong unexpected = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threadCount; t++) {
+            int count = logins / threadCount + (t < logins % threadCount ? 1 : 0);
+            long[] recorded = new long[count];
+            latencies[t] = recorded;
+            Random random = new Random(seed * 31 + t);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < count; i++) {
+                    String email = emails[random.nextInt(emails.length)];
+                    boolean wrong = random.nextDouble() < wrongShare;
+                    String password = wrong ? CatalogFixture.studentPassword + "x" : CatalogFixture.studentPassword;
+                    long began = System.nanoTime();
+                    boolean accepted = accountManager.authenticate(email, password) != null;
+                    recorded[i] = System.nanoTime() - began;
+                    if (accepted == wrong) {
+                        unexpected.incrementAndGet();
+                    }
+                }
+            }, "login-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - began;
+        if (unexpected.get() > 0) {
+            System.out.println("Warning: " + unexpected.get() + " logins had the wrong result");
+        }
+
+        long[] merged = new long[logins];
+        int offset = 0;
+        for (long[] recorded : latencies) {
+            System.arraycopy(recorded, 0, merged, offset, recorded.length);
+            offset += recorded.length;
+        }
+        Arrays.sort(merged);
+        return new PhaseRow(phase, logins, logins * 1e9 / elapsed,
+                percentile(merged, 0.50) / 1000.0, percentile(merged, 0.99) / 1000.0);
+    }
+
+    /**
+     * Returns a percentile of sorted values.
+     *
+     * @param sorted the sorted values
+     * @param fraction the percentile as a fraction between 0 and 1
+     * @return the value at the percentile
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Parses "--name value" pairs from the command line.
+     *
+     * @param args the command line arguments
+     * @return the options keyed by name without the leading dashes
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value but found: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,96 @@
+package bench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.Random;
+
+import model.CourseSection;
+import model.Student;
+import system.AccountManager;
+import system.EnrollmentEngine;
+import system.EnrollmentSystem;
+import system.PersistenceManager;
+import system.Snapshot;
+
+/**
+ * Measures how long startup takes to restore a full term from a snapshot and the log written since.
+ * Builds a catalog and student body, enrolls every student in several sections, writes a snapshot,
+ * then makes more enrollments that only reach the write-ahead log before timing the restart.
+ *
+ * How to run:
+ * <pre>
+ * java -cp out bench.RestartBenchmark --students 50000 --sections 20000 --tail 20000
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class RestartBenchmark {
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        int studentCount = Integer.parseInt(options.getOrDefault("students", "50000"));
+        int sectionCount = Integer.parseInt(options.getOrDefault("sections", "20000"));
+        int coursesPerStudent = Integer.parseInt(options.getOrDefault("courses", "4"));
+        int tailCount = Integer.parseInt(options.getOrDefault("tail", "20000"));
+        Path directory = Files.createTempDirectory("restart-benchmark");
+        Random random = new Random(42);
+
+        PrintStream console = System.out;
+        console.println("Building " + sectionCount + " sections and " + studentCount + " students...");
+        EnrollmentSystem enrollmentSystem = CatalogFixture.buildCatalog(sectionCount, 5, 40, random);
+        AccountManager accountManager = new AccountManager();
+        List<Student> students = CatalogFixture.createStudents(accountManager, studentCount);
+        List<CourseSection> sections = CatalogFixture.allSections(enrollmentSystem);
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        for (Student student : students) {
+            for (int i = 0; i < coursesPerStudent; i++) {
+                student.enroll(sections.get(random.nextInt(sections.size())));
+            }
+        }
+        System.setOut(console);
+
+        long start = System.nanoTime();
+        Snapshot.write(directory.resolve("snapshot.bin"), 1, enrollmentSystem, accountManager);
+        console.printf("Snapshot written in %.0f ms (%,d bytes)%n", (System.nanoTime() - start) / 1e6,
+                Files.size(directory.resolve("snapshot.bin")));
+
+        // Make changes that are only in the log, then stop without closing, as after a crash
+        EnrollmentSystem before = new EnrollmentSystem();
+        AccountManager beforeAccounts = new AccountManager();
+        PersistenceManager writer = PersistenceManager.open(directory, before, beforeAccounts);
+        List<CourseSection> restoredSections = CatalogFixture.allSections(before);
+        List<Student> restoredStudents = beforeAccounts.getUsers().stream()
+                .filter(Student.class::isInstance).map(Student.class::cast).toList();
+        EnrollmentEngine engine = before.getEnrollmentEngine();
+        start = System.nanoTime();
+        for (int i = 0; i < tailCount; i++) {
+            Student student = restoredStudents.get(random.nextInt(restoredStudents.size()));
+            CourseSection section = restoredSections.get(random.nextInt(restoredSections.size()));
+            if (i % 2 == 0) {
+                engine.enroll(student, section);
+            } else {
+                engine.drop(student, section);
+            }
+        }
+        console.printf("%,d log records written in %.0f ms with %,d flushes%n", writer.getLog().getAppendCount(),
+                (System.nanoTime() - start) / 1e6, writer.getLog().getFlushCount());
+
+        start = System.nanoTime();
+        EnrollmentSystem after = new EnrollmentSystem();
+        AccountManager afterAccounts = new AccountManager();
+        PersistenceManager reader = PersistenceManager.open(directory, after, afterAccounts);
+        double restartMillis = (System.nanoTime() - start) / 1e6;
+        console.printf("Restart: %.0f ms (snapshot plus %,d log records, %,d skipped)%n", restartMillis,
+                reader.getRecoveredCount(), reader.getSkippedCount());
+        console.printf("Restored %,d users and %,d sections%n", afterAccounts.getUsers().size(),
+                CatalogFixture.allSections(after).size());
+    }
+}
@@ -8,49 +8,228 @@
  */
 package main;
 
-import java.util.Scanner;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import api.ApiServer;
 import model.*;
 import system.AccountManager;
 import system.EnrollmentSystem;
-import ui.InstructorPage;
-import ui.LoginPage;
-import ui.admin.AdminPage;
-import ui.student.StudentPage;
+import system.PersistenceManager;
+import system.ScriptRunner;
+import ui.ConsoleServer;
+import ui.ConsoleSession;
+import util.Console;
+import util.VirtualThreads;
 
 public class Main {
+    /**
+     * How often the saved state is snapshotted so startup only replays recent changes.
+     */
+    private static final long snapshotMinutes = 5;
+
     public static void main(String[] args) {
-        Scanner input = new Scanner(System.in);
         AccountManager accountManager = new AccountManager();
         EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
-        LoginPage loginPage = new LoginPage(accountManager);
 
-        Admin mockAdmin = new Admin("System Admin", "sysadmin@university.edu", "temppass");
-        accountManager.addUser(mockAdmin);
-        mockAdmin.grantAllPermissions();
+        // With --hash-iterations <n>, new passwords are hashed with that PBKDF2 work factor instead of the default
+        String hashIterations = getOption(args, "--hash-iterations");
+        if (hashIterations != null) {
+            try {
+                accountManager.setHashIterations(Integer.parseInt(hashIterations));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid work factor: " + hashIterations);
+                return;
+            }
+        }
+
+        // With --roster-file <file>, rosters and schedules are kept in a memory-mapped file instead of the heap
+        String rosterFile = getOption(args, "--roster-file");
+        if (rosterFile != null) {
+            try {
+                RosterStore.install(RosterStore.open(Path.of(rosterFile)));
+            } catch (IOException e) {
+                System.out.println("Could not open roster file: " + e.getMessage());
+                return;
+            }
+        }
+
+        // With --data <directory>, state is restored from and saved to a write-ahead log in that directory
+        PersistenceManager persistence = null;
+        String dataDirectory = getOption(args, "--data");
+        if (dataDirectory != null) {
+            try {
+                persistence = PersistenceManager.open(Path.of(dataDirectory), enrollmentSystem, accountManager);
+                persistence.startPeriodicSnapshots(snapshotMinutes, TimeUnit.MINUTES);
+                System.out.println("Restored " + (persistence.isSnapshotLoaded() ? "snapshot and " : "")
+                        + persistence.getRecoveredCount() + " changes from " + dataDirectory);
+                if (persistence.getSkippedCount() > 0) {
+                    System.out.println("Skipped " + persistence.getSkippedCount() + " changes that could not be applied");
+                }
+            } catch (IOException e) {
+                System.out.println("Could not open data directory: " + e.getMessage());
+                return;
+            }
+        }
 
-        while (true) {
-            loginPage.display();
-            User currentUser = loginPage.getCurrentUser();
+        if (accountManager.getUserByEmail("sysadmin@university.edu") == null) {
+            Admin mockAdmin = new Admin("System Admin", "sysadmin@university.edu", "temppass");
+            accountManager.addUser(mockAdmin);
+            accountManager.grantAllPermissions(mockAdmin);
+            // Starting roles, which admins with admin management can change from the permissions menu
+            accountManager.defineRole("registrar", List.of(Permissions.COURSE_MANAGEMENT, Permissions.USER_MANAGEMENT,
+                    Permissions.VIEW_COURSES, Permissions.VIEW_USERS));
+            accountManager.defineRole("auditor", List.of(Permissions.VIEW_COURSES, Permissions.VIEW_USERS));
+        }
 
-            if (currentUser == null) {
-                System.out.println("Exiting program. Goodbye!");
-                break; 
+        // With --script <file>, the commands in the file are run instead of the console menus
+        String script = getOption(args, "--script");
+        // With --http <port>, the HTTP API is served instead of the console menus until the process is stopped
+        String httpPort = getOption(args, "--http");
+        // With --console-port <port>, the console menus are served to many terminals over TCP instead of this one
+        String consolePort = getOption(args, "--console-port");
+        // With --console-host <host>, the console server listens on that address instead of only on this machine
+        String consoleHost = getOption(args, "--console-host");
+        if (script != null) {
+            runScript(Path.of(script), enrollmentSystem, accountManager);
+        } else if (httpPort != null) {
+            serveHttp(httpPort, enrollmentSystem, accountManager);
+        } else if (consolePort != null) {
+            serveConsole(consoleHost, consolePort, enrollmentSystem, accountManager);
+        } else {
+            new ConsoleSession(enrollmentSystem, accountManager).run();
+        }
+        if (persistence != null) {
+            try {
+                persistence.close();
+            } catch (IOException e) {
+                System.out.println("Could not close data directory: " + e.getMessage());
             }
+        }
+        // Closed after the final snapshot, which reads the rosters
+        RosterStore rosterStore = RosterStore.getInstalled();
+        if (rosterStore != null) {
+            try {
+                rosterStore.close();
+            } catch (IOException e) {
+                System.out.println("Could not close roster file: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs a script of administrative commands, printing failed commands and a summary.
+     *
+     * @param script the script file
+     * @param enrollmentSystem the enrollment system to run commands against
+     * @param accountManager the account manager to run commands against
+     */
+    private static void runScript(Path script, EnrollmentSystem enrollmentSystem, AccountManager accountManager) {
+        // Console.output() is the terminal itself, which stays open while the script silences System.out
+        Writer out = new BufferedWriter(new OutputStreamWriter(Console.output(), StandardCharsets.UTF_8), 1 << 16);
+        try (Reader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            new ScriptRunner(enrollmentSystem, accountManager).run(reader, out);
+        } catch (IOException e) {
+            System.out.println("Could not run script: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Serves the HTTP API until the process is stopped, such as with Ctrl+C.
+     *
+     * @param port the port to listen on
+     * @param enrollmentSystem the enrollment system to serve
+     * @param accountManager the account manager used to log users in
+     */
+    private static void serveHttp(String port, EnrollmentSystem enrollmentSystem, AccountManager accountManager) {
+        ApiServer server;
+        try {
+            server = new ApiServer(new InetSocketAddress(Integer.parseInt(port)), enrollmentSystem, accountManager);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not start HTTP API on port " + port + ": " + e.getMessage());
+            return;
+        }
+        server.start();
+        System.out.println("HTTP API listening on port " + server.getPort() + " using "
+                + (VirtualThreads.isAvailable() ? "virtual" : "platform") + " threads. Press Ctrl+C to stop.");
+
+        awaitShutdown();
+        server.stop();
+    }
+
+    /**
+     * Serves the console menus to terminals connecting over TCP until the process is stopped, such as with Ctrl+C.
+     *
+     * @param host the host name or address to listen on, or null to accept connections from this machine only
+     * @param port the port to listen on
+     * @param enrollmentSystem the enrollment system to serve
+     * @param accountManager the account manager used to log users in
+     */
+    private static void serveConsole(String host, String port, EnrollmentSystem enrollmentSystem,
+            AccountManager accountManager) {
+        ConsoleServer server;
+        try {
+            InetSocketAddress address = host == null
+                    ? new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(port))
+                    : new InetSocketAddress(host, Integer.parseInt(port));
+            server = new ConsoleServer(address, enrollmentSystem, accountManager);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not start console server on port " + port + ": " + e.getMessage());
+            return;
+        }
+        System.out.println("Console server listening on " + (host == null ? "localhost" : host) + " port "
+                + server.getPort() + " using " + (VirtualThreads.isAvailable() ? "virtual" : "platform") + " threads. Press Ctrl+C to stop.");
+        server.start();
+        awaitShutdown();
+        server.stop();
+    }
 
-            if (currentUser instanceof Student student) {
-                StudentPage studentPage = new StudentPage(student, enrollmentSystem);
-                studentPage.display();
-            } else if (currentUser instanceof Instructor instructor) {
-                InstructorPage instructorPage = new InstructorPage(instructor, enrollmentSystem);
-                instructorPage.display();
-            } else if (currentUser instanceof Admin admin) {
-                AdminPage adminPage = new AdminPage(admin, enrollmentSystem, accountManager);
-                adminPage.display();
+    /**
+     * Waits until the process is asked to stop, such as with Ctrl+C.
+     * The shutdown hook then waits for the main thread to finish its cleanup, so saved data is closed cleanly.
+     */
+    private static void awaitShutdown() {
+        CountDownLatch stopping = new CountDownLatch(1);
+        Thread mainThread = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            stopping.countDown();
+            try {
+                mainThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
+        }));
+        try {
+            stopping.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            loginPage.clearCurrentUser();
+    /**
+     * Returns the value following an option on the command line.
+     *
+     * @param args the command line arguments
+     * @param name the option, such as "--data"
+     * @return the value of the option, or null if it is not present
+     */
+    private static String getOption(String[] args, String name) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
         }
-        input.close();
+        return null;
     }
 }
 
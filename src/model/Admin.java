@@ -1,7 +1,8 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import system.AccountManager;
 import system.EnrollmentSystem;
 
@@ -21,9 +22,14 @@ public class Admin extends User {
     private static int lastAssignedId = 802999999;
 
     /**
-     * The list of permissions assigned to the admin.
+     * The permissions assigned to the admin, held as the bits of one number.
      */
-    private List<String> permissions;
+    private final EnumSet<Permissions> permissions = EnumSet.noneOf(Permissions.class);
+
+    /**
+     * The roles the admin holds, shared with every admin holding the same roles.
+     */
+    private volatile RoleSet roles = RoleSet.none;
 
     /**
      * The message displayed when an admin attempts an action without the required permission.
@@ -40,17 +46,41 @@ public class Admin extends User {
      */
     public Admin(String name, String email, String password) {
         super(String.valueOf(++lastAssignedId), name, email, password);
-        this.permissions = new ArrayList<>();
     }
 
     /**
-     * Checks if the admin has a specific permission.
+     * Constructs an Admin with an existing ID, such as one restored from saved data.
+     * Admins created afterwards are given IDs after this one.
+     *
+     * @param id the ID of the admin
+     * @param name the name of the admin
+     * @param email the email of the admin
+     * @param password the password of the admin
+     */
+    public Admin(String id, String name, String email, String password) {
+        super(id, name, email, password);
+        lastAssignedId = Math.max(lastAssignedId, Integer.parseInt(id));
+    }
+
+    /**
+     * Checks if the admin has a specific permission, granted directly or by one of their roles.
      *
      * @param permission the permission to check
      * @return true if the admin has the permission, false otherwise
      */
+    public boolean hasPermission(Permissions permission) {
+        return permissions.contains(permission) || roles.hasPermission(permission);
+    }
+
+    /**
+     * Checks if the admin has a permission given by name.
+     *
+     * @param permission the name of the permission to check
+     * @return true if the admin has the permission, false otherwise or if there is no such permission
+     */
     public boolean hasPermission(String permission) {
-        return permissions.contains(permission);
+        Permissions parsed = Permissions.parse(permission);
+        return parsed != null && hasPermission(parsed);
     }
 
     /**
@@ -58,10 +88,23 @@ public class Admin extends User {
      *
      * @param permission the permission to add
      */
-    public void addPermission(String permission) {
-        if (!permissions.contains(permission)) {
-            permissions.add(permission);
+    public void addPermission(Permissions permission) {
+        permissions.add(permission);
+    }
+
+    /**
+     * Adds a permission given by name to the admin.
+     *
+     * @param permission the name of the permission to add
+     * @return true if the name is a permission, false otherwise
+     */
+    public boolean addPermission(String permission) {
+        Permissions parsed = Permissions.parse(permission);
+        if (parsed == null) {
+            return false;
         }
+        permissions.add(parsed);
+        return true;
     }
 
     /**
@@ -69,28 +112,46 @@ public class Admin extends User {
      *
      * @param permission the permission to revoke
      */
-    public void revokePermission(String permission) {
-        if (permissions.contains(permission)) {
-            permissions.remove(permission);
+    public void revokePermission(Permissions permission) {
+        permissions.remove(permission);
+    }
+
+    /**
+     * Revokes a permission given by name from the admin.
+     *
+     * @param permission the name of the permission to revoke
+     * @return true if the name is a permission, false otherwise
+     */
+    public boolean revokePermission(String permission) {
+        Permissions parsed = Permissions.parse(permission);
+        if (parsed == null) {
+            return false;
         }
+        permissions.remove(parsed);
+        return true;
     }
 
     /**
      * Grants all available permissions to the admin.
      */
     public void grantAllPermissions() {
+        permissions.addAll(EnumSet.allOf(Permissions.class));
+    }
+
+    /**
+     * Revokes every permission from the admin.
+     */
+    public void clearPermissions() {
         permissions.clear();
-        permissions.addAll(List.of(Permissions.ADMIN_MANAGEMENT, Permissions.COURSE_MANAGEMENT,
-                Permissions.USER_MANAGEMENT, Permissions.VIEW_USERS, Permissions.VIEW_COURSES));
     }
 
     /**
-     * Returns the list of permissions assigned to the admin.
+     * Returns the permissions granted to the admin directly, without those given by roles.
      *
-     * @return the list of permissions
+     * @return a read-only view of the permissions, in declaration order
      */
-    public List<String> getPermissions() {
-        return permissions;
+    public Set<Permissions> getPermissions() {
+        return Collections.unmodifiableSet(permissions);
     }
 
     /**
@@ -179,15 +240,33 @@ public class Admin extends User {
      * @return a comma-separated string of permissions
      */
     public String getPermissionsFormatted() {
-        String result = "";
-        for (String permission : permissions) {
-            result += permission + ", ";
-        }
+        return Permissions.join(permissions, ", ");
+    }
 
-        if (result.isEmpty()) {
-            return "";
-        }
+    /**
+     * Returns the roles the admin holds.
+     *
+     * @return the shared RoleSet, {@link RoleSet#none} if the admin holds no roles
+     */
+    public RoleSet getRoleSet() {
+        return roles;
+    }
 
-        return result.substring(0, result.length() - 2);
+    /**
+     * Gives the admin a combination of roles. Use {@link AccountManager#setRoles} so the change is saved.
+     *
+     * @param roles the shared RoleSet from {@link system.RoleManager#resolve}
+     */
+    public void setRoleSet(RoleSet roles) {
+        this.roles = roles;
+    }
+
+    /**
+     * Returns the names of the admin's roles as a comma-separated string.
+     *
+     * @return the role names, or an empty string if the admin holds no roles
+     */
+    public String getRolesFormatted() {
+        return String.join(", ", roles.getRoleNames());
     }
 }
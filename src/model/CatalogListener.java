@@ -0,0 +1,43 @@
+package model;
+
+/**
+ * Receives changes to the sections of a course and to their rosters, so the catalog holding the
+ * course can index and save them. A course reports to the listener set with
+ * {@link Course#setCatalogListener(CatalogListener)}; courses outside a catalog have none.
+ *
+ * Enrollments and drops are reported while the section is locked, so listeners must not block on
+ * other locks or wait for slow work, such as a disk flush, in those methods.
+ *
+ * @version Oct 17, 2026
+ */
+public interface CatalogListener {
+    /**
+     * Called after a section is added to a course.
+     *
+     * @param section the added section
+     */
+    void registerSection(CourseSection section);
+
+    /**
+     * Called after a section is removed from a course.
+     *
+     * @param section the removed section
+     */
+    void unregisterSection(CourseSection section);
+
+    /**
+     * Called after a student is added to a section's roster, while the section is locked.
+     *
+     * @param section the section
+     * @param student the enrolled student
+     */
+    void recordEnrollment(CourseSection section, Student student);
+
+    /**
+     * Called after a student is removed from a section's roster, while the section is locked.
+     *
+     * @param section the section
+     * @param student the dropped student
+     */
+    void recordDrop(CourseSection section, Student student);
+}
@@ -1,7 +1,7 @@
 package model;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents a course that students can enroll in.
@@ -14,7 +14,15 @@ public class Course {
     private String name;
     private String description;
     private int credits;
+    /**
+     * The sections of the course; copied on write so listings on other threads can read it without locking.
+     */
     private List<CourseSection> sections;
+
+    /**
+     * The catalog holding the course, told about section and roster changes, or {@code null}.
+     */
+    private volatile CatalogListener catalogListener;
     private static int sectionCount = 0;
 
     /**
@@ -30,7 +38,7 @@ public class Course {
         this.name = name;
         this.description = description;
         this.credits = credits;
-        this.sections = new ArrayList<>();
+        this.sections = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -88,8 +96,36 @@ public class Course {
      */
     public CourseSection createSection(List<TimeSlot> timeSlots, int maxCapacity) {
         String sectionId = String.format("%03d", ++sectionCount);
-        CourseSection section = new CourseSection(this, sectionId, timeSlots, maxCapacity);
+        return addSection(new CourseSection(this, sectionId, timeSlots, maxCapacity));
+    }
+
+    /**
+     * Adds a section with an existing section ID and CRN to the course, such as one restored from saved data.
+     * Sections created afterwards are given IDs after this one.
+     *
+     * @param sectionId the ID of the course section
+     * @param crn the CRN of the course section
+     * @param timeSlots the time slots of the course section
+     * @param maxCapacity the maximum capacity of the course section
+     * @return the restored course section
+     */
+    public CourseSection restoreSection(String sectionId, String crn, List<TimeSlot> timeSlots, int maxCapacity) {
+        sectionCount = Math.max(sectionCount, Integer.parseInt(sectionId));
+        return addSection(new CourseSection(this, sectionId, crn, timeSlots, maxCapacity));
+    }
+
+    /**
+     * Adds a section to the course and reports it to the catalog holding the course, if any.
+     *
+     * @param section the course section to add
+     * @return the added course section
+     */
+    private CourseSection addSection(CourseSection section) {
         sections.add(section);
+        CatalogListener listener = catalogListener;
+        if (listener != null) {
+            listener.registerSection(section);
+        }
         return section;
     }
 
@@ -100,11 +136,15 @@ public class Course {
      * @return true if the section is removed successfully, false otherwise
      */
     public boolean removeCourseSection(CourseSection section) {
-        if (!this.sections.contains(section)) {
+        if (!this.sections.remove(section)) {
             System.out.println("Section does not exist");
             return false;
         }
-        this.sections.remove(section);
+        CatalogListener listener = catalogListener;
+        if (listener != null) {
+            listener.unregisterSection(section);
+        }
+        section.markRemoved();
         System.out.println(this.getId() + ": Section " + section.getSectionId() + " deleted successfully.");
         return true;
     }
@@ -118,6 +158,25 @@ public class Course {
         return sections;
     }
 
+    /**
+     * Sets the catalog holding this course.
+     * Sections created or removed afterwards, and enrollments and drops in them, are reported to it.
+     *
+     * @param catalogListener the catalog, or {@code null} if the course is not in a catalog
+     */
+    public void setCatalogListener(CatalogListener catalogListener) {
+        this.catalogListener = catalogListener;
+    }
+
+    /**
+     * Returns the catalog holding this course.
+     *
+     * @return the catalog, or {@code null} if the course is not in a catalog
+     */
+    public CatalogListener getCatalogListener() {
+        return catalogListener;
+    }
+
     /**
      * Returns the total number of sections created for the course.
      *
@@ -6,8 +6,8 @@
  */
 package model;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import util.Util;
 
 public class CourseSection {
@@ -18,6 +18,39 @@ public class CourseSection {
     private Course course;
     private List<Student> enrolledStudents;
     private String crn;
+    private WeeklyOccupancy occupancy;
+
+    /**
+     * The number of seats neither taken by an enrolled student nor reserved by a pending enrollment.
+     * Updated with compare-and-set so a full section can reject requests without locking.
+     */
+    private final AtomicInteger remainingSeats;
+
+    /**
+     * The students waiting for a seat, promoted automatically when a seat opens up.
+     */
+    private final Waitlist waitlist;
+
+    /**
+     * Whether the section has been removed from its course; set while the section is locked, after which
+     * no student is enrolled or promoted into it.
+     */
+    private volatile boolean removed;
+
+    /**
+     * The index of the section in the installed {@link RosterStore}, or -1 while it is on no stored list.
+     */
+    volatile int rosterIndex = -1;
+
+    /**
+     * The meeting times as shown in listings, formatted on first use; a section's time slots do not change.
+     */
+    private volatile String timeSlotsFormatted;
+
+    /**
+     * The smallest waitlist a section gets; larger sections get a waitlist as long as their capacity.
+     */
+    private static final int minWaitlistCapacity = 10;
     private static int lastAssignedCrn = 10000;
 
     /**
@@ -29,22 +62,114 @@ public class CourseSection {
      * @param maxCapacity the maximum capacity of the course section
      */
     public CourseSection(Course course, String sectionId, List<TimeSlot> timeSlots, int maxCapacity) {
+        this(course, sectionId, String.valueOf(++lastAssignedCrn), timeSlots, maxCapacity);
+    }
+
+    /**
+     * Constructs a CourseSection with an existing CRN, such as one restored from saved data.
+     * Sections created afterwards are given CRNs after this one.
+     *
+     * @param course the course associated with the section
+     * @param sectionId the ID of the course section
+     * @param crn the CRN of the course section
+     * @param timeSlots the time slots of the course section
+     * @param maxCapacity the maximum capacity of the course section
+     */
+    public CourseSection(Course course, String sectionId, String crn, List<TimeSlot> timeSlots, int maxCapacity) {
+        lastAssignedCrn = Math.max(lastAssignedCrn, Integer.parseInt(crn));
         this.sectionId = sectionId;
         this.instructor = null;
         this.timeSlots = timeSlots;
         this.maxCapacity = maxCapacity;
         this.course = course;
-        this.enrolledStudents = new ArrayList<>();
-        this.crn = String.valueOf(++lastAssignedCrn);
+        this.enrolledStudents = RosterStore.newRoster();
+        this.crn = crn;
+        this.occupancy = new WeeklyOccupancy(timeSlots);
+        this.remainingSeats = new AtomicInteger(maxCapacity);
+        this.waitlist = new Waitlist(Math.max(maxCapacity, minWaitlistCapacity));
     }
 
     /**
      * Checks if the course section is full.
+     * Seats reserved by pending enrollments count as taken.
      *
      * @return {@code true} if the course section is full, {@code false} otherwise
      */
     public boolean isFull() {
-        return enrolledStudents.size() >= maxCapacity;
+        return remainingSeats.get() <= 0;
+    }
+
+    /**
+     * Reserves a seat in the course section without locking.
+     * A successful reservation must be followed by either {@link #confirmSeat(Student)}
+     * or {@link #releaseSeat()}.
+     *
+     * @return {@code true} if a seat was reserved, {@code false} if the section is full
+     */
+    public boolean reserveSeat() {
+        while (true) {
+            int remaining = remainingSeats.get();
+            if (remaining <= 0) {
+                return false;
+            }
+            if (remainingSeats.compareAndSet(remaining, remaining - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a reserved or taken seat to the course section.
+     * If students are waiting, the next eligible one is promoted into the seat in the background.
+     */
+    public void releaseSeat() {
+        remainingSeats.incrementAndGet();
+        schedulePromotion();
+    }
+
+    /**
+     * Promotes students from the waitlist in the background if anyone is waiting.
+     * Called whenever a seat opens and after a student joins the waitlist, so a student who joins
+     * while a seat is being freed is never left waiting next to an open seat.
+     */
+    public void schedulePromotion() {
+        if (!removed && waitlist.size() > 0) {
+            Waitlist.promotionExecutor.execute(this::promoteFromWaitlist);
+        }
+    }
+
+    /**
+     * Adds a student to the roster using a seat already reserved with {@link #reserveSeat()}.
+     * If the student is already on the roster the reservation is released.
+     * The enrollment is reported to the catalog holding the section's course, if any, so it can be saved.
+     * If the roster or schedule cannot grow, such as when the {@link RosterStore} is full, the reservation
+     * is released and the exception thrown.
+     *
+     * @param student the student to add
+     * @return {@code true} if the student was added, {@code false} if they were already enrolled
+     */
+    public boolean confirmSeat(Student student) {
+        if (enrolledStudents.contains(student)) {
+            releaseSeat();
+            return false;
+        }
+        boolean onRoster = false;
+        try {
+            enrolledStudents.add(student);
+            onRoster = true;
+            student.addEnrolledCourse(this);
+        } catch (RuntimeException e) {
+            if (onRoster) {
+                enrolledStudents.remove(student);
+            }
+            releaseSeat();
+            throw e;
+        }
+        CatalogListener listener = course.getCatalogListener();
+        if (listener != null) {
+            listener.recordEnrollment(this, student);
+        }
+        return true;
     }
 
     /**
@@ -57,16 +182,14 @@ public class CourseSection {
      * @return {@code true} if enrollment is successful, {@code false} otherwise
      */
     public boolean enrollStudent(Student student) {
-        if (enrolledStudents.contains(student)) {
-            System.out.println(student.getName() + " is already enrolled in " + this.course.getId());
+        if (!reserveSeat()) {
+            System.out.println("This section is at capacity");
             return false;
         }
-        if (isFull()) {
-            System.out.println("This section is at capacity");
+        if (!confirmSeat(student)) {
+            System.out.println(student.getName() + " is already enrolled in " + this.course.getId());
             return false;
         }
-        enrolledStudents.add(student);
-        student.getEnrolledCourses().add(this);
         return true;
     }
 
@@ -79,9 +202,7 @@ public class CourseSection {
      * @return {@code true} if dropping is successful, {@code false} otherwise
      */
     public boolean dropStudent(Student student) {
-        if (enrolledStudents.contains(student)) {
-            enrolledStudents.remove(student);
-            student.getEnrolledCourses().remove(this);
+        if (removeStudent(student)) {
             System.out.println(
                     student.getName() + " removed from " + this.course.getName() + " Section: " + this.sectionId);
             return true;
@@ -90,6 +211,77 @@ public class CourseSection {
         return false;
     }
 
+    /**
+     * Removes a student from the course section without printing anything.
+     * If the student held a seat, the next eligible student on the waitlist is promoted in the background.
+     * The drop is reported to the catalog holding the section's course, if any, so it can be saved.
+     *
+     * @param student the student to remove
+     * @return {@code true} if the student was enrolled and has been removed, {@code false} otherwise
+     */
+    public boolean removeStudent(Student student) {
+        if (!enrolledStudents.remove(student)) {
+            return false;
+        }
+        student.removeEnrolledCourse(this);
+        releaseSeat();
+        CatalogListener listener = course.getCatalogListener();
+        if (listener != null) {
+            listener.recordDrop(this, student);
+        }
+        return true;
+    }
+
+    /**
+     * Enrolls students from the front of the waitlist while seats are open.
+     * Each student's advising hold, duplicate course, and time conflict checks are run again;
+     * students who are no longer eligible are removed from the waitlist and skipped.
+     * Locks are taken student first, then section, the same order as the enrollment engine.
+     */
+    void promoteFromWaitlist() {
+        while (!isFull() && !removed) {
+            Student student = waitlist.poll();
+            if (student == null) {
+                return;
+            }
+            synchronized (student) {
+                if (student.checkEnrollment(this) != EnrollmentStatus.ELIGIBLE) {
+                    continue;
+                }
+                if (!reserveSeat()) {
+                    waitlist.requeue(student);
+                    return;
+                }
+                synchronized (this) {
+                    if (removed) {
+                        releaseSeat();
+                        return;
+                    }
+                    confirmSeat(student);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the section as removed from its course and empties its waitlist.
+     * Enrollments and promotions check the mark while holding the section's lock, so once this
+     * returns no student can be added to the roster, and a roster copied afterwards is final.
+     */
+    public synchronized void markRemoved() {
+        removed = true;
+        waitlist.clear();
+    }
+
+    /**
+     * Returns whether the section has been removed from its course.
+     *
+     * @return {@code true} if the section was removed, {@code false} otherwise
+     */
+    public boolean isRemoved() {
+        return removed;
+    }
+
     /**
      * Assigns an instructor to the course section.
      *
@@ -126,6 +318,15 @@ public class CourseSection {
         return enrolledStudents;
     }
 
+    /**
+     * Returns the waitlist of the course section.
+     *
+     * @return the waitlist
+     */
+    public Waitlist getWaitlist() {
+        return waitlist;
+    }
+
     /**
      * Returns the ID of the course section.
      *
@@ -144,6 +345,15 @@ public class CourseSection {
         return timeSlots;
     }
 
+    /**
+     * Returns the weekly time occupied by the section's time slots.
+     *
+     * @return the weekly occupancy of the section
+     */
+    public WeeklyOccupancy getOccupancy() {
+        return occupancy;
+    }
+
     /**
      * Returns the course associated with the section.
      *
@@ -195,14 +405,19 @@ public class CourseSection {
      * @return the formatted string of time slots
      */
     public String getTimeSlotsFormatted() {
-        StringBuilder formatted = new StringBuilder();
-        for (TimeSlot slot : timeSlots) {
-            if (formatted.length() > 0) {
-                formatted.append(", ");
+        String cached = timeSlotsFormatted;
+        if (cached == null) {
+            StringBuilder formatted = new StringBuilder();
+            for (TimeSlot slot : timeSlots) {
+                if (formatted.length() > 0) {
+                    formatted.append(", ");
+                }
+                formatted.append(slot.getDay().toString().charAt(0)).append(" ").append(Util.formatTimeSlot(slot));
             }
-            formatted.append(slot.getDay().toString().charAt(0)).append(" ").append(Util.formatTimeSlot(slot));
+            cached = formatted.toString();
+            timeSlotsFormatted = cached;
         }
-        return formatted.toString();
+        return cached;
     }
 
     /**
@@ -0,0 +1,97 @@
+package model;
+
+/**
+ * The EnrollmentStatus enum describes the outcome of an enrollment or drop request.
+ * It lets callers that handle many requests, such as the enrollment engine, report
+ * why a request was rejected without printing to the console.
+ *
+ * @version Oct 17, 2026
+ */
+public enum EnrollmentStatus {
+    /**
+     * The student may enroll in the section.
+     */
+    ELIGIBLE("Eligible for enrollment"),
+
+    /**
+     * The student was enrolled in the section.
+     */
+    ENROLLED("Enrolled"),
+
+    /**
+     * The student was dropped from the section.
+     */
+    DROPPED("Dropped"),
+
+    /**
+     * The student has an advising hold.
+     */
+    ADVISING_HOLD("There is currently an advising hold"),
+
+    /**
+     * The student is already registered for a section of the same course.
+     */
+    ALREADY_REGISTERED("Already registered for this course"),
+
+    /**
+     * The section meets at the same time as one of the student's courses.
+     */
+    TIME_CONFLICT("Cannot register due to time conflict"),
+
+    /**
+     * The section has no open seats.
+     */
+    SECTION_FULL("This section is at capacity"),
+
+    /**
+     * The section has been deleted.
+     */
+    SECTION_REMOVED("This section no longer exists"),
+
+    /**
+     * The student is not enrolled in the section.
+     */
+    NOT_ENROLLED("Student is not enrolled in this section"),
+
+    /**
+     * The student was added to the section's waitlist.
+     */
+    WAITLISTED("Added to the waitlist"),
+
+    /**
+     * The section's waitlist is full or already has the student.
+     */
+    WAITLIST_FULL("Cannot join the waitlist");
+
+    /**
+     * The message describing the status.
+     */
+    private final String message;
+
+    /**
+     * Constructs an EnrollmentStatus with the specified message.
+     *
+     * @param message the message describing the status
+     */
+    EnrollmentStatus(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns the message describing the status.
+     *
+     * @return the status message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Checks if the status represents a completed enrollment or drop.
+     *
+     * @return {@code true} if the request succeeded, {@code false} otherwise
+     */
+    public boolean isSuccess() {
+        return this == ENROLLED || this == DROPPED;
+    }
+}
@@ -28,6 +28,21 @@ public class Instructor extends User {
         this.assignedCourses = new ArrayList<>();
     }
 
+    /**
+     * Constructs an Instructor with an existing ID, such as one restored from saved data.
+     * Instructors created afterwards are given IDs after this one.
+     *
+     * @param id the ID of the instructor
+     * @param name the name of the instructor
+     * @param email the email of the instructor
+     * @param password the password of the instructor
+     */
+    public Instructor(String id, String name, String email, String password) {
+        super(id, name, email, password);
+        lastAssignedId = Math.max(lastAssignedId, Integer.parseInt(id));
+        this.assignedCourses = new ArrayList<>();
+    }
+
     /**
      * Assigns a course to the instructor.
      *
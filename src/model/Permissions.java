@@ -1,40 +1,52 @@
 package model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
 
 /**
- * The Permissions class defines a set of constants representing different permissions
- * that can be assigned to users in the course registration system. These permissions
- * determine the actions users are allowed to perform, such as managing courses, users,
- * or viewing specific details.
+ * The Permissions enum defines the permissions that can be assigned to admins in the course
+ * registration system. These permissions determine the actions admins are allowed to perform,
+ * such as managing courses, users, or viewing specific details.
  *
- * @version Mar 24, 2025
+ * Admins hold their permissions in an {@link java.util.EnumSet}, which stores them as bits of a
+ * single number, so checking a permission is one bit test. Permissions are saved and typed by
+ * name, and {@link #parse(String)} converts names back.
+ *
+ * @version Oct 17, 2026
  */
-public class Permissions {
+public enum Permissions {
     /**
      * Permission to manage courses and course sections.
      */
-    public static final String COURSE_MANAGEMENT = "COURSE_MANAGEMENT";
+    COURSE_MANAGEMENT,
 
     /**
      * Permission to manage users, including creating and editing user accounts.
      */
-    public static final String USER_MANAGEMENT = "USER_MANAGEMENT";
+    USER_MANAGEMENT,
 
     /**
      * Permission to manage other admins.
      */
-    public static final String ADMIN_MANAGEMENT = "ADMIN_MANAGEMENT";
+    ADMIN_MANAGEMENT,
 
     /**
      * Permission to view course details.
      */
-    public static final String VIEW_COURSES = "VIEW_COURSES";
+    VIEW_COURSES,
 
     /**
      * Permission to view user details.
      */
-    public static final String VIEW_USERS = "VIEW_USERS";
+    VIEW_USERS;
+
+    /**
+     * Every permission, comma-separated, built once.
+     */
+    private static final String allPermissions = join(Arrays.asList(values()), ", ");
 
     /**
      * Converts the list of permissions into a formatted string.
@@ -42,12 +54,59 @@ public class Permissions {
      * @return a comma-separated string of all permissions
      */
     public static String toPermissionsString() {
-        List<String> permissions = List.of(COURSE_MANAGEMENT, USER_MANAGEMENT, ADMIN_MANAGEMENT, VIEW_COURSES,
-                VIEW_USERS);
-        String result = "";
-        for (String permission : permissions) {
-            result += permission + ", ";
+        return allPermissions;
+    }
+
+    /**
+     * Returns the permission with a name, ignoring case, surrounding spaces, and spaces used instead of underscores.
+     *
+     * @param name the name, such as "COURSE_MANAGEMENT" or "course management"
+     * @return the permission, or null if there is no permission with that name
+     */
+    public static Permissions parse(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return valueOf(name.strip().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the permissions in a comma-separated list of names, each read by {@link #parse(String)}.
+     *
+     * @param names the names, such as "VIEW_COURSES, view users"
+     * @return the permissions, empty if the list is blank, or null if any name is not a permission
+     */
+    public static List<Permissions> parseList(String names) {
+        List<Permissions> permissions = new ArrayList<>();
+        for (String name : names.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            Permissions permission = parse(name);
+            if (permission == null) {
+                return null;
+            }
+            permissions.add(permission);
+        }
+        return permissions;
+    }
+
+    /**
+     * Joins the names of permissions.
+     *
+     * @param permissions the permissions
+     * @param separator the text between names
+     * @return the names joined by the separator
+     */
+    public static String join(Iterable<Permissions> permissions, String separator) {
+        StringJoiner joiner = new StringJoiner(separator);
+        for (Permissions permission : permissions) {
+            joiner.add(permission.name());
         }
-        return result.substring(0, result.length() - 2); // Remove the trailing comma and space
+        return joiner.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A named set of permissions, such as a registrar or a read-only auditor, that admins can hold
+ * in addition to the permissions granted to them directly.
+ * A role does not change once made; changing a role's permissions replaces it with a new Role of
+ * the same name through {@link system.AccountManager}.
+ *
+ * @version Oct 17, 2026
+ */
+public class Role {
+    private static final Pattern namePattern = Pattern.compile("[a-z][a-z0-9_-]*");
+
+    private final String name;
+    private final Set<Permissions> permissions;
+
+    /**
+     * Constructs a Role.
+     *
+     * @param name the name of the role, see {@link #normalizeName(String)}
+     * @param permissions the permissions the role gives
+     * @throws IllegalArgumentException if the name is not a valid role name
+     */
+    public Role(String name, Collection<Permissions> permissions) {
+        String normalized = normalizeName(name);
+        if (normalized == null) {
+            throw new IllegalArgumentException("Role names start with a letter and contain only letters, digits, - and _.");
+        }
+        this.name = normalized;
+        EnumSet<Permissions> copy = EnumSet.noneOf(Permissions.class);
+        copy.addAll(permissions);
+        this.permissions = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * Returns a role name in the form roles are stored under: without surrounding spaces, in lower
+     * case, with spaces replaced by dashes.
+     *
+     * @param name the name, such as "Registrar" or "read only auditor"
+     * @return the normalized name, or null if it is not a valid role name
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = name.strip().toLowerCase(Locale.ROOT).replace(' ', '-');
+        return namePattern.matcher(normalized).matches() ? normalized : null;
+    }
+
+    /**
+     * Returns the name of the role.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the permissions the role gives.
+     *
+     * @return a read-only set of the permissions
+     */
+    public Set<Permissions> getPermissions() {
+        return permissions;
+    }
+
+    /**
+     * Checks if the role gives a permission.
+     *
+     * @param permission the permission to check
+     * @return true if the role gives the permission, false otherwise
+     */
+    public boolean hasPermission(Permissions permission) {
+        return permissions.contains(permission);
+    }
+
+    /**
+     * Returns the role's permissions as a comma-separated string.
+     *
+     * @return the permissions
+     */
+    public String getPermissionsFormatted() {
+        return Permissions.join(permissions, ", ");
+    }
+}
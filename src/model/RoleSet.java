@@ -0,0 +1,80 @@
+package model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A combination of roles and the permissions they give together.
+ * One RoleSet is shared by every admin holding the same roles, so checking a permission given by a
+ * role is one bit test no matter how many roles an admin holds. When one of the roles changes,
+ * {@link system.RoleManager} replaces the permissions of each RoleSet holding it, and every admin
+ * sharing it sees the change at once.
+ *
+ * @version Oct 17, 2026
+ */
+public class RoleSet {
+    /**
+     * The RoleSet of admins holding no roles.
+     */
+    public static final RoleSet none = new RoleSet(Set.of(), EnumSet.noneOf(Permissions.class));
+
+    private final Set<String> roleNames;
+
+    /**
+     * The permissions given by the roles. Replaced rather than changed, so readers never need a lock.
+     */
+    private volatile Set<Permissions> permissions;
+
+    /**
+     * Constructs a RoleSet.
+     *
+     * @param roleNames the names of the roles
+     * @param permissions the permissions the roles give together
+     */
+    public RoleSet(Collection<String> roleNames, Set<Permissions> permissions) {
+        this.roleNames = Collections.unmodifiableSet(new TreeSet<>(roleNames));
+        setPermissions(permissions);
+    }
+
+    /**
+     * Returns the names of the roles.
+     *
+     * @return a read-only set of the names, in alphabetical order
+     */
+    public Set<String> getRoleNames() {
+        return roleNames;
+    }
+
+    /**
+     * Returns the permissions the roles give together.
+     *
+     * @return a read-only set of the permissions
+     */
+    public Set<Permissions> getPermissions() {
+        return permissions;
+    }
+
+    /**
+     * Replaces the permissions the roles give, after one of the roles changed.
+     *
+     * @param permissions the permissions the roles now give together
+     */
+    public void setPermissions(Set<Permissions> permissions) {
+        EnumSet<Permissions> copy = EnumSet.noneOf(Permissions.class);
+        copy.addAll(permissions);
+        this.permissions = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * Checks if the roles give a permission.
+     *
+     * @param permission the permission to check
+     * @return true if one of the roles gives the permission, false otherwise
+     */
+    public boolean hasPermission(Permissions permission) {
+        return permissions.contains(permission);
+    }
+}
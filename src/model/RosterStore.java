@@ -0,0 +1,561 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * An optional off-heap store for section rosters and student schedules.
+ *
+ * Without a store, every {@link CourseSection} keeps an {@code ArrayList<Student>} and every
+ * {@link Student} an {@code ArrayList<CourseSection>}, so each enrollment costs two object
+ * references on the heap that the garbage collector has to trace. When a store is installed,
+ * sections and students created afterwards keep these lists as primitive ints in a memory-mapped
+ * file instead: a roster holds the index of each student, and a schedule the index of each section.
+ * {@link CourseSection#getEnrolledStudents()} and {@link Student#getEnrolledCourses()} return
+ * list views that turn the indexes back into objects when read.
+ *
+ * The file is scratch space, not saved state; it is emptied when the store is opened.
+ * Lists are guarded by the same locks as before: a roster by its section and a schedule by its student.
+ *
+ * How to use:
+ * <pre>
+ * RosterStore.install(RosterStore.open(Path.of("rosters.bin")));
+ * // create courses, sections and students as usual
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class RosterStore implements Closeable {
+    /**
+     * Each mapped segment holds 2^24 ints (64 MB); an address is a segment number and an offset.
+     */
+    private static final int segmentBits = 24;
+    private static final int segmentInts = 1 << segmentBits;
+    private static final int maxSegments = 1 << (31 - segmentBits);
+    private static final int minRegionBits = 2;
+
+    /**
+     * The store used by sections and students when they are created, or {@code null} to use the heap.
+     */
+    private static volatile RosterStore installed;
+
+    private final Path file;
+    private final FileChannel channel;
+    private volatile IntBuffer[] segments;
+    private int segmentCount;
+
+    /**
+     * The next unused int in the last segment.
+     */
+    private int nextOffset;
+
+    /**
+     * Freed regions, one stack per power-of-two size, so rosters that grow or are cleared reuse space.
+     */
+    private final int[][] freeRegions = new int[segmentBits + 1][];
+    private final int[] freeCounts = new int[segmentBits + 1];
+
+    private final Registry<Student> students = new Registry<>(Student.class,
+            student -> student.rosterIndex, (student, index) -> student.rosterIndex = index);
+    private final Registry<CourseSection> sections = new Registry<>(CourseSection.class,
+            section -> section.rosterIndex, (section, index) -> section.rosterIndex = index);
+    private long usedInts;
+
+    /**
+     * Maps between objects and the indexes stored in the file.
+     * Each index counts the lists holding it; when the last list lets go, the object is forgotten and its
+     * index reused, so students and sections that are no longer on any list can be garbage collected.
+     *
+     * @param <T> the type of object
+     */
+    private static class Registry<T> {
+        private final Class<T> type;
+        private final ToIntFunction<T> indexGetter;
+        private final ObjIntConsumer<T> indexSetter;
+        private volatile Object[] items = new Object[1024];
+        private int[] references = new int[1024];
+        private int count;
+
+        /**
+         * Freed indexes, reused before new ones are handed out.
+         */
+        private int[] freeIndexes = new int[16];
+        private int freeCount;
+
+        /**
+         * Constructs an empty registry.
+         *
+         * @param type the type of object registered
+         * @param indexGetter reads the index kept on an object, -1 if it has none
+         * @param indexSetter stores the index on an object
+         */
+        Registry(Class<T> type, ToIntFunction<T> indexGetter, ObjIntConsumer<T> indexSetter) {
+            this.type = type;
+            this.indexGetter = indexGetter;
+            this.indexSetter = indexSetter;
+        }
+
+        /**
+         * Records that a list holds an object, registering it if no list held it before.
+         *
+         * @param item the object
+         * @return the index of the object
+         */
+        synchronized int acquire(T item) {
+            int index = indexGetter.applyAsInt(item);
+            if (index < 0) {
+                index = freeCount > 0 ? freeIndexes[--freeCount] : count++;
+                Object[] current = items;
+                if (index == current.length) {
+                    current = Arrays.copyOf(current, current.length * 2);
+                    references = Arrays.copyOf(references, current.length);
+                }
+                current[index] = item;
+                items = current;
+                indexSetter.accept(item, index);
+            }
+            references[index]++;
+            return index;
+        }
+
+        /**
+         * Records that a list no longer holds an object, forgetting the object if no list holds it.
+         *
+         * @param index the index of the object
+         */
+        synchronized void release(int index) {
+            if (--references[index] > 0) {
+                return;
+            }
+            indexSetter.accept(get(index), -1);
+            items[index] = null;
+            if (freeCount == freeIndexes.length) {
+                freeIndexes = Arrays.copyOf(freeIndexes, freeCount * 2);
+            }
+            freeIndexes[freeCount++] = index;
+        }
+
+        /**
+         * Returns the index of an object held by some list, without registering it.
+         *
+         * @param item the object
+         * @return the index, or -1 if the object is not of this registry's type or no list holds it
+         */
+        int indexOf(Object item) {
+            return type.isInstance(item) ? indexGetter.applyAsInt(type.cast(item)) : -1;
+        }
+
+        /**
+         * Returns the object with an index.
+         *
+         * @param index the index
+         * @return the object
+         */
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            return (T) items[index];
+        }
+
+        /**
+         * Returns the number of objects held by some list.
+         *
+         * @return the number of objects
+         */
+        synchronized int size() {
+            return count - freeCount;
+        }
+    }
+
+    /**
+     * Constructs a RosterStore over an open file.
+     *
+     * @param file the path of the file
+     * @param channel the open file
+     * @throws IOException if the first segment cannot be mapped
+     */
+    private RosterStore(Path file, FileChannel channel) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.segments = new IntBuffer[maxSegments];
+        addSegment();
+    }
+
+    /**
+     * Opens a roster store in a file, emptying it if it exists.
+     *
+     * @param file the path of the file
+     * @return the opened store
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static RosterStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new RosterStore(file, channel);
+    }
+
+    /**
+     * Makes sections and students created from now on keep their lists in a store.
+     * Sections and students created earlier keep their lists on the heap.
+     *
+     * @param store the store to use, or {@code null} to go back to heap lists
+     */
+    public static void install(RosterStore store) {
+        installed = store;
+    }
+
+    /**
+     * Returns the store used by new sections and students.
+     *
+     * @return the installed store, or {@code null} if lists are kept on the heap
+     */
+    public static RosterStore getInstalled() {
+        return installed;
+    }
+
+    /**
+     * Creates the roster list for a new section.
+     *
+     * @return a list backed by the installed store, or an {@code ArrayList} if none is installed
+     */
+    static List<Student> newRoster() {
+        RosterStore store = installed;
+        if (store == null) {
+            return new ArrayList<>();
+        }
+        return new MappedList<>(store, store.students);
+    }
+
+    /**
+     * Creates the schedule list for a new student.
+     *
+     * @return a list backed by the installed store, or an {@code ArrayList} if none is installed
+     */
+    static List<CourseSection> newSchedule() {
+        RosterStore store = installed;
+        if (store == null) {
+            return new ArrayList<>();
+        }
+        return new MappedList<>(store, store.sections);
+    }
+
+    /**
+     * Returns the number of bytes of the file in use by lists, including their spare capacity.
+     *
+     * @return the bytes in use
+     */
+    public synchronized long getUsedBytes() {
+        return usedInts * Integer.BYTES;
+    }
+
+    /**
+     * Returns the number of students and sections held by some list in the store.
+     * Students and sections on no list are not counted and can be garbage collected.
+     *
+     * @return the number of students and sections
+     */
+    public int getRegisteredCount() {
+        return students.size() + sections.size();
+    }
+
+    /**
+     * Returns the number of bytes of the file that are mapped.
+     *
+     * @return the mapped bytes
+     */
+    public synchronized long getMappedBytes() {
+        return (long) segmentCount * segmentInts * Integer.BYTES;
+    }
+
+    /**
+     * Closes and deletes the file. Must only be called once no list in the store is used.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (installed == this) {
+            installed = null;
+        }
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Reads an int from the file.
+     *
+     * @param address the address of the int
+     * @return the int
+     */
+    private int read(int address) {
+        return segments[address >>> segmentBits].get(address & (segmentInts - 1));
+    }
+
+    /**
+     * Writes an int to the file.
+     *
+     * @param address the address of the int
+     * @param value the int
+     */
+    private void write(int address, int value) {
+        segments[address >>> segmentBits].put(address & (segmentInts - 1), value);
+    }
+
+    /**
+     * Returns the smallest region size class holding a number of ints.
+     *
+     * @param capacity the number of ints
+     * @return the size class; the region holds {@code 1 << sizeClass} ints
+     */
+    private static int sizeClass(int capacity) {
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        return Math.max(bits, minRegionBits);
+    }
+
+    /**
+     * Allocates a region of the file.
+     *
+     * @param sizeClass the size class of the region
+     * @return the address of the first int of the region
+     * @throws IllegalStateException if the region is too large or the store is full
+     */
+    private synchronized int allocate(int sizeClass) {
+        if (sizeClass > segmentBits) {
+            throw new IllegalStateException("Roster too large for the roster store");
+        }
+        int size = 1 << sizeClass;
+        usedInts += size;
+        if (freeCounts[sizeClass] > 0) {
+            return freeRegions[sizeClass][--freeCounts[sizeClass]];
+        }
+        if (nextOffset + size > segmentInts) {
+            try {
+                addSegment();
+            } catch (IOException e) {
+                usedInts -= size;
+                throw new IllegalStateException("Could not grow the roster store", e);
+            }
+        }
+        int address = ((segmentCount - 1) << segmentBits) | nextOffset;
+        nextOffset += size;
+        return address;
+    }
+
+    /**
+     * Returns a region to the store for reuse.
+     *
+     * @param address the address of the region
+     * @param sizeClass the size class of the region
+     */
+    private synchronized void free(int address, int sizeClass) {
+        usedInts -= 1 << sizeClass;
+        int[] stack = freeRegions[sizeClass];
+        if (stack == null) {
+            stack = new int[16];
+        } else if (freeCounts[sizeClass] == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[freeCounts[sizeClass]++] = address;
+        freeRegions[sizeClass] = stack;
+    }
+
+    /**
+     * Maps the next segment of the file.
+     *
+     * @throws IOException if the segment cannot be mapped
+     */
+    private void addSegment() throws IOException {
+        if (segmentCount == maxSegments) {
+            throw new IOException("Roster store is full");
+        }
+        long position = (long) segmentCount * segmentInts * Integer.BYTES;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) segmentInts * Integer.BYTES);
+        IntBuffer[] current = segments;
+        current[segmentCount++] = buffer.asIntBuffer();
+        segments = current;
+        nextOffset = 0;
+    }
+
+    /**
+     * A list of students or sections stored as indexes in a region of the file.
+     * The region doubles in size when full and is returned to the store when no longer needed.
+     *
+     * @param <T> the type of element
+     */
+    private static class MappedList<T> extends AbstractList<T> implements RandomAccess {
+        private final RosterStore store;
+        private final Registry<T> registry;
+        private int address = -1;
+        private int sizeClass;
+        private int size;
+
+        /**
+         * Constructs an empty list; no region is allocated until the first element is added.
+         *
+         * @param store the store holding the list
+         * @param registry the registry for the element type
+         */
+        MappedList(RosterStore store, Registry<T> registry) {
+            this.store = store;
+            this.registry = registry;
+        }
+
+        @Override
+        public T get(int index) {
+            checkIndex(index);
+            return registry.get(store.read(address + index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean add(T item) {
+            add(size, item);
+            return true;
+        }
+
+        @Override
+        public void add(int index, T item) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            T added = registry.type.cast(item);
+            // Grown first, so a full store throws before the item is counted as held
+            ensureCapacity(size + 1);
+            int value = registry.acquire(added);
+            for (int i = size; i > index; i--) {
+                store.write(address + i, store.read(address + i - 1));
+            }
+            store.write(address + index, value);
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public T set(int index, T item) {
+            checkIndex(index);
+            T previous = get(index);
+            int value = registry.acquire(registry.type.cast(item));
+            registry.release(store.read(address + index));
+            store.write(address + index, value);
+            return previous;
+        }
+
+        @Override
+        public T remove(int index) {
+            checkIndex(index);
+            T removed = get(index);
+            int value = store.read(address + index);
+            for (int i = index; i < size - 1; i++) {
+                store.write(address + i, store.read(address + i + 1));
+            }
+            size--;
+            modCount++;
+            registry.release(value);
+            // An emptied list, such as the roster of a removed section, gives its region back
+            if (size == 0) {
+                freeRegion();
+            }
+            return removed;
+        }
+
+        /**
+         * Finds an element by comparing stored indexes, without looking up any object.
+         */
+        @Override
+        public int indexOf(Object item) {
+            int value = registry.indexOf(item);
+            if (value < 0) {
+                return -1;
+            }
+            for (int i = 0; i < size; i++) {
+                if (store.read(address + i) == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(Object item) {
+            return indexOf(item) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object item) {
+            int index = indexOf(item);
+            if (index < 0) {
+                return false;
+            }
+            remove(index);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            for (int i = 0; i < size; i++) {
+                registry.release(store.read(address + i));
+            }
+            freeRegion();
+            size = 0;
+            modCount++;
+        }
+
+        /**
+         * Returns the list's region to the store, if it has one.
+         */
+        private void freeRegion() {
+            if (address >= 0) {
+                store.free(address, sizeClass);
+                address = -1;
+            }
+        }
+
+        /**
+         * Moves the list to a larger region if it cannot hold a number of elements.
+         *
+         * @param capacity the number of elements needed
+         */
+        private void ensureCapacity(int capacity) {
+            if (address >= 0 && capacity <= 1 << sizeClass) {
+                return;
+            }
+            int newClass = sizeClass(capacity);
+            int newAddress = store.allocate(newClass);
+            for (int i = 0; i < size; i++) {
+                store.write(newAddress + i, store.read(address + i));
+            }
+            if (address >= 0) {
+                store.free(address, sizeClass);
+            }
+            address = newAddress;
+            sizeClass = newClass;
+        }
+
+        /**
+         * Throws if an index is outside the list.
+         *
+         * @param index the index to check
+         */
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package model;
 
 import java.time.DayOfWeek;
-import java.util.ArrayList;
 import java.util.List;
 
 import util.ColumnExtractor;
@@ -19,6 +18,16 @@ public class Student extends User {
     private List<CourseSection> enrolledCourses;
     private boolean advisingHold;
 
+    /**
+     * The weekly time occupied by the enrolled courses, used to rule out time conflicts quickly.
+     */
+    private WeeklyOccupancy occupancy;
+
+    /**
+     * The index of the student in the installed {@link RosterStore}, or -1 while it is on no stored list.
+     */
+    volatile int rosterIndex = -1;
+
     /**
      * Constructs a Student with specified details.
      *
@@ -29,8 +38,27 @@ public class Student extends User {
      */
     public Student(String name, String email, String password, boolean advisingHold) {
         super(String.valueOf(++lastAssignedId), name, email, password);
-        this.enrolledCourses = new ArrayList<>();
+        this.enrolledCourses = RosterStore.newSchedule();
         this.advisingHold = advisingHold;
+        this.occupancy = new WeeklyOccupancy();
+    }
+
+    /**
+     * Constructs a Student with an existing ID, such as one restored from saved data.
+     * Students created afterwards are given IDs after this one.
+     *
+     * @param id the ID of the student
+     * @param name the name of the student
+     * @param email the email of the student
+     * @param password the password of the student
+     * @param advisingHold the advising hold status of the student
+     */
+    public Student(String id, String name, String email, String password, boolean advisingHold) {
+        super(id, name, email, password);
+        lastAssignedId = Math.max(lastAssignedId, Integer.parseInt(id));
+        this.enrolledCourses = RosterStore.newSchedule();
+        this.advisingHold = advisingHold;
+        this.occupancy = new WeeklyOccupancy();
     }
 
     /**
@@ -45,34 +73,84 @@ public class Student extends User {
     /**
      * Attempts to enroll the student in a course section.
      * 
-     * Enrollment is denied if the student has an advising hold, is already enrolled 
+     * Enrollment is denied if the section is full, the student has an advising hold, is already enrolled 
      * in another section of the same course, or if there is a time conflict with an 
-     * existing course.
+     * existing course. A seat is reserved before any other check so full sections are
+     * rejected without touching the roster.
      *
      * @param course the course section to enroll in
      * @return {@code true} if enrollment is successful, {@code false} otherwise
      */
     public boolean enroll(CourseSection course) {
-        if (advisingHold) {
-            System.out.println("There is currently an advising hold for: " + this.getName());
+        if (!course.reserveSeat()) {
+            System.out.println("This section is at capacity");
             return false;
         }
-        
-        for (CourseSection section : enrolledCourses) {
-            if (course.getCourse() == section.getCourse()) {
+        switch (checkEnrollment(course)) {
+            case ADVISING_HOLD:
+                course.releaseSeat();
+                System.out.println("There is currently an advising hold for: " + this.getName());
+                return false;
+            case ALREADY_REGISTERED:
+                course.releaseSeat();
                 System.out.println(this.getName() + " is already registered for: " + course.getCourse().getId());
                 return false;
+            case TIME_CONFLICT:
+                course.releaseSeat();
+                System.out.println("Cannot register due to time conflict.");
+                return false;
+            default:
+                return course.confirmSeat(this);
+        }
+    }
+
+    /**
+     * Checks if the student may enroll in a course section without printing anything.
+     * The section's capacity is not checked.
+     *
+     * @param course the course section to check
+     * @return {@link EnrollmentStatus#ELIGIBLE} if the student may enroll, otherwise the reason they may not
+     */
+    public EnrollmentStatus checkEnrollment(CourseSection course) {
+        if (advisingHold) {
+            return EnrollmentStatus.ADVISING_HOLD;
+        }
+        for (CourseSection section : enrolledCourses) {
+            if (course.getCourse() == section.getCourse()) {
+                return EnrollmentStatus.ALREADY_REGISTERED;
+            }
+        }
+        if (hasTimeConflict(course)) {
+            return EnrollmentStatus.TIME_CONFLICT;
+        }
+        return EnrollmentStatus.ELIGIBLE;
+    }
+
+    /**
+     * Checks if a course section meets at the same time as any enrolled course.
+     * The weekly occupancy bitmaps rule out most sections without comparing time slots;
+     * only sections that share a bucket are checked exactly with {@link TimeSlot#conflictsWith(TimeSlot)}.
+     *
+     * @param course the course section to check
+     * @return {@code true} if there is a time conflict, {@code false} otherwise
+     */
+    public boolean hasTimeConflict(CourseSection course) {
+        if (!occupancy.intersects(course.getOccupancy())) {
+            return false;
+        }
+        for (CourseSection section : enrolledCourses) {
+            if (!section.getOccupancy().intersects(course.getOccupancy())) {
+                continue;
             }
             for (TimeSlot existingSlot : section.getTimeSlots()) {
                 for (TimeSlot newSlot : course.getTimeSlots()) {
                     if (existingSlot.conflictsWith(newSlot)) {
-                        System.out.println("Cannot register due to time conflict.");
-                        return false;
+                        return true;
                     }
                 }
             }
         }
-        return course.enrollStudent(this);
+        return false;
     }
 
     /**
@@ -170,6 +248,30 @@ public class Student extends User {
     }
     
 
+    /**
+     * Adds a course section to the student's enrolled courses and weekly occupancy.
+     *
+     * @param course the course section to add
+     */
+    void addEnrolledCourse(CourseSection course) {
+        enrolledCourses.add(course);
+        occupancy.addAll(course.getOccupancy());
+    }
+
+    /**
+     * Removes a course section from the student's enrolled courses and rebuilds the weekly occupancy.
+     *
+     * @param course the course section to remove
+     */
+    void removeEnrolledCourse(CourseSection course) {
+        if (enrolledCourses.remove(course)) {
+            occupancy.clear();
+            for (CourseSection section : enrolledCourses) {
+                occupancy.addAll(section.getOccupancy());
+            }
+        }
+    }
+
     /**
      * Returns the list of courses the student is enrolled in.
      *
@@ -0,0 +1,147 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Represents the bounded first-in, first-out waitlist of a course section.
+ * When a seat opens up, the section promotes waitlisted students on a background thread,
+ * so students waiting for a full section do not have to keep retrying.
+ *
+ * All methods are thread-safe.
+ *
+ * @version Oct 17, 2026
+ */
+public class Waitlist {
+    /**
+     * The single background thread that promotes waitlisted students for every section.
+     */
+    static final ExecutorService promotionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waitlist-promotion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The maximum number of students on the waitlist.
+     */
+    private final int capacity;
+
+    /**
+     * The waitlisted students in the order they joined.
+     */
+    private final ArrayDeque<Student> students;
+
+    /**
+     * Constructs an empty Waitlist with the specified capacity.
+     *
+     * @param capacity the maximum number of students on the waitlist
+     */
+    public Waitlist(int capacity) {
+        this.capacity = capacity;
+        this.students = new ArrayDeque<>();
+    }
+
+    /**
+     * Adds a student to the end of the waitlist.
+     *
+     * @param student the student to add
+     * @return {@code true} if the student was added, {@code false} if the waitlist is full or already has the student
+     */
+    public synchronized boolean add(Student student) {
+        if (students.size() >= capacity || students.contains(student)) {
+            return false;
+        }
+        students.addLast(student);
+        return true;
+    }
+
+    /**
+     * Removes a student from the waitlist.
+     *
+     * @param student the student to remove
+     * @return {@code true} if the student was on the waitlist, {@code false} otherwise
+     */
+    public synchronized boolean remove(Student student) {
+        return students.remove(student);
+    }
+
+    /**
+     * Removes and returns the student at the front of the waitlist.
+     *
+     * @return the next student, or {@code null} if the waitlist is empty
+     */
+    public synchronized Student poll() {
+        return students.pollFirst();
+    }
+
+    /**
+     * Puts a student back at the front of the waitlist after a failed promotion.
+     *
+     * @param student the student to put back
+     */
+    synchronized void requeue(Student student) {
+        students.addFirst(student);
+    }
+
+    /**
+     * Removes every student from the waitlist.
+     */
+    public synchronized void clear() {
+        students.clear();
+    }
+
+    /**
+     * Checks if a student is on the waitlist.
+     *
+     * @param student the student to check
+     * @return {@code true} if the student is on the waitlist, {@code false} otherwise
+     */
+    public synchronized boolean contains(Student student) {
+        return students.contains(student);
+    }
+
+    /**
+     * Returns the number of students on the waitlist.
+     *
+     * @return the number of waitlisted students
+     */
+    public synchronized int size() {
+        return students.size();
+    }
+
+    /**
+     * Returns the maximum number of students on the waitlist.
+     *
+     * @return the waitlist capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns a copy of the waitlisted students in order.
+     *
+     * @return the list of waitlisted students
+     */
+    public synchronized List<Student> getStudents() {
+        return new ArrayList<>(students);
+    }
+
+    /**
+     * Waits until every promotion scheduled so far has finished.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public static void awaitPromotions() throws InterruptedException {
+        try {
+            promotionExecutor.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
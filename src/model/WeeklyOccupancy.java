@@ -0,0 +1,130 @@
+package model;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Represents the time a schedule occupies during the week as a bitmap of 5-minute buckets.
+ * Each bit covers one bucket of one day, so checking two schedules for overlap is a handful
+ * of AND operations instead of comparing every pair of time slots.
+ *
+ * A time slot marks every bucket from the one containing its start time through the one
+ * containing its end time, inclusive. Two slots that conflict according to
+ * {@link TimeSlot#conflictsWith(TimeSlot)} therefore always share a bucket, so an empty
+ * intersection proves there is no conflict. A non-empty intersection only means the slots
+ * are close, and {@link TimeSlot#conflictsWith(TimeSlot)} must be used to confirm it.
+ *
+ * @version Oct 17, 2026
+ */
+public class WeeklyOccupancy {
+    /**
+     * The number of minutes covered by one bucket.
+     */
+    private static final int minutesPerBucket = 5;
+
+    /**
+     * The number of buckets in one day.
+     */
+    private static final int bucketsPerDay = 24 * 60 / minutesPerBucket;
+
+    /**
+     * The occupied buckets for Monday through Sunday, 64 buckets per word.
+     */
+    private final long[] words = new long[(7 * bucketsPerDay + 63) / 64];
+
+    /**
+     * Constructs an empty WeeklyOccupancy.
+     */
+    public WeeklyOccupancy() {
+    }
+
+    /**
+     * Constructs a WeeklyOccupancy covering the given time slots.
+     *
+     * @param timeSlots the time slots to mark as occupied
+     */
+    public WeeklyOccupancy(List<TimeSlot> timeSlots) {
+        for (TimeSlot slot : timeSlots) {
+            add(slot);
+        }
+    }
+
+    /**
+     * Marks the buckets covered by a time slot as occupied.
+     *
+     * @param slot the time slot to add
+     */
+    public void add(TimeSlot slot) {
+        int dayOffset = (slot.getDay().getValue() - 1) * bucketsPerDay;
+        int start = bucketOf(slot.getStartTime());
+        int end = bucketOf(slot.getEndTime());
+        setRange(dayOffset + Math.min(start, end), dayOffset + Math.max(start, end));
+    }
+
+    /**
+     * Marks every bucket occupied in another WeeklyOccupancy as occupied in this one.
+     *
+     * @param other the occupancy to merge into this one
+     */
+    public void addAll(WeeklyOccupancy other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Clears every occupied bucket.
+     */
+    public void clear() {
+        for (int i = 0; i < words.length; i++) {
+            words[i] = 0L;
+        }
+    }
+
+    /**
+     * Checks if this occupancy shares any bucket with another.
+     *
+     * @param other the occupancy to compare against
+     * @return {@code true} if at least one bucket is occupied in both, {@code false} otherwise
+     */
+    public boolean intersects(WeeklyOccupancy other) {
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & other.words[i]) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the bucket within a day that contains the given time.
+     *
+     * @param time the time of day
+     * @return the bucket index within the day
+     */
+    private static int bucketOf(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / minutesPerBucket;
+    }
+
+    /**
+     * Sets every bit from first to last, inclusive.
+     *
+     * @param first the first bit to set
+     * @param last the last bit to set
+     */
+    private void setRange(int first, int last) {
+        int firstWord = first >>> 6;
+        int lastWord = last >>> 6;
+        long firstMask = -1L << (first & 63);
+        long lastMask = -1L >>> (63 - (last & 63));
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+}
@@ -1,15 +1,31 @@
 package system;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import model.Admin;
 import model.Instructor;
 import model.Permissions;
+import model.Role;
+import model.RoleSet;
 import model.Student;
 import model.User;
 import util.ColumnExtractor;
+import util.Console;
+import util.LruCache;
+import util.PasswordHasher;
 import util.TablePrinter;
 import util.Util;
 
@@ -18,20 +34,67 @@ import util.Util;
  * This class provides methods to authenticate users, create new users,
  * and manage existing users. It also generates default credentials
  * for new users and displays user information in a formatted table.
+ * Methods that change users are synchronized so a {@link Snapshot} can copy them consistently.
  *
  * @version Feb 24, 2025
  */
 
 public class AccountManager {
-    private List<User> users;
+    /**
+     * The users in the system keyed by user ID, in the order they were added.
+     * Synchronized so lookups from many sessions are safe; copies of every user are taken while holding this manager.
+     */
+    private Map<String, User> usersById;
+
+    /**
+     * The users in the system keyed by lower case email.
+     * Concurrent so logins from many threads can read it while accounts are being added.
+     */
+    private Map<String, User> usersByEmail;
+
+    /**
+     * Tracks the email addresses in use so new ones can be generated without scanning all users.
+     */
+    private EmailAllocator emailAllocator;
+
+    /**
+     * Records changes to user accounts in the write-ahead log, or {@code null} if nothing is saved.
+     */
+    private PersistenceManager persistence;
+
+    /**
+     * The work factor new passwords are hashed with; see {@link PasswordHasher}.
+     */
+    private int hashIterations = PasswordHasher.defaultIterations;
+
+    /**
+     * Recently verified logins, keyed by user ID and password fingerprint, with the stored hash each was
+     * checked against. A repeat login skips the slow hash check for as long as the stored hash is unchanged.
+     */
+    private LruCache<String, String> verifiedCredentials = new LruCache<>(defaultCredentialCacheSize);
+
+    /**
+     * A hash with the current work factor that logins for unknown emails are checked against, made on first use,
+     * so those logins take as long as a wrong password and do not reveal which emails have accounts.
+     */
+    private volatile String missingUserHash;
+
+    /**
+     * The roles admins can be given and the permissions each combination of roles resolves to.
+     */
+    private final RoleManager roleManager = new RoleManager();
+    private static final int defaultCredentialCacheSize = 50_000;
     private static final String domain = "university.edu";
-    private final Scanner input = new Scanner(System.in);
+    static final Pattern namePattern = Pattern.compile("^[a-zA-Z]+\\s+[a-zA-Z]+$");
+    private static final Pattern whitespacePattern = Pattern.compile("\\s+");
 
     /**
      * Constructs an AccountManager with an empty list of users.
      */
     public AccountManager() {
-        this.users = new ArrayList<>();
+        this.usersById = Collections.synchronizedMap(new LinkedHashMap<>());
+        this.usersByEmail = new ConcurrentHashMap<>();
+        this.emailAllocator = new EmailAllocator();
     }
 
     /**
@@ -49,31 +112,75 @@ public class AccountManager {
         } else if (email.equals("instructoroveride")) {
             return new Instructor("Instructor", "instructoroveride", "instructoroveride");
         }
-        for (User user : users) {
-            if (user.getEmail().equals(email) && user.getPassword().equals(password)) {
-                return user;
-            }
+        if (password == null) {
+            return null;
+        }
+        User user = getUserByEmail(email);
+        if (user == null) {
+            PasswordHasher.verify(password, missingUserHash());
+            return null;
+        }
+        String stored = user.getPassword();
+        String key = user.getId() + ":" + PasswordHasher.fingerprint(password);
+        if (stored != null && stored.equals(verifiedCredentials.get(key))) {
+            return user;
+        }
+        if (PasswordHasher.verify(password, stored)) {
+            verifiedCredentials.put(key, stored);
+            return user;
         }
         return null;
     }
 
     /**
-     * Adds a user to the system.
+     * Adds a user to the system, replacing their password with its hash.
      *
      * @param user the user to add
      * @return {@code true} if the user is added successfully, {@code false} otherwise
      */
     public boolean addUser(User user) {
-        if (users.contains(user)) {
-            System.out.println("User already exists");
-            return false;
-        }
+        return addUser(user, false);
+    }
+
+    /**
+     * Adds a user restored from saved data. A password that is already a hash is kept as it is;
+     * only saved data may do this, so anything typed by a user goes through {@link #addUser(User)}.
+     *
+     * @param user the user to add
+     * @return {@code true} if the user is added successfully, {@code false} otherwise
+     */
+    public boolean addRestoredUser(User user) {
+        return addUser(user, true);
+    }
+
+    /**
+     * Adds a user to the system.
+     *
+     * @param user the user to add
+     * @param restoring true to keep a password that is already a hash
+     * @return {@code true} if the user is added successfully, {@code false} otherwise
+     */
+    private boolean addUser(User user, boolean restoring) {
         if (user == null) {
             System.out.println("Invalid User");
             return false;
         }
-        users.add(user);
-        return true;
+        // Hashed before taking the lock so other account changes do not wait for it
+        String stored = restoring ? restoredPassword(user.getPassword()) : hashPassword(user.getPassword());
+        synchronized (this) {
+            if (usersById.containsKey(user.getId()) || usersByEmail.containsKey(normalizeEmail(user.getEmail()))) {
+                System.out.println("User already exists");
+                return false;
+            }
+            user.setPassword(stored);
+            usersById.put(user.getId(), user);
+            usersByEmail.put(normalizeEmail(user.getEmail()), user);
+            emailAllocator.register(user.getEmail());
+            if (persistence != null) {
+                persistence.userAdded(user);
+            }
+            return true;
+        }
     }
 
     /**
@@ -82,12 +189,438 @@ public class AccountManager {
      * @param user the user to remove
      * @return {@code true} if the user is removed successfully, {@code false} otherwise
      */
-    public boolean removeUser(User user) {
-        if (user == null || !users.contains(user)) {
+    public synchronized boolean removeUser(User user) {
+        if (user == null || usersById.get(user.getId()) != user) {
             System.out.println("User does not exist.");
             return false;
         }
-        return users.remove(user);
+        usersById.remove(user.getId());
+        usersByEmail.remove(normalizeEmail(user.getEmail()));
+        if (persistence != null) {
+            persistence.userRemoved(user);
+        }
+        return true;
+    }
+
+    /**
+     * Changes a user's password and clears the password reset requirement.
+     * Logins verified with the old password are no longer accepted from the cache.
+     *
+     * @param user the user whose password to change
+     * @param newPassword the new password, which is hashed even if it looks like a hash
+     */
+    public void changePassword(User user, String newPassword) {
+        setPassword(user, hashPassword(newPassword));
+    }
+
+    /**
+     * Sets a user's password to one restored from saved data and clears the password reset requirement.
+     * A password that is already a hash is kept as it is.
+     *
+     * @param user the user whose password to set
+     * @param storedPassword the saved password
+     */
+    public void restorePassword(User user, String storedPassword) {
+        setPassword(user, restoredPassword(storedPassword));
+    }
+
+    /**
+     * Stores a user's new password and clears the password reset requirement.
+     *
+     * @param user the user
+     * @param stored the value to store
+     */
+    private synchronized void setPassword(User user, String stored) {
+        user.setPassword(stored);
+        user.setNeedsPasswordReset(false);
+        if (persistence != null) {
+            persistence.passwordChanged(user);
+        }
+    }
+
+    /**
+     * Returns the hash to store for a password typed by a user.
+     *
+     * @param password the password
+     * @return the hash to store
+     */
+    private String hashPassword(String password) {
+        return password == null ? null : PasswordHasher.hash(password, hashIterations);
+    }
+
+    /**
+     * Returns the value to store for a saved password: the password itself if it is already a hash,
+     * or its hash if it was saved as plain text.
+     *
+     * @param password the saved password
+     * @return the hash to store
+     */
+    private String restoredPassword(String password) {
+        return password == null || PasswordHasher.isHash(password) ? password : hashPassword(password);
+    }
+
+    /**
+     * Returns the hash logins for unknown emails are checked against, making it if the work factor changed.
+     *
+     * @return a hash with the current work factor
+     */
+    private String missingUserHash() {
+        String hash = missingUserHash;
+        if (hash == null) {
+            hash = PasswordHasher.hash("", hashIterations);
+            missingUserHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the work factor new passwords are hashed with.
+     *
+     * @return the number of PBKDF2 iterations
+     */
+    public int getHashIterations() {
+        return hashIterations;
+    }
+
+    /**
+     * Sets the work factor new passwords are hashed with. Existing passwords keep the work factor they were hashed with.
+     *
+     * @param iterations the number of PBKDF2 iterations
+     * @throws IllegalArgumentException if the work factor is not positive or is above {@link PasswordHasher#maxIterations}
+     */
+    public void setHashIterations(int iterations) {
+        if (iterations <= 0 || iterations > PasswordHasher.maxIterations) {
+            throw new IllegalArgumentException("The work factor must be between 1 and " + PasswordHasher.maxIterations);
+        }
+        this.hashIterations = iterations;
+        this.missingUserHash = null;
+    }
+
+    /**
+     * Sets how many recently verified logins are remembered, clearing the ones remembered so far.
+     *
+     * @param size the most logins to remember; 0 checks every login against its hash
+     */
+    public void setCredentialCacheSize(int size) {
+        this.verifiedCredentials = new LruCache<>(size);
+    }
+
+    /**
+     * Sets the advising hold status of a student.
+     *
+     * @param student the student
+     * @param advisingHold the new advising hold status
+     */
+    public synchronized void setAdvisingHold(Student student, boolean advisingHold) {
+        student.setAdvisingHold(advisingHold);
+        if (persistence != null) {
+            persistence.advisingHoldChanged(student);
+        }
+    }
+
+    /**
+     * Grants a permission to an admin.
+     *
+     * @param admin the admin
+     * @param permission the name of the permission to grant
+     * @return true if the permission exists, false otherwise
+     */
+    public synchronized boolean grantPermission(Admin admin, String permission) {
+        if (!admin.addPermission(permission)) {
+            return false;
+        }
+        if (persistence != null) {
+            persistence.permissionsChanged(admin);
+        }
+        return true;
+    }
+
+    /**
+     * Revokes a permission from an admin.
+     *
+     * @param admin the admin
+     * @param permission the name of the permission to revoke
+     * @return true if the permission exists, false otherwise
+     */
+    public synchronized boolean revokePermission(Admin admin, String permission) {
+        if (!admin.revokePermission(permission)) {
+            return false;
+        }
+        if (persistence != null) {
+            persistence.permissionsChanged(admin);
+        }
+        return true;
+    }
+
+    /**
+     * Grants every permission to an admin.
+     *
+     * @param admin the admin
+     */
+    public synchronized void grantAllPermissions(Admin admin) {
+        admin.grantAllPermissions();
+        if (persistence != null) {
+            persistence.permissionsChanged(admin);
+        }
+    }
+
+    /**
+     * Adds a role, or replaces the permissions of an existing role. Every admin holding the role
+     * has the new permissions at once.
+     *
+     * @param name the name of the role
+     * @param permissions the permissions the role gives
+     * @return true if the role was saved, false if the name is not a valid role name
+     */
+    public synchronized boolean defineRole(String name, Collection<Permissions> permissions) {
+        if (Role.normalizeName(name) == null) {
+            return false;
+        }
+        Role role = new Role(name, permissions);
+        roleManager.define(role);
+        if (persistence != null) {
+            persistence.roleDefined(role);
+        }
+        return true;
+    }
+
+    /**
+     * Grants permissions to a role, and so to every admin holding it.
+     *
+     * @param name the name of the role
+     * @param permissions the permissions to grant
+     * @return true if the role exists, false otherwise
+     */
+    public synchronized boolean grantToRole(String name, Collection<Permissions> permissions) {
+        Role role = roleManager.getRole(name);
+        if (role == null) {
+            return false;
+        }
+        EnumSet<Permissions> granted = EnumSet.noneOf(Permissions.class);
+        granted.addAll(role.getPermissions());
+        granted.addAll(permissions);
+        return defineRole(role.getName(), granted);
+    }
+
+    /**
+     * Revokes permissions from a role, and so from every admin holding it unless granted to them another way.
+     *
+     * @param name the name of the role
+     * @param permissions the permissions to revoke
+     * @return true if the role exists, false otherwise
+     */
+    public synchronized boolean revokeFromRole(String name, Collection<Permissions> permissions) {
+        Role role = roleManager.getRole(name);
+        if (role == null) {
+            return false;
+        }
+        EnumSet<Permissions> remaining = EnumSet.noneOf(Permissions.class);
+        remaining.addAll(role.getPermissions());
+        remaining.removeAll(permissions);
+        return defineRole(role.getName(), remaining);
+    }
+
+    /**
+     * Removes a role, taking it from every admin holding it first.
+     *
+     * @param name the name of the role
+     * @return true if the role was removed, false if it does not exist
+     */
+    public synchronized boolean removeRole(String name) {
+        Role role = roleManager.getRole(name);
+        if (role == null) {
+            return false;
+        }
+        beginBatch();
+        try {
+            unassignRole(getAdmins(), role.getName());
+            roleManager.remove(role.getName());
+            if (persistence != null) {
+                persistence.roleRemoved(role);
+            }
+        } finally {
+            endBatch();
+        }
+        return true;
+    }
+
+    /**
+     * Gives an admin exactly the given roles, replacing the roles they held.
+     *
+     * @param admin the admin
+     * @param roleNames the names of the roles
+     * @return true if the roles were given, false if one of them does not exist
+     */
+    public synchronized boolean setRoles(Admin admin, Collection<String> roleNames) {
+        RoleSet roles = roleManager.resolve(roleNames);
+        if (roles == null) {
+            return false;
+        }
+        if (admin.getRoleSet() != roles) {
+            admin.setRoleSet(roles);
+            if (persistence != null) {
+                persistence.rolesChanged(admin);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gives a role to several admins at once. Admins who already hold it are left unchanged.
+     *
+     * @param admins the admins
+     * @param name the name of the role
+     * @return true if the role exists, false otherwise
+     */
+    public synchronized boolean assignRole(Collection<Admin> admins, String name) {
+        Role role = roleManager.getRole(name);
+        if (role == null) {
+            return false;
+        }
+        beginBatch();
+        try {
+            for (Admin admin : admins) {
+                Set<String> roleNames = new TreeSet<>(admin.getRoleSet().getRoleNames());
+                if (roleNames.add(role.getName())) {
+                    setRoles(admin, roleNames);
+                }
+            }
+        } finally {
+            endBatch();
+        }
+        return true;
+    }
+
+    /**
+     * Takes a role from several admins at once. Admins who do not hold it are left unchanged.
+     *
+     * @param admins the admins
+     * @param name the name of the role
+     * @return true if the role exists, false otherwise
+     */
+    public synchronized boolean unassignRole(Collection<Admin> admins, String name) {
+        Role role = roleManager.getRole(name);
+        if (role == null) {
+            return false;
+        }
+        beginBatch();
+        try {
+            for (Admin admin : admins) {
+                Set<String> roleNames = new TreeSet<>(admin.getRoleSet().getRoleNames());
+                if (roleNames.remove(role.getName())) {
+                    setRoles(admin, roleNames);
+                }
+            }
+        } finally {
+            endBatch();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the roles admins can be given.
+     *
+     * @return the role manager
+     */
+    public RoleManager getRoleManager() {
+        return roleManager;
+    }
+
+    /**
+     * Creates students for a batch of names, holding the lock once for the whole batch instead of once per student.
+     * Each student is given the next free email address and a default password, and must change it at first login.
+     *
+     * @param names the names of the students, each a first and last name separated by a space
+     * @return the created students in the same order as their names
+     * @throws IllegalArgumentException if any name is invalid, in which case no students are created
+     */
+    public List<Student> createStudents(List<String> names) {
+        return createStudents(names, new ArrayList<>(names.size()));
+    }
+
+    /**
+     * Creates students for a batch of names, holding the lock once for the whole batch instead of once per student.
+     * Each student is given the next free email address and a default password, and must change it at first login.
+     * The passwords are hashed in parallel before the lock is taken.
+     *
+     * @param names the names of the students, each a first and last name separated by a space
+     * @param defaultPasswords receives each student's default password, in the same order, since only its hash is kept
+     * @return the created students in the same order as their names
+     * @throws IllegalArgumentException if any name is invalid, in which case no students are created
+     */
+    public List<Student> createStudents(List<String> names, List<String> defaultPasswords) {
+        for (String name : names) {
+            if (name == null || !namePattern.matcher(name).matches()) {
+                throw new IllegalArgumentException("Name must include a first and last name separated by a space (First Last).");
+            }
+        }
+        String[][] parts = new String[names.size()][];
+        String[] passwords = new String[names.size()];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = whitespacePattern.split(names.get(i).strip());
+            passwords[i] = defaultPassword(parts[i]);
+        }
+        int iterations = hashIterations;
+        String[] hashes = IntStream.range(0, passwords.length).parallel()
+                .mapToObj(i -> PasswordHasher.hash(passwords[i], iterations))
+                .toArray(String[]::new);
+
+        List<Student> students = new ArrayList<>(names.size());
+        synchronized (this) {
+            for (int i = 0; i < parts.length; i++) {
+                String email = emailAllocator.reserveEmail(baseEmail(parts[i]), domain);
+                Student student = new Student(names.get(i), email, hashes[i], false);
+                usersById.put(student.getId(), student);
+                usersByEmail.put(normalizeEmail(email), student);
+                if (persistence != null) {
+                    persistence.userAdded(student);
+                }
+                students.add(student);
+            }
+        }
+        defaultPasswords.addAll(Arrays.asList(passwords));
+        return students;
+    }
+
+    /**
+     * Starts recording user changes made by the current thread without waiting for each to reach the disk.
+     * Used for bulk changes; {@link #endBatch()} then waits for all of them at once.
+     */
+    public void beginBatch() {
+        if (persistence != null) {
+            persistence.beginBatch();
+        }
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()} and waits until its changes are on disk.
+     */
+    public void endBatch() {
+        if (persistence != null) {
+            persistence.endBatch();
+        }
+    }
+
+    /**
+     * Retrieves a user by their ID.
+     *
+     * @param id the ID of the user
+     * @return the User object if found, or null if not found
+     */
+    public User getUserById(String id) {
+        if (id == null) {
+            return null;
+        }
+        return usersById.get(id);
+    }
+
+    /**
+     * Sets where changes to user accounts are recorded.
+     *
+     * @param persistence the persistence manager, or {@code null} to stop recording changes
+     */
+    public void setPersistence(PersistenceManager persistence) {
+        this.persistence = persistence;
     }
 
     /**
@@ -97,12 +630,34 @@ public class AccountManager {
      * @return the User object if found, or null if not found
      */
     public User getUserByIdOrEmail(String value) {
-        for (User user : users) {
-            if (user.getEmail().equals(value) || user.getId().equals(value)) {
-                return user;
-            }
+        if (value == null) {
+            return null;
         }
-        return null;
+        User user = getUserByEmail(value);
+        return user != null ? user : usersById.get(value);
+    }
+
+    /**
+     * Retrieves a user by their email, ignoring case.
+     *
+     * @param email the email of the user
+     * @return the User object if found, or null if not found
+     */
+    public User getUserByEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        return usersByEmail.get(normalizeEmail(email));
+    }
+
+    /**
+     * Normalizes an email for use as an index key.
+     *
+     * @param email the email to normalize
+     * @return the lower case email
+     */
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase();
     }
 
     /**
@@ -164,33 +719,22 @@ public class AccountManager {
             throw new IllegalArgumentException("Name cannot be empty or null.");
         }
 
-        if (!name.matches("^[a-zA-Z]+\\s+[a-zA-Z]+$")) {
+        if (!namePattern.matcher(name).matches()) {
             throw new IllegalArgumentException("Name must include a first and last name separated by a space (First Last).");
         }
 
-        String[] parts = name.strip().split("\\s+");
-    
-        String firstName = parts[0];
-        String lastName = parts[1];
-        String baseEmail = firstName.toLowerCase().charAt(0) + lastName.toLowerCase();
-                           
-        if (users.isEmpty()) {
-            return baseEmail + "@" + domain;
-        }
-
-        int max = 0;
-        boolean baseExists = false;
-        for (User user : users) {
-            if (user.getEmail().startsWith(baseEmail)) {
-                baseExists = true;
-                String existingEmail = user.getEmail().replace("@" + domain, "");
-                String number = existingEmail.replace(baseEmail, "");
-                int num = number.isEmpty() ? 0 : Integer.parseInt(number);
-                max = Math.max(num, max);
-            }
-        }
+        String[] parts = whitespacePattern.split(name.strip());
+        return emailAllocator.nextEmail(baseEmail(parts), domain);
+    }
 
-        return baseExists ? baseEmail + (max + 1) + "@" + domain : baseEmail + "@" + domain;
+    /**
+     * Returns the local part of an email address before any suffix: the first initial followed by the last name.
+     *
+     * @param parts the first and last name
+     * @return the lower case base email
+     */
+    private static String baseEmail(String[] parts) {
+        return parts[0].toLowerCase().charAt(0) + parts[1].toLowerCase();
     }
 
     /**
@@ -204,21 +748,28 @@ public class AccountManager {
             throw new IllegalArgumentException("Name cannot be empty or null.");
         }
 
-        if (!name.matches("^[a-zA-Z]+\\s+[a-zA-Z]+$")) {
+        if (!namePattern.matcher(name).matches()) {
             throw new IllegalArgumentException("Name must include a first and last name separated by a space (First Last).");
         }
     
-        String[] parts = name.strip().split("\\s+");
-    
-        Random rand = new Random();
-        int num = rand.nextInt(9000) + 1000;
-        return parts[0] + num;
+        return defaultPassword(whitespacePattern.split(name.strip()));
     }
 
     /**
-     * Displays the list of users in a formatted table.
+     * Returns a default password: the first name followed by four random digits.
+     *
+     * @param parts the first and last name
+     * @return the default password
+     */
+    private static String defaultPassword(String[] parts) {
+        return parts[0] + (ThreadLocalRandom.current().nextInt(9000) + 1000);
+    }
+
+    /**
+     * Displays the list of users in a formatted table, a page at a time.
      */
     public void displayUsers() {
+        List<User> users = getUsers();
         if (users.isEmpty()) {
             System.out.println("There are no users");
             return;
@@ -232,45 +783,60 @@ public class AccountManager {
         );
 
         TablePrinter<User> printer = new TablePrinter<>(headers, extractors, users);
-        printer.printTable();
+        printer.printPaged();
     }
 
     /**
-     * Gets the list of users.
+     * Gets the list of users in the order they were added.
+     * The returned list is a copy; use {@link #addUser(User)} and {@link #removeUser(User)} to modify users.
      *
      * @return the list of users
      */
-    public List<User> getUsers() {
-        return users;
+    public synchronized List<User> getUsers() {
+        return new ArrayList<>(usersById.values());
     }
 
     /**
      * Sets advising holds to true for all students in the system.
      */
-    public void setAllAdvisingHoldsTrue() {
-        for (User user : users) {
+    public synchronized void setAllAdvisingHoldsTrue() {
+        for (User user : usersById.values()) {
             if (user instanceof Student student) {
                 student.setAdvisingHold(true);
             }
         }
+        if (persistence != null) {
+            persistence.allAdvisingHoldsSet();
+        }
     }
 
     /**
-     * Displays all admins in the system in a formatted table.
+     * Returns every admin in the system.
+     *
+     * @return a list of the admins, in the order they were added
      */
-    public void viewAllAdmins() {
+    public synchronized List<Admin> getAdmins() {
         List<Admin> admins = new ArrayList<>();
-        for (User user : users) {
+        for (User user : usersById.values()) {
             if (user instanceof Admin admin) {
                 admins.add(admin);
             }
         }
+        return admins;
+    }
+
+    /**
+     * Displays all admins in the system in a formatted table.
+     */
+    public void viewAllAdmins() {
+        List<Admin> admins = getAdmins();
 
-        List<String> headers = List.of("Name", "Email", "Permissions");
+        List<String> headers = List.of("Name", "Email", "Roles", "Permissions");
 
         List<ColumnExtractor<Admin>> extractors = List.of(
                 Admin::getName,
                 Admin::getEmail,
+                Admin::getRolesFormatted,
                 Admin::getPermissionsFormatted);
 
         TablePrinter<Admin> printer = new TablePrinter<>(headers, extractors, admins);
@@ -278,6 +844,7 @@ public class AccountManager {
     }
     
     private List<String> generateEmailAndPassword() {
+        Scanner input = Console.input();
         String name = null;
         String email = null;
         String password = null;
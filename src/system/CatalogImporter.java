@@ -0,0 +1,368 @@
+package system;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import model.Course;
+import model.TimeSlot;
+
+/**
+ * Loads courses and sections into an {@link EnrollmentSystem} from a CSV file.
+ *
+ * Each row describes one section:
+ * <pre>
+ * id,name,credits,description,day,start,end,capacity
+ * MATH 1241,Calculus 1,3,"Limits, derivatives, and integrals",M/W/F,9:00 AM,9:50 AM,40
+ * </pre>
+ * The day column lists one or more of M, T, W, Th, and F separated by slashes, and the section meets
+ * from start to end on each of them. Rows with the same course ID add more sections to the same course.
+ * Fields containing commas may be quoted, with {@code ""} for a quote inside a quoted field. A first
+ * row naming the columns, as above, is skipped; any other first row is imported as data. A UTF-8 byte
+ * order mark at the start of the file is ignored.
+ *
+ * The file is read in a single pass, a batch of rows at a time. The rows of each batch are parsed and
+ * validated in parallel, then added to the catalog in file order, so CRNs and section IDs are the
+ * same as if the rows had been entered one by one. A row with an error is skipped and reported with
+ * its line number; the other rows are still imported.
+ *
+ * @version Oct 17, 2026
+ */
+public class CatalogImporter {
+    private static final List<String> headerNames = List.of("id", "name", "credits", "description", "day", "start", "end", "capacity");
+    private static final int columnCount = headerNames.size();
+    private static final int batchSize = 4096;
+    private static final String byteOrderMark = "\uFEFF";
+
+    private final EnrollmentSystem enrollmentSystem;
+
+    /**
+     * Constructs a CatalogImporter that adds to an enrollment system.
+     *
+     * @param enrollmentSystem the enrollment system to import into
+     */
+    public CatalogImporter(EnrollmentSystem enrollmentSystem) {
+        this.enrollmentSystem = enrollmentSystem;
+    }
+
+    /**
+     * Imports courses and sections from a UTF-8 CSV file.
+     *
+     * @param file the CSV file
+     * @return the result of the import
+     * @throws IOException if the file cannot be read
+     */
+    public Result importFile(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importCsv(reader);
+        }
+    }
+
+    /**
+     * Imports courses and sections from CSV text.
+     *
+     * @param reader the CSV text
+     * @return the result of the import
+     * @throws IOException if the text cannot be read
+     */
+    public Result importCsv(Reader reader) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        Result result = new Result();
+        List<String> batch = new ArrayList<>(batchSize);
+        int firstLine = 1;
+        int lineNumber = 0;
+        String line;
+        enrollmentSystem.beginBatch();
+        try {
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1) {
+                    // Excel and many other tools start UTF-8 files with a byte order mark
+                    if (line.startsWith(byteOrderMark)) {
+                        line = line.substring(byteOrderMark.length());
+                    }
+                    if (isHeader(line)) {
+                        firstLine = 2;
+                        continue;
+                    }
+                }
+                batch.add(line);
+                if (batch.size() == batchSize) {
+                    importBatch(batch, firstLine, result);
+                    firstLine = lineNumber + 1;
+                    batch.clear();
+                }
+            }
+            importBatch(batch, firstLine, result);
+        } finally {
+            enrollmentSystem.endBatch();
+        }
+        return result;
+    }
+
+    /**
+     * Parses a batch of rows in parallel, then adds them to the catalog in order.
+     *
+     * @param batch the lines of the batch
+     * @param firstLine the line number of the first line in the batch
+     * @param result the result to add counts and errors to
+     */
+    private void importBatch(List<String> batch, int firstLine, Result result) {
+        Row[] rows = new Row[batch.size()];
+        IntStream.range(0, rows.length).parallel().forEach(i -> rows[i] = parseRow(batch.get(i)));
+        for (int i = 0; i < rows.length; i++) {
+            Row row = rows[i];
+            if (row == null) {
+                continue;
+            }
+            result.rowCount++;
+            String error = row.error != null ? row.error : addRow(row, result);
+            if (error != null) {
+                result.errors.add("Line " + (firstLine + i) + ": " + error);
+            }
+        }
+    }
+
+    /**
+     * Adds the course and section of a parsed row to the catalog.
+     *
+     * @param row the parsed row
+     * @param result the result to add counts to
+     * @return an error message, or null if the section was added
+     */
+    private String addRow(Row row, Result result) {
+        Course course = enrollmentSystem.getCourseById(row.id);
+        if (course == null) {
+            Course sameName = enrollmentSystem.getCourseByName(row.name);
+            if (sameName != null) {
+                return "Course name \"" + row.name + "\" is already used by " + sameName.getId();
+            }
+            course = new Course(row.id, row.name, row.description, row.credits);
+            if (!enrollmentSystem.addCourse(course)) {
+                return "Course " + row.id + " could not be added";
+            }
+            result.coursesAdded++;
+        } else if (!course.getName().strip().equalsIgnoreCase(row.name) || course.getCredits() != row.credits) {
+            return "Name or credits do not match existing course " + course.getId();
+        }
+        course.createSection(row.timeSlots, row.capacity);
+        result.sectionsAdded++;
+        return null;
+    }
+
+    /**
+     * Parses and validates one row. Only reads shared immutable state, so rows can be parsed in parallel.
+     *
+     * @param line the line to parse
+     * @return the parsed row, a row holding an error message, or null if the line is blank
+     */
+    private static Row parseRow(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        List<String> fields = splitFields(line);
+        if (fields == null) {
+            return Row.error("Unterminated quoted field");
+        }
+        if (fields.size() != columnCount) {
+            return Row.error("Expected " + columnCount + " fields but found " + fields.size());
+        }
+
+        Row row = new Row();
+        row.id = fields.get(0).strip().toUpperCase();
+        if (!EnrollmentSystem.courseIdPattern.matcher(row.id).matches()) {
+            return Row.error("Invalid course ID \"" + fields.get(0) + "\", expected the format ABCD 1234");
+        }
+        row.name = fields.get(1).strip();
+        if (row.name.isEmpty()) {
+            return Row.error("Course name is empty");
+        }
+        row.credits = parsePositive(fields.get(2));
+        if (row.credits <= 0) {
+            return Row.error("Credits must be a positive number");
+        }
+        row.description = fields.get(3).strip();
+
+        EnumSet<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : fields.get(4).split("/")) {
+            DayOfWeek dayOfWeek = EnrollmentSystem.toDayOfWeek(day);
+            if (dayOfWeek == null) {
+                return Row.error("Invalid day \"" + day.strip() + "\", expected M, T, W, Th, or F");
+            }
+            days.add(dayOfWeek);
+        }
+
+        LocalTime startTime;
+        LocalTime endTime;
+        try {
+            startTime = EnrollmentSystem.parseTime(fields.get(5));
+            endTime = EnrollmentSystem.parseTime(fields.get(6));
+        } catch (DateTimeParseException e) {
+            return Row.error("Invalid time \"" + e.getParsedString() + "\", expected hh:mm AM/PM");
+        }
+        if (!endTime.isAfter(startTime)) {
+            return Row.error("End time must be after start time");
+        }
+        row.timeSlots = new ArrayList<>(days.size());
+        for (DayOfWeek day : days) {
+            row.timeSlots.add(new TimeSlot(startTime, endTime, day));
+        }
+
+        row.capacity = parsePositive(fields.get(7));
+        if (row.capacity <= 0) {
+            return Row.error("Capacity must be a positive number");
+        }
+        return row;
+    }
+
+    /**
+     * Parses a positive whole number.
+     *
+     * @param field the field to parse
+     * @return the number, or -1 if the field is not a positive whole number
+     */
+    private static int parsePositive(String field) {
+        try {
+            return Integer.parseInt(field.strip());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Checks if a line names the columns, in any case, rather than describing a section.
+     * A row whose course ID merely starts with "ID", such as IDST 1100, is not a header.
+     *
+     * @param line the line to check
+     * @return true if every field is the name of its column, false otherwise
+     */
+    private static boolean isHeader(String line) {
+        List<String> fields = splitFields(line);
+        if (fields == null || fields.size() != columnCount) {
+            return false;
+        }
+        for (int i = 0; i < columnCount; i++) {
+            if (!fields.get(i).strip().equalsIgnoreCase(headerNames.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits a CSV line into fields, removing the quotes around quoted fields.
+     *
+     * @param line the line to split
+     * @return the fields, or null if a quoted field is not closed
+     */
+    private static List<String> splitFields(String line) {
+        List<String> fields = new ArrayList<>(columnCount);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * One parsed row, or the error that made it invalid.
+     */
+    private static class Row {
+        private String id;
+        private String name;
+        private int credits;
+        private String description;
+        private List<TimeSlot> timeSlots;
+        private int capacity;
+        private String error;
+
+        /**
+         * Creates a row holding only an error message.
+         *
+         * @param message the error message
+         * @return the row
+         */
+        private static Row error(String message) {
+            Row row = new Row();
+            row.error = message;
+            return row;
+        }
+    }
+
+    /**
+     * The counts and per-row errors of an import.
+     */
+    public static class Result {
+        private int rowCount;
+        private int coursesAdded;
+        private int sectionsAdded;
+        private final List<String> errors = new ArrayList<>();
+
+        /**
+         * Returns the number of non-blank rows read, not counting the header.
+         *
+         * @return the number of rows
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Returns the number of new courses added to the catalog.
+         *
+         * @return the number of courses added
+         */
+        public int getCoursesAdded() {
+            return coursesAdded;
+        }
+
+        /**
+         * Returns the number of sections added to the catalog.
+         *
+         * @return the number of sections added
+         */
+        public int getSectionsAdded() {
+            return sectionsAdded;
+        }
+
+        /**
+         * Returns a message for each skipped row, starting with its line number.
+         *
+         * @return the error messages in file order
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package system;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Allocates unique email addresses for new users.
+ * Each base address (first initial + last name at a domain) is mapped to the highest
+ * numeric suffix in use, so the next free address is found in time proportional to
+ * the length of the address rather than the number of users.
+ *
+ * How to use:
+ * <pre>
+ * EmailAllocator allocator = new EmailAllocator();
+ * allocator.register("jsmith@university.edu");
+ * allocator.nextEmail("jsmith", "university.edu"); // jsmith1@university.edu
+ * </pre>
+ *
+ * Suffixes are never handed out twice, even after the user holding them is removed,
+ * so a deleted user's address is not reissued to someone else.
+ *
+ * @version Oct 17, 2026
+ */
+public class EmailAllocator {
+    /**
+     * The highest suffix in use for each base address, keyed by "base@domain".
+     * An address without a numeric suffix counts as suffix 0.
+     */
+    private Map<String, Integer> maxSuffixes;
+
+    /**
+     * Constructs an EmailAllocator with no registered addresses.
+     */
+    public EmailAllocator() {
+        this.maxSuffixes = new HashMap<>();
+    }
+
+    /**
+     * Returns the next free address for a base address without reserving it.
+     *
+     * @param baseEmail the local part of the address without a suffix (e.g. jsmith)
+     * @param domain the domain of the address
+     * @return the next free email address
+     */
+    public String nextEmail(String baseEmail, String domain) {
+        Integer max = maxSuffixes.get(baseEmail + "@" + domain);
+        return max == null ? baseEmail + "@" + domain : baseEmail + (max + 1) + "@" + domain;
+    }
+
+    /**
+     * Returns the next free address for a base address and marks it as in use.
+     *
+     * @param baseEmail the local part of the address without a suffix (e.g. jsmith)
+     * @param domain the domain of the address
+     * @return the reserved email address
+     */
+    public String reserveEmail(String baseEmail, String domain) {
+        String email = nextEmail(baseEmail, domain);
+        register(email);
+        return email;
+    }
+
+    /**
+     * Marks an existing email address as in use.
+     * Addresses whose local part is not letters followed by optional digits are ignored,
+     * since they can never collide with a generated address.
+     *
+     * @param email the email address to register
+     */
+    public void register(String email) {
+        if (email == null) {
+            return;
+        }
+        int at = email.indexOf('@');
+        if (at <= 0) {
+            return;
+        }
+        String local = email.substring(0, at).toLowerCase();
+        String domain = email.substring(at + 1).toLowerCase();
+
+        int digitsStart = local.length();
+        while (digitsStart > 0 && Character.isDigit(local.charAt(digitsStart - 1))) {
+            digitsStart--;
+        }
+        if (digitsStart == 0) {
+            return;
+        }
+        for (int i = 0; i < digitsStart; i++) {
+            char c = local.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return;
+            }
+        }
+
+        String base = local.substring(0, digitsStart);
+        int suffix = 0;
+        if (digitsStart < local.length()) {
+            try {
+                suffix = Integer.parseInt(local.substring(digitsStart));
+            } catch (NumberFormatException e) {
+                return;
+            }
+        }
+        maxSuffixes.merge(base + "@" + domain, suffix, Math::max);
+    }
+}
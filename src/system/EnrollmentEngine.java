@@ -0,0 +1,164 @@
+package system;
+
+import model.CourseSection;
+import model.EnrollmentStatus;
+import model.Student;
+
+/**
+ * Enrolls and drops students safely when many requests arrive at the same time.
+ * Each request locks only the student and the section involved, so requests for
+ * different sections run in parallel while capacity and duplicate enrollment are
+ * still checked and applied atomically. Seats are claimed through the section's
+ * lock-free counter, so requests for a full section are rejected before taking any lock.
+ *
+ * Locks are always taken student first, then section, so two requests can never
+ * wait on each other. Every concurrent enroll or drop must go through this class;
+ * calling {@link Student#enroll(CourseSection)} or {@link CourseSection#dropStudent(Student)}
+ * directly is only safe from a single thread.
+ *
+ * How to use:
+ * <pre>
+ * EnrollmentEngine engine = enrollmentSystem.getEnrollmentEngine();
+ * EnrollmentStatus status = engine.enroll(student, section);
+ * if (!status.isSuccess()) {
+ *     System.out.println("Enrollment failed: " + status.getMessage());
+ * }
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class EnrollmentEngine {
+    /**
+     * The enrollment system whose write-ahead log is synced after each change, or {@code null}.
+     */
+    private final EnrollmentSystem enrollmentSystem;
+
+    /**
+     * Constructs an EnrollmentEngine whose changes are not saved.
+     */
+    public EnrollmentEngine() {
+        this(null);
+    }
+
+    /**
+     * Constructs an EnrollmentEngine that waits for the enrollment system's write-ahead log
+     * after each successful enroll or drop. The wait happens after the locks are released,
+     * so requests waiting on the same disk flush do not hold up other requests.
+     *
+     * @param enrollmentSystem the enrollment system whose log to sync, or {@code null}
+     */
+    public EnrollmentEngine(EnrollmentSystem enrollmentSystem) {
+        this.enrollmentSystem = enrollmentSystem;
+    }
+
+    /**
+     * Enrolls a student in a course section.
+     * The advising hold, duplicate course, time conflict, and capacity checks are the
+     * same as {@link Student#enroll(CourseSection)}, but nothing is printed.
+     * While students are on the section's waitlist, freed seats go to them first and the section counts as full.
+     *
+     * @param student the student to enroll
+     * @param section the course section to enroll in
+     * @return {@link EnrollmentStatus#ENROLLED} if successful, otherwise the reason enrollment was rejected
+     */
+    public EnrollmentStatus enroll(Student student, CourseSection section) {
+        if (section.isRemoved()) {
+            return EnrollmentStatus.SECTION_REMOVED;
+        }
+        if (section.isFull() || section.getWaitlist().size() > 0) {
+            return EnrollmentStatus.SECTION_FULL;
+        }
+        EnrollmentStatus status;
+        synchronized (student) {
+            status = student.checkEnrollment(section);
+            if (status != EnrollmentStatus.ELIGIBLE) {
+                return status;
+            }
+            if (!section.reserveSeat()) {
+                return EnrollmentStatus.SECTION_FULL;
+            }
+            synchronized (section) {
+                // A section removed after the check above is drained from a copy of its roster, so it must not grow
+                if (section.isRemoved()) {
+                    section.releaseSeat();
+                    return EnrollmentStatus.SECTION_REMOVED;
+                }
+                status = section.confirmSeat(student) ? EnrollmentStatus.ENROLLED : EnrollmentStatus.ALREADY_REGISTERED;
+            }
+        }
+        return synced(status);
+    }
+
+    /**
+     * Adds a student to the waitlist of a full course section.
+     * The student is promoted automatically when a seat opens up and they are still eligible.
+     * If the section has an open seat and nobody is waiting, the student is enrolled instead.
+     *
+     * @param student the student to add to the waitlist
+     * @param section the course section to wait for
+     * @return {@link EnrollmentStatus#WAITLISTED} if added, or the result of enrolling if a seat is open,
+     *         otherwise the reason the student could not join, such as {@link EnrollmentStatus#SECTION_REMOVED}
+     */
+    public EnrollmentStatus joinWaitlist(Student student, CourseSection section) {
+        if (!section.isFull() && section.getWaitlist().size() == 0) {
+            EnrollmentStatus status = enroll(student, section);
+            if (status != EnrollmentStatus.SECTION_FULL) {
+                return status;
+            }
+        }
+        synchronized (student) {
+            EnrollmentStatus status = student.checkEnrollment(section);
+            if (status != EnrollmentStatus.ELIGIBLE) {
+                return status;
+            }
+            synchronized (section) {
+                if (section.isRemoved()) {
+                    return EnrollmentStatus.SECTION_REMOVED;
+                }
+                if (!section.getWaitlist().add(student)) {
+                    return EnrollmentStatus.WAITLIST_FULL;
+                }
+            }
+        }
+        // A seat freed after the check above found no one waiting, so promote now rather than on the next drop
+        if (!section.isFull()) {
+            section.schedulePromotion();
+        }
+        return EnrollmentStatus.WAITLISTED;
+    }
+
+    /**
+     * Drops a student from a course section.
+     * A student who is only on the section's waitlist is removed from the waitlist.
+     *
+     * @param student the student to drop
+     * @param section the course section to drop
+     * @return {@link EnrollmentStatus#DROPPED} if successful, {@link EnrollmentStatus#NOT_ENROLLED} otherwise
+     */
+    public EnrollmentStatus drop(Student student, CourseSection section) {
+        EnrollmentStatus status;
+        synchronized (student) {
+            synchronized (section) {
+                if (section.removeStudent(student) || section.getWaitlist().remove(student)) {
+                    status = EnrollmentStatus.DROPPED;
+                } else {
+                    status = EnrollmentStatus.NOT_ENROLLED;
+                }
+            }
+        }
+        return synced(status);
+    }
+
+    /**
+     * Waits for a successful change to reach the write-ahead log before it is reported.
+     *
+     * @param status the result of the request
+     * @return the same status
+     */
+    private EnrollmentStatus synced(EnrollmentStatus status) {
+        if (status.isSuccess() && enrollmentSystem != null) {
+            enrollmentSystem.syncLog();
+        }
+        return status;
+    }
+}
@@ -3,16 +3,24 @@ package system;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.InputMismatchException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import model.CatalogListener;
 import model.Course;
 import model.CourseSection;
+import model.Instructor;
 import model.Student;
 import model.TimeSlot;
 import util.TablePrinter;
 import util.ColumnExtractor;
+import util.Console;
 import util.Util;
 
 /**
@@ -20,18 +28,64 @@ import util.Util;
  * This class provides methods to add and remove courses, register students and instructors,
  * and enroll students in course sections. It also includes functionality for managing
  * course sections and displaying course-related information.
+ * Methods that change the catalog are synchronized so a {@link Snapshot} can copy it consistently,
+ * and the lookup indexes are concurrent maps so requests on other threads can read them without locking.
  *
  * @version Apr 19, 2025
  */
-public class EnrollmentSystem {
+public class EnrollmentSystem implements CatalogListener {
+    /**
+     * The format of a course ID, such as MATH 1241.
+     */
+    static final Pattern courseIdPattern = Pattern.compile("^[A-Z]{4} \\d{4}$");
+
+    /**
+     * The format of a meeting time, such as 9:30 AM. Built once because formatters are immutable and thread safe.
+     */
+    static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mm a", Locale.US);
+
     private List<Course> courses;
-    private final Scanner input = new Scanner(System.in);
+
+    /**
+     * Index of the courses in the catalog keyed by normalized course ID.
+     */
+    private Map<String, Course> coursesById;
+
+    /**
+     * Index of the courses in the catalog keyed by normalized course name.
+     */
+    private Map<String, Course> coursesByName;
+
+    /**
+     * Index of every course section in the catalog keyed by CRN.
+     * Kept in sync by {@link #registerSection(CourseSection)} and {@link #unregisterSection(CourseSection)}.
+     */
+    private Map<String, CourseSection> sectionsByCrn;
+
+    /**
+     * Indexes of every course section by course ID and meeting time, used by {@link #findSections(SectionQuery)}.
+     * Kept in sync alongside {@link #sectionsByCrn}.
+     */
+    private final SectionIndex sectionIndex = new SectionIndex();
+
+    /**
+     * The engine used to enroll and drop students safely from concurrent requests.
+     */
+    private final EnrollmentEngine enrollmentEngine = new EnrollmentEngine(this);
+
+    /**
+     * Records changes to the catalog and enrollment in the write-ahead log, or {@code null} if nothing is saved.
+     */
+    private PersistenceManager persistence;
 
     /**
      * Constructs an EnrollmentSystem with an empty list of courses.
      */
     public EnrollmentSystem() {
         this.courses = new ArrayList<>();
+        this.coursesById = new ConcurrentHashMap<>();
+        this.coursesByName = new ConcurrentHashMap<>();
+        this.sectionsByCrn = new ConcurrentHashMap<>();
     }
 
     /**
@@ -40,63 +94,94 @@ public class EnrollmentSystem {
      * @param course the course to add
      * @return true if the course is added successfully, false otherwise
      */
-    public boolean addCourse(Course course) {
-        if (courses.contains(course)) {
+    public synchronized boolean addCourse(Course course) {
+        if (course == null) {
+            System.out.println("Invalid course");
+            return false;
+        }
+        Course existing = coursesById.get(normalizeId(course.getId()));
+        if (existing == course) {
             System.out.println("Course already exists");
             return false;
         }
-        for (Course c : courses) {
-            if (c.getId().equals(course.getId())) {
-                System.out.println("Course ID already exists");
-                return false;
-            }
-            if (c.getName().equals(course.getName())) {
-                System.out.println("Course name already exists");
-                return false;
-            }
+        if (existing != null) {
+            System.out.println("Course ID already exists");
+            return false;
+        }
+        if (coursesByName.containsKey(normalizeName(course.getName()))) {
+            System.out.println("Course name already exists");
+            return false;
         }
         courses.add(course);
+        coursesById.put(normalizeId(course.getId()), course);
+        coursesByName.put(normalizeName(course.getName()), course);
+        course.setCatalogListener(this);
+        if (persistence != null) {
+            persistence.courseAdded(course);
+        }
+        for (CourseSection section : course.getSections()) {
+            registerSection(section);
+        }
         return true;
     }
 
     /**
      * Removes a course from the course catalog.
      * This method also removes all associated course sections and unenrolls students.
+     * The drops are recorded as one batch, so the catalog is not locked while they are written to disk.
      *
      * @param course the course to remove
      * @return true if the course is removed successfully, false otherwise
      */
     public boolean removeCourse(Course course) {
-        if (!courses.contains(course)) {
-            System.out.println("Course does not exist");
-            return false;
-        }
+        beginBatch();
+        try {
+            synchronized (this) {
+                if (course == null || coursesById.get(normalizeId(course.getId())) != course) {
+                    System.out.println("Course does not exist");
+                    return false;
+                }
 
-        System.out.println("Deleting course: " + course.getId() + " - " + course.getName());
+                System.out.println("Deleting course: " + course.getId() + " - " + course.getName());
 
-        for (CourseSection section : course.getSections()) {
-            for (Student student : section.getEnrolledStudents()) {
-                section.dropStudent(student);
-            }
+                for (CourseSection section : course.getSections()) {
+                    // Marked first so no enrollment or promotion lands after the roster is copied
+                    section.markRemoved();
+                    for (Student student : new ArrayList<>(section.getEnrolledStudents())) {
+                        enrollmentEngine.drop(student, section);
+                    }
 
-            if (section.getInstructor() != null) {
-                section.getInstructor().removeCourseAssignment(section);
+                    if (section.getInstructor() != null) {
+                        section.getInstructor().removeCourseAssignment(section);
+                    }
+                    unregisterSection(section);
+                }
+
+                courses.remove(course);
+                coursesById.remove(normalizeId(course.getId()));
+                coursesByName.remove(normalizeName(course.getName()));
+                course.setCatalogListener(null);
+                if (persistence != null) {
+                    persistence.courseRemoved(course);
+                }
+                System.out.println(course.getId() + " and its sections deleted successfully");
+                return true;
             }
+        } finally {
+            // Waits for the drops and the removal to reach the disk after the catalog is unlocked
+            endBatch();
         }
-
-        courses.remove(course);
-        System.out.println(course.getId() + " and its sections deleted successfully");
-        return true;
     }
 
     /**
      * Creates a course by taking input from the user.
      */
     public void createCourse() {
+        Scanner input = Console.input();
         while (true) {
             System.out.print("Id (e.g., MATH 1241): ");
             String id = input.nextLine();
-            if (!id.matches("^[A-Z]{4} \\d{4}$")) {
+            if (!courseIdPattern.matcher(id).matches()) {
                 System.out.println("Invalid format. Course ID must be in the format ABCD 1234 (e.g., MATH 1241).");
                 continue;
             }
@@ -116,6 +201,7 @@ public class EnrollmentSystem {
                     }
                     break;
                 } catch (InputMismatchException e) {
+                    input.nextLine();
                     System.out.println("Invalid input. Please enter a valid integer.");
                 }
             }
@@ -136,12 +222,13 @@ public class EnrollmentSystem {
             return;
         }
 
+        Scanner input = Console.input();
         Course course = null;
         while (course == null) {
             System.out.print("Course ID (ABCD 1234): ");
             String id = input.nextLine().strip().toUpperCase();
 
-            if (!id.matches("^[A-Z]{4} \\d{4}$")) {
+            if (!courseIdPattern.matcher(id).matches()) {
                 System.out.println("Invalid format. Course ID must be in the format ABCD 1234 (e.g., MATH 1241).");
                 continue;
             }
@@ -189,7 +276,7 @@ public class EnrollmentSystem {
                     System.out.print("Start time (hh:mm AM/PM): ");
                     startTime = parseTime(input.nextLine().strip());
                     break;
-                } catch (Exception e) {
+                } catch (DateTimeParseException e) {
                     System.out.println("Invalid time format. Please use hh:mm AM/PM.");
                 }
             }
@@ -204,7 +291,7 @@ public class EnrollmentSystem {
                         continue;
                     }
                     break;
-                } catch (Exception e) {
+                } catch (DateTimeParseException e) {
                     System.out.println("Invalid time format. Please use hh:mm AM/PM.");
                 }
             }
@@ -227,7 +314,7 @@ public class EnrollmentSystem {
     }
 
     /**
-     * Displays all courses in a formatted table.
+     * Displays all courses in a formatted table, a page at a time.
      */
     public void viewAllCourses() {
         List<String> headers = List.of("Id", "Name", "Credits", "Description");
@@ -238,14 +325,139 @@ public class EnrollmentSystem {
                 course -> String.valueOf(course.getCredits()),
                 Course::getDescription);
 
-        TablePrinter<Course> printer = new TablePrinter<>(headers, extractors, courses);
-        printer.printTable();
+        TablePrinter<Course> printer = new TablePrinter<>(headers, extractors, getCourses());
+        printer.printPaged();
     }
 
     /**
-     * Displays all course sections in a formatted table.
+     * Displays all course sections in a formatted table, a page at a time.
      */
     public void viewAllSections() {
+        getSectionTable().printPaged();
+    }
+
+    /**
+     * Returns a table of every course section, in catalog order.
+     *
+     * @return the table, ready to print whole or a page at a time
+     */
+    public TablePrinter<CourseSection> getSectionTable() {
+        List<CourseSection> sections = new ArrayList<>();
+
+        // The course list is copied under the lock; each course's sections are a copy-on-write list safe to read
+        synchronized (this) {
+            for (Course course : courses) {
+                sections.addAll(course.getSections());
+            }
+        }
+
+        return sectionTable(sections);
+    }
+
+    /**
+     * Finds the course sections matching a query, using the search indexes rather than looking at every section.
+     *
+     * @param query the filters to apply
+     * @return the matching sections ordered by course ID then CRN, at most the query's limit of them
+     */
+    public List<CourseSection> findSections(SectionQuery query) {
+        return sectionIndex.search(query);
+    }
+
+    /**
+     * Prompts for search filters, each of which can be skipped, and displays the matching course sections
+     * a page at a time.
+     *
+     * @return true if any sections matched, false otherwise
+     */
+    public boolean searchSections() {
+        Scanner input = Console.input();
+        SectionQuery query = new SectionQuery();
+        System.out.println("Search Sections (press Enter to skip a filter):");
+
+        System.out.print("Course ID or name: ");
+        query.text(input.nextLine());
+
+        while (true) {
+            System.out.print("Day (M/T/W/Th/F): ");
+            String day = input.nextLine().strip();
+            if (day.isEmpty()) {
+                break;
+            }
+            DayOfWeek dayOfWeek = SectionQuery.parseDay(day);
+            if (dayOfWeek != null) {
+                query.day(dayOfWeek);
+                break;
+            }
+            System.out.println("Invalid day. Please enter M, T, W, Th, or F.");
+        }
+
+        query.startingAfter(promptTime(input, "Starting at or after (hh:mm AM/PM): "));
+        query.endingBefore(promptTime(input, "Ending by (hh:mm AM/PM): "));
+
+        while (true) {
+            System.out.print("Credits: ");
+            String credits = input.nextLine().strip();
+            if (credits.isEmpty()) {
+                break;
+            }
+            try {
+                query.credits(Integer.parseInt(credits));
+                break;
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input. Please enter a valid integer.");
+            }
+        }
+
+        System.out.print("Instructor ID or name: ");
+        query.instructor(input.nextLine());
+
+        System.out.print("Open sections only? (y/n): ");
+        try {
+            query.openOnly(Util.yesNoToBoolean(input.nextLine().strip()));
+        } catch (InputMismatchException e) {
+            query.openOnly(false);
+        }
+
+        List<CourseSection> sections = findSections(query);
+        if (sections.isEmpty()) {
+            System.out.println("No sections match your search.");
+            return false;
+        }
+        System.out.println(sections.size() + (sections.size() == 1 ? " section matches." : " sections match."));
+        sectionTable(sections).printPaged();
+        return true;
+    }
+
+    /**
+     * Prompts for a time until one is entered in the right format or the prompt is skipped.
+     *
+     * @param input the console input
+     * @param prompt the prompt to print
+     * @return the time, or null if skipped
+     */
+    private static LocalTime promptTime(Scanner input, String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            String time = input.nextLine().strip();
+            if (time.isEmpty()) {
+                return null;
+            }
+            LocalTime parsed = SectionQuery.parseTime(time);
+            if (parsed != null) {
+                return parsed;
+            }
+            System.out.println("Invalid time format. Please use hh:mm AM/PM.");
+        }
+    }
+
+    /**
+     * Returns a table of course sections.
+     *
+     * @param sections the sections, in the order to list them
+     * @return the table
+     */
+    private static TablePrinter<CourseSection> sectionTable(List<CourseSection> sections) {
         List<String> headers = List.of("Id", "Sect", "CRN", "Name", "Credits", "Meeting Times", "Status", "Instructor");
 
         List<ColumnExtractor<CourseSection>> extractors = List.of(
@@ -259,35 +471,163 @@ public class EnrollmentSystem {
             section -> section.getInstructor() != null ? section.getInstructor().getName() : ""     
         );
 
-        List<CourseSection> sections = new ArrayList<>();
+        return new TablePrinter<>(headers, extractors, sections);
+    }
+
+    /**
+     * Finds a course section by its CRN.
+     *
+     * @param crn the CRN of the course section
+     * @return the CourseSection object if found, or null if not found
+     */
+    public CourseSection findCourseByCRN(String crn) {
+        if (crn == null) {
+            return null;
+        }
+        return sectionsByCrn.get(crn);
+    }
 
-        for (Course course : courses) {
-            for (CourseSection section : course.getSections()) {
-                sections.add(section);
+    /**
+     * Adds a course section to the CRN index and the search indexes.
+     * Called by {@link Course#createSection(List, int)} for courses in this catalog, and by
+     * {@link #addCourse(Course)} for the sections the course already has; a section already indexed is skipped.
+     *
+     * @param section the course section to index
+     */
+    @Override
+    public synchronized void registerSection(CourseSection section) {
+        if (sectionsByCrn.get(section.getCRN()) == section) {
+            return;
+        }
+        CourseSection replaced = sectionsByCrn.put(section.getCRN(), section);
+        if (replaced != null) {
+            sectionIndex.remove(replaced);
+        }
+        sectionIndex.add(section);
+        if (persistence != null) {
+            persistence.sectionAdded(section);
+        }
+    }
+
+    /**
+     * Removes a course section from the CRN index and the search indexes.
+     * Called by {@link Course#removeCourseSection(CourseSection)} for courses in this catalog.
+     *
+     * @param section the course section to remove from the index
+     */
+    @Override
+    public synchronized void unregisterSection(CourseSection section) {
+        if (sectionsByCrn.remove(section.getCRN(), section)) {
+            sectionIndex.remove(section);
+            if (persistence != null) {
+                persistence.sectionRemoved(section);
             }
         }
+    }
 
-        TablePrinter<CourseSection> printer = new TablePrinter<>(headers, extractors, sections);
-        printer.printTable();
+    /**
+     * Assigns an instructor to a course section, replacing any current instructor.
+     *
+     * @param section the course section
+     * @param instructor the instructor to assign
+     * @return true if the instructor is assigned successfully, false otherwise
+     */
+    public synchronized boolean assignInstructor(CourseSection section, Instructor instructor) {
+        if (section == null || instructor == null) {
+            System.out.println("Invalid section or instructor");
+            return false;
+        }
+        section.assignInstructor(instructor);
+        if (persistence != null) {
+            persistence.instructorAssigned(section, instructor);
+        }
+        return true;
+    }
 
+    /**
+     * Unassigns an instructor from a course section.
+     *
+     * @param section the course section
+     * @param instructor the instructor to unassign
+     * @return true if the instructor was assigned to the section and has been unassigned, false otherwise
+     */
+    public synchronized boolean unassignInstructor(CourseSection section, Instructor instructor) {
+        if (section == null || instructor == null || !instructor.removeCourseAssignment(section)) {
+            System.out.println("Instructor is not assigned to this section");
+            return false;
+        }
+        if (persistence != null) {
+            persistence.instructorUnassigned(section);
+        }
+        return true;
+    }
 
+    /**
+     * Records that a student was added to a section's roster.
+     * Called by {@link CourseSection#confirmSeat(Student)} while the section is locked, so the
+     * record is only queued; {@link #syncLog()} waits for it to reach the disk.
+     *
+     * @param section the course section
+     * @param student the enrolled student
+     */
+    @Override
+    public void recordEnrollment(CourseSection section, Student student) {
+        if (persistence != null) {
+            persistence.studentEnrolled(section, student);
+        }
     }
 
     /**
-     * Finds a course section by its CRN.
+     * Records that a student was removed from a section's roster.
+     * Called by {@link CourseSection#removeStudent(Student)} while the section is locked, so the
+     * record is only queued; {@link #syncLog()} waits for it to reach the disk.
      *
-     * @param crn the CRN of the course section
-     * @return the CourseSection object if found, or null if not found
+     * @param section the course section
+     * @param student the dropped student
      */
-    public CourseSection findCourseByCRN(String crn) {
-        for (Course course : courses) {
-            for (CourseSection section : course.getSections()) {
-                if (section.getCRN().equals(crn)) {
-                    return section;
-                }
-            }
+    @Override
+    public void recordDrop(CourseSection section, Student student) {
+        if (persistence != null) {
+            persistence.studentDropped(section, student);
+        }
+    }
+
+    /**
+     * Waits until every change recorded by the current thread is on disk.
+     * Does nothing if the system is not saved.
+     */
+    public void syncLog() {
+        if (persistence != null) {
+            persistence.sync();
+        }
+    }
+
+    /**
+     * Starts recording catalog changes made by the current thread without waiting for each to reach the disk.
+     * Used for bulk changes; {@link #endBatch()} then waits for all of them at once.
+     */
+    public void beginBatch() {
+        if (persistence != null) {
+            persistence.beginBatch();
         }
-        return null;
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()} and waits until its changes are on disk.
+     */
+    public void endBatch() {
+        if (persistence != null) {
+            persistence.endBatch();
+        }
+    }
+
+    /**
+     * Sets where changes to the catalog and enrollment are recorded.
+     *
+     * @param persistence the persistence manager, or {@code null} to stop recording changes
+     */
+    public void setPersistence(PersistenceManager persistence) {
+        this.persistence = persistence;
     }
 
     /**
@@ -297,12 +637,43 @@ public class EnrollmentSystem {
      * @return the Course object if found, or null if not found
      */
     public Course getCourseById(String id) {
-        for (Course course : courses) {
-            if (course.getId().equalsIgnoreCase(id)) {
-                return course;
-            }
+        if (id == null) {
+            return null;
+        }
+        return coursesById.get(normalizeId(id));
+    }
+
+    /**
+     * Finds a course by its name, ignoring case and surrounding whitespace.
+     *
+     * @param name the name of the course
+     * @return the Course object if found, or null if not found
+     */
+    public Course getCourseByName(String name) {
+        if (name == null) {
+            return null;
         }
-        return null;
+        return coursesByName.get(normalizeName(name));
+    }
+
+    /**
+     * Normalizes a course ID for use as an index key.
+     *
+     * @param id the course ID
+     * @return the stripped, upper case course ID
+     */
+    private static String normalizeId(String id) {
+        return id.strip().toUpperCase();
+    }
+
+    /**
+     * Normalizes a course name for use as an index key.
+     *
+     * @param name the course name
+     * @return the stripped, lower case course name
+     */
+    private static String normalizeName(String name) {
+        return name.strip().toLowerCase();
     }
 
     /**
@@ -312,6 +683,20 @@ public class EnrollmentSystem {
      * @return the corresponding DayOfWeek object, or null if the input is invalid
      */
     private DayOfWeek parseDayOfWeek(String day) {
+        DayOfWeek dayOfWeek = toDayOfWeek(day);
+        if (dayOfWeek == null) {
+            System.out.println("Invalid day. Please enter M, T, W, Th, or F.\n");
+        }
+        return dayOfWeek;
+    }
+
+    /**
+     * Converts a day abbreviation (M, T, W, Th, or F) to a day of the week without printing anything.
+     *
+     * @param day the day abbreviation
+     * @return the corresponding DayOfWeek object, or null if the abbreviation is invalid
+     */
+    static DayOfWeek toDayOfWeek(String day) {
         switch (day.strip().toUpperCase()) {
             case "M":
                 return DayOfWeek.MONDAY;
@@ -324,30 +709,38 @@ public class EnrollmentSystem {
             case "F":
                 return DayOfWeek.FRIDAY;
             default:
-                System.out.println("Invalid day. Please enter M, T, W, Th, or F.\n");
+                return null;
         }
-        return null;
     }
 
     /**
      * Parses a time from a string input.
      *
-     * @param day the string input representing the time
+     * @param time the string input representing the time
      * @return the corresponding LocalTime object
+     * @throws java.time.format.DateTimeParseException if the time is not in the format hh:mm AM/PM
+     */
+    static LocalTime parseTime(String time) {
+        return LocalTime.parse(time.strip().toUpperCase(), timeFormatter);
+    }
+
+    /**
+     * Returns the engine used to enroll and drop students.
+     *
+     * @return the enrollment engine
      */
-    private LocalTime parseTime(String time) {
-        time = time.strip().toUpperCase();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("h:mm a");
-        return LocalTime.parse(time, formatter);
+    public EnrollmentEngine getEnrollmentEngine() {
+        return enrollmentEngine;
     }
 
     /**
      * Returns the list of courses in the system.
+     * The returned list is a copy; use {@link #addCourse(Course)} and {@link #removeCourse(Course)} to modify courses.
      *
-     * @return the list of courses
+     * @return the list of courses, in the order they were added
      */
-    public List<Course> getCourses() {
-        return courses;
+    public synchronized List<Course> getCourses() {
+        return new ArrayList<>(courses);
     }
 }
 
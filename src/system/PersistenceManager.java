@@ -0,0 +1,814 @@
+package system;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import model.Admin;
+import model.Course;
+import model.CourseSection;
+import model.Instructor;
+import model.Permissions;
+import model.Role;
+import model.Student;
+import model.TimeSlot;
+import model.User;
+
+/**
+ * Saves the state of an {@link EnrollmentSystem} and an {@link AccountManager} in a write-ahead log
+ * and restores it when the program starts again.
+ *
+ * Every change to the catalog, enrollment, instructor assignments, advising holds, and user accounts
+ * is appended to the log as one tab-separated line. Enrollment and drop records are only queued,
+ * because they are written while the section is locked; the {@link EnrollmentEngine} waits for the
+ * disk after releasing its locks. All other changes wait for the disk before returning. Because the
+ * log uses group commit, many concurrent changes share one fsync.
+ *
+ * To keep startup fast, {@link #snapshot()} periodically writes the whole state to a compact
+ * {@link Snapshot} and starts a new log file; log files older than the latest snapshot are deleted.
+ * Startup loads the snapshot and replays only the log written since.
+ *
+ * How to use:
+ * <pre>
+ * PersistenceManager persistence = PersistenceManager.open(Path.of("data"), enrollmentSystem, accountManager);
+ * persistence.startPeriodicSnapshots(5, TimeUnit.MINUTES);
+ * // ... use the enrollment system and account manager as usual ...
+ * persistence.close();
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class PersistenceManager implements Closeable {
+    /**
+     * The kinds of record in the log.
+     */
+    private enum RecordType {
+        COURSE_ADD, COURSE_REMOVE, SECTION_ADD, SECTION_REMOVE, ENROLL, DROP, ASSIGN, UNASSIGN,
+        HOLD, HOLD_ALL, USER_ADD, USER_REMOVE, PASSWORD, PERMISSIONS, ROLE, ROLE_REMOVE, ROLES
+    }
+
+    private static final String snapshotFileName = "snapshot.bin";
+    private static final Pattern segmentPattern = Pattern.compile("wal-(\\d+)\\.log");
+    private static final String studentType = "STUDENT";
+    private static final String instructorType = "INSTRUCTOR";
+    private static final String adminType = "ADMIN";
+
+    private final Path directory;
+    private final EnrollmentSystem enrollmentSystem;
+    private final AccountManager accountManager;
+    private WriteAheadLog log;
+
+    /**
+     * The generation of the log file currently being appended to.
+     * A snapshot records the generation started when it was taken; older log files are not needed.
+     */
+    private long generation;
+    private boolean snapshotLoaded;
+    private long recoveredCount;
+    private long skippedCount;
+
+    /**
+     * The number of records appended when the last snapshot was started, and the number of records
+     * replayed at startup that are not yet in a snapshot; used to skip snapshots when nothing changed.
+     */
+    private long appendsAtSnapshot;
+    private long replayedSinceSnapshot;
+    private ScheduledExecutorService snapshotScheduler;
+
+    /**
+     * How many batches the current thread is in; while above zero it does not wait for the disk after each record.
+     */
+    private final ThreadLocal<int[]> batchDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Constructs a PersistenceManager for a data directory.
+     *
+     * @param directory the data directory
+     * @param enrollmentSystem the enrollment system to save
+     * @param accountManager the account manager to save
+     */
+    private PersistenceManager(Path directory, EnrollmentSystem enrollmentSystem, AccountManager accountManager) {
+        this.directory = directory;
+        this.enrollmentSystem = enrollmentSystem;
+        this.accountManager = accountManager;
+    }
+
+    /**
+     * Opens a data directory, restores the state it holds into the enrollment system and account
+     * manager, then starts recording their changes. The latest snapshot is loaded first and only
+     * the log files written since it was taken are replayed.
+     * The enrollment system and account manager should be empty.
+     *
+     * @param directory the data directory, created if it does not exist
+     * @param enrollmentSystem the enrollment system to restore and save
+     * @param accountManager the account manager to restore and save
+     * @return the persistence manager recording changes
+     * @throws IOException if the data cannot be read
+     */
+    public static PersistenceManager open(Path directory, EnrollmentSystem enrollmentSystem,
+            AccountManager accountManager) throws IOException {
+        Files.createDirectories(directory);
+        PersistenceManager persistence = new PersistenceManager(directory, enrollmentSystem, accountManager);
+        persistence.recover();
+        enrollmentSystem.setPersistence(persistence);
+        accountManager.setPersistence(persistence);
+        return persistence;
+    }
+
+    /**
+     * Loads the latest snapshot and replays the log files written since.
+     * Output printed by the managers while restoring is discarded.
+     *
+     * @throws IOException if the data cannot be read
+     */
+    private void recover() throws IOException {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            long first = 1;
+            Path snapshotFile = directory.resolve(snapshotFileName);
+            if (Files.exists(snapshotFile)) {
+                first = Snapshot.read(snapshotFile, enrollmentSystem, accountManager);
+                snapshotLoaded = true;
+            }
+
+            List<Long> tail = new ArrayList<>();
+            for (long segment : listSegments()) {
+                if (segment < first) {
+                    Files.deleteIfExists(segmentFile(segment));
+                } else {
+                    tail.add(segment);
+                }
+            }
+            generation = tail.isEmpty() ? first : tail.get(tail.size() - 1);
+            for (long segment : tail) {
+                if (segment != generation) {
+                    WriteAheadLog.read(segmentFile(segment), this::replay);
+                }
+            }
+            log = new WriteAheadLog(segmentFile(generation));
+            log.recover(this::replay);
+            replayedSinceSnapshot = recoveredCount + skippedCount;
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    /**
+     * Applies one record from the log, counting whether it could be applied.
+     *
+     * @param line the encoded record
+     */
+    private void replay(String line) {
+        boolean applied;
+        try {
+            applied = apply(decode(line));
+        } catch (RuntimeException e) {
+            applied = false;
+        }
+        if (applied) {
+            recoveredCount++;
+        } else {
+            skippedCount++;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the current state and deletes the log files it makes unnecessary.
+     * Enrollment continues while the snapshot is written: later records go to a new log file first,
+     * and the snapshot is written to a temporary file and renamed into place only once it is on disk,
+     * so a crash at any point leaves either the old or the new snapshot with every log file it needs.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public synchronized void snapshot() throws IOException {
+        long next = generation + 1;
+        appendsAtSnapshot = log.rollOver(segmentFile(next));
+        replayedSinceSnapshot = 0;
+        generation = next;
+
+        Path snapshotFile = directory.resolve(snapshotFileName);
+        Path tempFile = directory.resolve(snapshotFileName + ".tmp");
+        Snapshot.write(tempFile, next, enrollmentSystem, accountManager);
+        Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory();
+        snapshotLoaded = true;
+
+        for (long segment : listSegments()) {
+            if (segment < next) {
+                Files.deleteIfExists(segmentFile(segment));
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot every interval while there are changes since the last one.
+     *
+     * @param interval the time between snapshots
+     * @param unit the unit of the interval
+     */
+    public synchronized void startPeriodicSnapshots(long interval, TimeUnit unit) {
+        if (snapshotScheduler != null) {
+            return;
+        }
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                if (hasChangesSinceSnapshot()) {
+                    snapshot();
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Snapshot failed: " + e.getMessage());
+            }
+        }, interval, interval, unit);
+    }
+
+    /**
+     * Checks if anything has changed since the last snapshot.
+     *
+     * @return {@code true} if a snapshot would not match the latest one, {@code false} otherwise
+     */
+    public synchronized boolean hasChangesSinceSnapshot() {
+        return !snapshotLoaded || replayedSinceSnapshot > 0 || log.getAppendCount() > appendsAtSnapshot;
+    }
+
+    /**
+     * Applies one record to the enrollment system and account manager.
+     *
+     * @param fields the fields of the record, starting with its type
+     * Records that are already reflected in the restored state, because the snapshot was taken
+     * while they were being made, leave it unchanged.
+     *
+     * @return {@code true} if the record was applied, {@code false} if what it refers to does not exist
+     */
+    private boolean apply(String[] fields) {
+        switch (RecordType.valueOf(fields[0])) {
+            case COURSE_ADD:
+                return enrollmentSystem.getCourseById(fields[1]) != null
+                        || enrollmentSystem.addCourse(new Course(fields[1], fields[2], fields[3], Integer.parseInt(fields[4])));
+            case COURSE_REMOVE: {
+                Course course = enrollmentSystem.getCourseById(fields[1]);
+                return course == null || enrollmentSystem.removeCourse(course);
+            }
+            case SECTION_ADD: {
+                Course course = enrollmentSystem.getCourseById(fields[1]);
+                if (course == null) {
+                    return false;
+                }
+                if (enrollmentSystem.findCourseByCRN(fields[3]) != null) {
+                    return true;
+                }
+                List<TimeSlot> timeSlots = new ArrayList<>();
+                for (int i = 5; i + 2 < fields.length; i += 3) {
+                    timeSlots.add(new TimeSlot(LocalTime.parse(fields[i + 1]), LocalTime.parse(fields[i + 2]),
+                            DayOfWeek.valueOf(fields[i])));
+                }
+                course.restoreSection(fields[2], fields[3], timeSlots, Integer.parseInt(fields[4]));
+                return true;
+            }
+            case SECTION_REMOVE: {
+                CourseSection section = enrollmentSystem.findCourseByCRN(fields[1]);
+                return section == null || section.getCourse().removeCourseSection(section);
+            }
+            case ENROLL: {
+                CourseSection section = enrollmentSystem.findCourseByCRN(fields[1]);
+                if (section == null || !(accountManager.getUserById(fields[2]) instanceof Student student)) {
+                    return false;
+                }
+                if (section.getEnrolledStudents().contains(student)) {
+                    return true;
+                }
+                return section.reserveSeat() && section.confirmSeat(student);
+            }
+            case DROP: {
+                CourseSection section = enrollmentSystem.findCourseByCRN(fields[1]);
+                if (section == null || !(accountManager.getUserById(fields[2]) instanceof Student student)) {
+                    return false;
+                }
+                section.removeStudent(student);
+                return true;
+            }
+            case ASSIGN: {
+                CourseSection section = enrollmentSystem.findCourseByCRN(fields[1]);
+                if (!(accountManager.getUserById(fields[2]) instanceof Instructor instructor)) {
+                    return false;
+                }
+                return enrollmentSystem.assignInstructor(section, instructor);
+            }
+            case UNASSIGN: {
+                CourseSection section = enrollmentSystem.findCourseByCRN(fields[1]);
+                if (section == null) {
+                    return false;
+                }
+                return section.getInstructor() == null
+                        || enrollmentSystem.unassignInstructor(section, section.getInstructor());
+            }
+            case HOLD:
+                if (!(accountManager.getUserById(fields[1]) instanceof Student student)) {
+                    return false;
+                }
+                accountManager.setAdvisingHold(student, Boolean.parseBoolean(fields[2]));
+                return true;
+            case HOLD_ALL:
+                accountManager.setAllAdvisingHoldsTrue();
+                return true;
+            case USER_ADD:
+                return accountManager.getUserById(fields[2]) != null || accountManager.addRestoredUser(restoreUser(fields));
+            case USER_REMOVE: {
+                User user = accountManager.getUserById(fields[1]);
+                return user == null || accountManager.removeUser(user);
+            }
+            case PASSWORD: {
+                User user = accountManager.getUserById(fields[1]);
+                if (user == null) {
+                    return false;
+                }
+                accountManager.restorePassword(user, fields[2]);
+                user.setNeedsPasswordReset(Boolean.parseBoolean(fields[3]));
+                return true;
+            }
+            case PERMISSIONS: {
+                if (!(accountManager.getUserById(fields[1]) instanceof Admin admin)) {
+                    return false;
+                }
+                admin.clearPermissions();
+                for (String permission : splitList(fields[2])) {
+                    admin.addPermission(permission);
+                }
+                return true;
+            }
+            case ROLE: {
+                List<Permissions> permissions = new ArrayList<>();
+                for (String permission : splitList(fields[2])) {
+                    permissions.add(Permissions.valueOf(permission));
+                }
+                return accountManager.defineRole(fields[1], permissions);
+            }
+            case ROLE_REMOVE:
+                return accountManager.getRoleManager().getRole(fields[1]) == null || accountManager.removeRole(fields[1]);
+            case ROLES:
+                if (!(accountManager.getUserById(fields[1]) instanceof Admin admin)) {
+                    return false;
+                }
+                return accountManager.setRoles(admin, splitList(fields[2]));
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Builds a user from a USER_ADD record.
+     *
+     * @param fields the fields of the record
+     * @return the restored user
+     */
+    private static User restoreUser(String[] fields) {
+        String id = fields[2];
+        String name = fields[3];
+        String email = fields[4];
+        String password = fields[5];
+        User user;
+        switch (fields[1]) {
+            case studentType:
+                user = new Student(id, name, email, password, Boolean.parseBoolean(fields[7]));
+                break;
+            case instructorType:
+                user = new Instructor(id, name, email, password);
+                break;
+            case adminType:
+                Admin admin = new Admin(id, name, email, password);
+                for (String permission : splitList(fields[7])) {
+                    admin.addPermission(permission);
+                }
+                user = admin;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown user type: " + fields[1]);
+        }
+        user.setNeedsPasswordReset(Boolean.parseBoolean(fields[6]));
+        return user;
+    }
+
+    /**
+     * Records that a course was added to the catalog.
+     *
+     * @param course the added course
+     */
+    public void courseAdded(Course course) {
+        appendAndSync(RecordType.COURSE_ADD, course.getId(), course.getName(), course.getDescription(),
+                String.valueOf(course.getCredits()));
+    }
+
+    /**
+     * Records that a course was removed from the catalog.
+     *
+     * @param course the removed course
+     */
+    public void courseRemoved(Course course) {
+        appendAndSync(RecordType.COURSE_REMOVE, course.getId());
+    }
+
+    /**
+     * Records that a section was added to a course in the catalog.
+     *
+     * @param section the added course section
+     */
+    public void sectionAdded(CourseSection section) {
+        List<String> fields = new ArrayList<>();
+        fields.add(section.getCourse().getId());
+        fields.add(section.getSectionId());
+        fields.add(section.getCRN());
+        fields.add(String.valueOf(section.getMaxCapacity()));
+        for (TimeSlot slot : section.getTimeSlots()) {
+            fields.add(slot.getDay().name());
+            fields.add(slot.getStartTime().toString());
+            fields.add(slot.getEndTime().toString());
+        }
+        appendAndSync(RecordType.SECTION_ADD, fields.toArray(new String[0]));
+    }
+
+    /**
+     * Records that a section was removed from the catalog.
+     *
+     * @param section the removed course section
+     */
+    public void sectionRemoved(CourseSection section) {
+        appendAndSync(RecordType.SECTION_REMOVE, section.getCRN());
+    }
+
+    /**
+     * Queues a record that a student was enrolled in a section. Does not wait for the disk.
+     *
+     * @param section the course section
+     * @param student the enrolled student
+     */
+    public void studentEnrolled(CourseSection section, Student student) {
+        log.append(encode(RecordType.ENROLL, section.getCRN(), student.getId()));
+    }
+
+    /**
+     * Queues a record that a student was dropped from a section. Does not wait for the disk.
+     *
+     * @param section the course section
+     * @param student the dropped student
+     */
+    public void studentDropped(CourseSection section, Student student) {
+        log.append(encode(RecordType.DROP, section.getCRN(), student.getId()));
+    }
+
+    /**
+     * Records that an instructor was assigned to a section.
+     *
+     * @param section the course section
+     * @param instructor the assigned instructor
+     */
+    public void instructorAssigned(CourseSection section, Instructor instructor) {
+        appendAndSync(RecordType.ASSIGN, section.getCRN(), instructor.getId());
+    }
+
+    /**
+     * Records that a section's instructor was unassigned.
+     *
+     * @param section the course section
+     */
+    public void instructorUnassigned(CourseSection section) {
+        appendAndSync(RecordType.UNASSIGN, section.getCRN());
+    }
+
+    /**
+     * Records a change to a student's advising hold.
+     *
+     * @param student the student
+     */
+    public void advisingHoldChanged(Student student) {
+        appendAndSync(RecordType.HOLD, student.getId(), String.valueOf(student.hasAdvisingHold()));
+    }
+
+    /**
+     * Records that every student's advising hold was turned on.
+     */
+    public void allAdvisingHoldsSet() {
+        appendAndSync(RecordType.HOLD_ALL);
+    }
+
+    /**
+     * Records that a user was added.
+     *
+     * @param user the added user
+     */
+    public void userAdded(User user) {
+        String type;
+        String extra;
+        if (user instanceof Student student) {
+            type = studentType;
+            extra = String.valueOf(student.hasAdvisingHold());
+        } else if (user instanceof Instructor) {
+            type = instructorType;
+            extra = "";
+        } else if (user instanceof Admin admin) {
+            type = adminType;
+            extra = Permissions.join(admin.getPermissions(), ",");
+        } else {
+            return;
+        }
+        appendAndSync(RecordType.USER_ADD, type, user.getId(), user.getName(), user.getEmail(), user.getPassword(),
+                String.valueOf(user.needsPasswordReset()), extra);
+    }
+
+    /**
+     * Records that a user was removed.
+     *
+     * @param user the removed user
+     */
+    public void userRemoved(User user) {
+        appendAndSync(RecordType.USER_REMOVE, user.getId());
+    }
+
+    /**
+     * Records a change to a user's password.
+     *
+     * @param user the user
+     */
+    public void passwordChanged(User user) {
+        appendAndSync(RecordType.PASSWORD, user.getId(), user.getPassword(), String.valueOf(user.needsPasswordReset()));
+    }
+
+    /**
+     * Records a change to an admin's permissions.
+     *
+     * @param admin the admin
+     */
+    public void permissionsChanged(Admin admin) {
+        appendAndSync(RecordType.PERMISSIONS, admin.getId(), Permissions.join(admin.getPermissions(), ","));
+    }
+
+    /**
+     * Records that a role was added or its permissions changed.
+     *
+     * @param role the role as it now is
+     */
+    public void roleDefined(Role role) {
+        appendAndSync(RecordType.ROLE, role.getName(), Permissions.join(role.getPermissions(), ","));
+    }
+
+    /**
+     * Records that a role was removed.
+     *
+     * @param role the removed role
+     */
+    public void roleRemoved(Role role) {
+        appendAndSync(RecordType.ROLE_REMOVE, role.getName());
+    }
+
+    /**
+     * Records a change to the roles an admin holds.
+     *
+     * @param admin the admin
+     */
+    public void rolesChanged(Admin admin) {
+        appendAndSync(RecordType.ROLES, admin.getId(), String.join(",", admin.getRoleSet().getRoleNames()));
+    }
+
+    /**
+     * Stops waiting for the disk after each record appended by the current thread, including enrollments
+     * and drops, until {@link #endBatch()}.
+     * A bulk import of thousands of sections then shares a few flushes instead of waiting for one each.
+     * Batches may be nested, such as an import run from a script; only the outermost one waits.
+     */
+    public void beginBatch() {
+        batchDepth.get()[0]++;
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}. Ending the outermost batch waits until its records are on disk.
+     */
+    public void endBatch() {
+        int[] depth = batchDepth.get();
+        if (depth[0] > 0 && --depth[0] == 0) {
+            log.sync();
+        }
+    }
+
+    /**
+     * Waits until every record queued by the current thread is on disk.
+     * Inside a batch this returns at once and {@link #endBatch()} waits instead.
+     */
+    public void sync() {
+        if (batchDepth.get()[0] == 0) {
+            log.sync();
+        }
+    }
+
+    /**
+     * Returns the number of records applied when the log was opened.
+     *
+     * @return the number of recovered records
+     */
+    public long getRecoveredCount() {
+        return recoveredCount;
+    }
+
+    /**
+     * Returns the number of records that could not be applied when the log was opened,
+     * such as enrollments of students who no longer exist.
+     *
+     * @return the number of skipped records
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Returns the write-ahead log.
+     *
+     * @return the write-ahead log
+     */
+    public WriteAheadLog getLog() {
+        return log;
+    }
+
+    /**
+     * Returns whether the restored state started from a snapshot.
+     *
+     * @return {@code true} if a snapshot was loaded or taken, {@code false} otherwise
+     */
+    public boolean isSnapshotLoaded() {
+        return snapshotLoaded;
+    }
+
+    /**
+     * Takes a final snapshot if anything changed, so the next start does not replay the log,
+     * then stops recording changes and closes the log.
+     *
+     * @throws IOException if the snapshot cannot be written or the log cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (snapshotScheduler != null) {
+                snapshotScheduler.shutdownNow();
+            }
+        }
+        try {
+            if (hasChangesSinceSnapshot()) {
+                snapshot();
+            }
+        } finally {
+            enrollmentSystem.setPersistence(null);
+            accountManager.setPersistence(null);
+            log.close();
+        }
+    }
+
+    /**
+     * Forces the rename of the snapshot file to disk. Not every platform supports this,
+     * in which case the rename is left to the operating system.
+     */
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms
+        }
+    }
+
+    /**
+     * Returns the path of a log file.
+     *
+     * @param segment the generation of the log file
+     * @return the path of the log file
+     */
+    private Path segmentFile(long segment) {
+        return directory.resolve(String.format("wal-%06d.log", segment));
+    }
+
+    /**
+     * Returns the generations of the log files in the data directory in order.
+     *
+     * @return the sorted generations
+     * @throws IOException if the directory cannot be listed
+     */
+    private List<Long> listSegments() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "wal-*.log")) {
+            for (Path file : files) {
+                Matcher matcher = segmentPattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Appends a record and waits until it is on disk.
+     *
+     * @param type the type of the record
+     * @param fields the fields of the record
+     */
+    private void appendAndSync(RecordType type, String... fields) {
+        long sequence = log.append(encode(type, fields));
+        if (batchDepth.get()[0] == 0) {
+            log.awaitDurable(sequence);
+        }
+    }
+
+    /**
+     * Encodes a record as one line of tab-separated fields.
+     * Backslashes, tabs, and line breaks in fields are escaped.
+     *
+     * @param type the type of the record
+     * @param fields the fields of the record
+     * @return the encoded record
+     */
+    private static String encode(RecordType type, String... fields) {
+        StringBuilder line = new StringBuilder(type.name());
+        for (String field : fields) {
+            line.append('\t');
+            String value = field == null ? "" : field;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\':
+                        line.append("\\\\");
+                        break;
+                    case '\t':
+                        line.append("\\t");
+                        break;
+                    case '\n':
+                        line.append("\\n");
+                        break;
+                    case '\r':
+                        line.append("\\r");
+                        break;
+                    default:
+                        line.append(c);
+                }
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Decodes a line written by {@link #encode(RecordType, String...)}.
+     *
+     * @param line the encoded record
+     * @return the fields of the record, starting with its type
+     */
+    private static String[] decode(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\t') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char escaped = line.charAt(++i);
+                field.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Splits a comma-separated list, ignoring empty entries.
+     *
+     * @param value the comma-separated list
+     * @return the entries of the list
+     */
+    private static List<String> splitList(String value) {
+        List<String> entries = new ArrayList<>();
+        for (String entry : value.split(",")) {
+            if (!entry.isEmpty()) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,159 @@
+package system;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import model.Permissions;
+import model.Role;
+import model.RoleSet;
+
+/**
+ * Holds the roles admins can be given and caches the permissions each combination of roles resolves to.
+ *
+ * Every combination of roles held by some admin is resolved once into a {@link RoleSet} shared by
+ * all the admins holding it, so hundreds of admins with the same roles share one set of permissions.
+ * Each role knows the RoleSets it is part of, so changing a role recomputes only those, and admins
+ * holding other roles are not touched. RoleSets are kept until a role in them is removed; there are
+ * at most as many as there are different combinations of roles ever given.
+ *
+ * Assigning roles to admins and saving changes is done through {@link AccountManager}.
+ *
+ * @version Oct 17, 2026
+ */
+public class RoleManager {
+    /**
+     * The roles keyed by name, in alphabetical order.
+     */
+    private final Map<String, Role> roles = new TreeMap<>();
+
+    /**
+     * The resolved RoleSets keyed by the names of their roles.
+     */
+    private final Map<Set<String>, RoleSet> roleSets = new HashMap<>();
+
+    /**
+     * The resolved RoleSets each role is part of, keyed by role name.
+     */
+    private final Map<String, List<RoleSet>> roleSetsByRole = new HashMap<>();
+
+    /**
+     * Adds a role, or replaces the role with the same name and recomputes the RoleSets holding it.
+     *
+     * @param role the role
+     * @return the number of RoleSets recomputed
+     */
+    public synchronized int define(Role role) {
+        roles.put(role.getName(), role);
+        List<RoleSet> affected = roleSetsByRole.getOrDefault(role.getName(), List.of());
+        for (RoleSet roleSet : affected) {
+            roleSet.setPermissions(union(roleSet.getRoleNames()));
+        }
+        return affected.size();
+    }
+
+    /**
+     * Removes a role and forgets the RoleSets holding it.
+     * Admins should be given RoleSets without the role first.
+     *
+     * @param name the name of the role
+     * @return the removed role, or null if there is no role with that name
+     */
+    public synchronized Role remove(String name) {
+        Role removed = roles.remove(Role.normalizeName(name));
+        if (removed == null) {
+            return null;
+        }
+        List<RoleSet> affected = roleSetsByRole.remove(removed.getName());
+        if (affected != null) {
+            for (RoleSet roleSet : affected) {
+                roleSets.remove(roleSet.getRoleNames());
+                for (String other : roleSet.getRoleNames()) {
+                    List<RoleSet> others = roleSetsByRole.get(other);
+                    if (others != null) {
+                        others.remove(roleSet);
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a role by name.
+     *
+     * @param name the name of the role, in any case
+     * @return the role, or null if there is no role with that name
+     */
+    public synchronized Role getRole(String name) {
+        String normalized = Role.normalizeName(name);
+        return normalized == null ? null : roles.get(normalized);
+    }
+
+    /**
+     * Returns every role.
+     *
+     * @return a copy of the roles in alphabetical order
+     */
+    public synchronized List<Role> getRoles() {
+        return new ArrayList<>(roles.values());
+    }
+
+    /**
+     * Returns the shared RoleSet for a combination of roles, resolving it the first time it is asked for.
+     *
+     * @param roleNames the names of the roles, in any case
+     * @return the RoleSet, {@link RoleSet#none} if there are no names, or null if a role does not exist
+     */
+    public synchronized RoleSet resolve(Collection<String> roleNames) {
+        Set<String> key = new TreeSet<>();
+        for (String name : roleNames) {
+            String normalized = Role.normalizeName(name);
+            if (normalized == null || !roles.containsKey(normalized)) {
+                return null;
+            }
+            key.add(normalized);
+        }
+        if (key.isEmpty()) {
+            return RoleSet.none;
+        }
+        RoleSet roleSet = roleSets.get(key);
+        if (roleSet == null) {
+            roleSet = new RoleSet(key, union(key));
+            roleSets.put(roleSet.getRoleNames(), roleSet);
+            for (String name : key) {
+                roleSetsByRole.computeIfAbsent(name, k -> new ArrayList<>()).add(roleSet);
+            }
+        }
+        return roleSet;
+    }
+
+    /**
+     * Returns the number of resolved RoleSets held.
+     *
+     * @return the number of RoleSets
+     */
+    public synchronized int getRoleSetCount() {
+        return roleSets.size();
+    }
+
+    /**
+     * Combines the permissions of several roles.
+     *
+     * @param roleNames the normalized names of existing roles
+     * @return the permissions any of the roles give
+     */
+    private EnumSet<Permissions> union(Set<String> roleNames) {
+        EnumSet<Permissions> permissions = EnumSet.noneOf(Permissions.class);
+        for (String name : roleNames) {
+            permissions.addAll(roles.get(name).getPermissions());
+        }
+        return permissions;
+    }
+}
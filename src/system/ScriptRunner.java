@@ -0,0 +1,365 @@
+package system;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import model.Admin;
+import model.CourseSection;
+import model.EnrollmentStatus;
+import model.Instructor;
+import model.Student;
+import model.User;
+import util.Console;
+
+/**
+ * Runs administrative commands from a script without the console menus.
+ *
+ * Each line holds one command. Blank lines and lines starting with {@code #} are ignored, command
+ * names are not case sensitive, and users may be given by ID or email:
+ * <pre>
+ * ENROLL crn student            enroll a student in a section
+ * DROP crn student              drop a student from a section or its waitlist
+ * WAITLIST crn student          add a student to a full section's waitlist
+ * ASSIGN crn instructor         assign an instructor to a section
+ * UNASSIGN crn instructor       unassign an instructor from a section
+ * HOLD student ON|OFF           set or clear a student's advising hold
+ * HOLD ALL                      set an advising hold on every student
+ * ASSIGN_ROLE role admin...     give a role to one or more admins, or ALL admins
+ * UNASSIGN_ROLE role admin...   take a role from one or more admins, or ALL admins
+ * REMOVE_USER user              delete a user
+ * REMOVE_COURSE courseId        delete a course and its sections
+ * IMPORT_COURSES file           import courses and sections (see {@link CatalogImporter})
+ * IMPORT_STUDENTS names output  import students and write their credentials (see {@link StudentImporter})
+ * </pre>
+ *
+ * Commands call the {@link EnrollmentSystem}, {@link EnrollmentEngine}, and {@link AccountManager}
+ * directly. Their console messages are discarded on the thread running the script, and other threads
+ * keep printing; instead each failed command is written to the output with its line number and
+ * reason, followed by a summary of the commands run and the throughput. The whole script is one
+ * persistence batch, so its changes share disk flushes and are all on disk when the run returns.
+ *
+ * @version Oct 17, 2026
+ */
+public class ScriptRunner {
+    private static final Pattern whitespacePattern = Pattern.compile("\\s+");
+
+    private final EnrollmentSystem enrollmentSystem;
+    private final AccountManager accountManager;
+
+    /**
+     * Constructs a ScriptRunner for an enrollment system and account manager.
+     *
+     * @param enrollmentSystem the enrollment system to run commands against
+     * @param accountManager the account manager to run commands against
+     */
+    public ScriptRunner(EnrollmentSystem enrollmentSystem, AccountManager accountManager) {
+        this.enrollmentSystem = enrollmentSystem;
+        this.accountManager = accountManager;
+    }
+
+    /**
+     * Runs every command in a script, writing failures and a summary to the output.
+     *
+     * @param script the script
+     * @param out where to write failed commands and the summary; flushed before returning. Printing to
+     *            {@code System.out} is discarded on this thread during the run, so this must not write through it
+     * @return the result of the run
+     * @throws IOException if the script cannot be read or the output cannot be written
+     */
+    public Result run(Reader script, Writer out) throws IOException {
+        BufferedReader lines = script instanceof BufferedReader buffered ? buffered : new BufferedReader(script);
+        Result result = new Result();
+        // Only this thread is silenced; other sessions keep printing to their terminals
+        PrintStream console = Console.setOutput(new PrintStream(OutputStream.nullOutputStream()));
+        enrollmentSystem.beginBatch();
+        accountManager.beginBatch();
+        long start = System.nanoTime();
+        try {
+            int lineNumber = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] words = whitespacePattern.split(line);
+                String command = words[0].toUpperCase();
+                String error = execute(command, words, line);
+                result.count(command, error == null);
+                if (error != null) {
+                    out.write("Line " + lineNumber + ": " + line + ": " + error + "\n");
+                }
+            }
+        } finally {
+            accountManager.endBatch();
+            enrollmentSystem.endBatch();
+            result.nanos = System.nanoTime() - start;
+            Console.setOutput(console);
+        }
+        result.writeSummary(out);
+        out.flush();
+        return result;
+    }
+
+    /**
+     * Runs one command.
+     *
+     * @param command the upper case command name
+     * @param words the words of the line, starting with the command
+     * @param line the whole line
+     * @return an error message, or null if the command succeeded
+     */
+    private String execute(String command, String[] words, String line) {
+        switch (command) {
+            case "ENROLL":
+            case "DROP":
+            case "WAITLIST":
+                return enrollment(command, words);
+            case "ASSIGN":
+            case "UNASSIGN":
+                return assignment(command, words);
+            case "HOLD":
+                return hold(words);
+            case "ASSIGN_ROLE":
+            case "UNASSIGN_ROLE":
+                return roleAssignment(command, words);
+            case "REMOVE_USER":
+                if (words.length != 2) {
+                    return "Expected REMOVE_USER user";
+                }
+                User user = accountManager.getUserByIdOrEmail(words[1]);
+                if (user == null) {
+                    return "No user " + words[1];
+                }
+                return accountManager.removeUser(user) ? null : "User could not be removed";
+            case "REMOVE_COURSE":
+                String courseId = line.substring(words[0].length()).strip();
+                if (courseId.isEmpty()) {
+                    return "Expected REMOVE_COURSE courseId";
+                }
+                return enrollmentSystem.removeCourse(enrollmentSystem.getCourseById(courseId))
+                        ? null : "No course " + courseId;
+            case "IMPORT_COURSES":
+                if (words.length != 2) {
+                    return "Expected IMPORT_COURSES file";
+                }
+                try {
+                    CatalogImporter.Result imported = new CatalogImporter(enrollmentSystem).importFile(Path.of(words[1]));
+                    return imported.getErrors().isEmpty() ? null
+                            : imported.getErrors().size() + " rows skipped, first: " + imported.getErrors().get(0);
+                } catch (IOException e) {
+                    return "Could not read " + words[1] + ": " + e.getMessage();
+                }
+            case "IMPORT_STUDENTS":
+                if (words.length != 3) {
+                    return "Expected IMPORT_STUDENTS names output";
+                }
+                try {
+                    StudentImporter.Result imported = new StudentImporter(accountManager)
+                            .importFile(Path.of(words[1]), Path.of(words[2]));
+                    return imported.getErrors().isEmpty() ? null
+                            : imported.getErrors().size() + " names skipped, first: " + imported.getErrors().get(0);
+                } catch (IOException e) {
+                    return "Could not import students: " + e.getMessage();
+                }
+            default:
+                return "Unknown command " + words[0];
+        }
+    }
+
+    /**
+     * Runs an ENROLL, DROP, or WAITLIST command.
+     *
+     * @param command the upper case command name
+     * @param words the words of the line
+     * @return an error message, or null if the command succeeded
+     */
+    private String enrollment(String command, String[] words) {
+        if (words.length != 3) {
+            return "Expected " + command + " crn student";
+        }
+        CourseSection section = enrollmentSystem.findCourseByCRN(words[1]);
+        if (section == null) {
+            return "No section with CRN " + words[1];
+        }
+        if (!(accountManager.getUserByIdOrEmail(words[2]) instanceof Student student)) {
+            return "No student " + words[2];
+        }
+        EnrollmentEngine engine = enrollmentSystem.getEnrollmentEngine();
+        EnrollmentStatus status;
+        switch (command) {
+            case "ENROLL":
+                status = engine.enroll(student, section);
+                break;
+            case "DROP":
+                status = engine.drop(student, section);
+                break;
+            default:
+                status = engine.joinWaitlist(student, section);
+                break;
+        }
+        return status.isSuccess() || status == EnrollmentStatus.WAITLISTED ? null : status.getMessage();
+    }
+
+    /**
+     * Runs an ASSIGN or UNASSIGN command.
+     *
+     * @param command the upper case command name
+     * @param words the words of the line
+     * @return an error message, or null if the command succeeded
+     */
+    private String assignment(String command, String[] words) {
+        if (words.length != 3) {
+            return "Expected " + command + " crn instructor";
+        }
+        CourseSection section = enrollmentSystem.findCourseByCRN(words[1]);
+        if (section == null) {
+            return "No section with CRN " + words[1];
+        }
+        if (!(accountManager.getUserByIdOrEmail(words[2]) instanceof Instructor instructor)) {
+            return "No instructor " + words[2];
+        }
+        if (command.equals("ASSIGN")) {
+            return enrollmentSystem.assignInstructor(section, instructor) ? null : "Instructor could not be assigned";
+        }
+        return enrollmentSystem.unassignInstructor(section, instructor) ? null : "Instructor is not assigned to this section";
+    }
+
+    /**
+     * Runs a HOLD command.
+     *
+     * @param words the words of the line
+     * @return an error message, or null if the command succeeded
+     */
+    private String hold(String[] words) {
+        if (words.length == 2 && words[1].equalsIgnoreCase("ALL")) {
+            accountManager.setAllAdvisingHoldsTrue();
+            return null;
+        }
+        if (words.length != 3 || !(words[2].equalsIgnoreCase("ON") || words[2].equalsIgnoreCase("OFF"))) {
+            return "Expected HOLD student ON|OFF or HOLD ALL";
+        }
+        if (!(accountManager.getUserByIdOrEmail(words[1]) instanceof Student student)) {
+            return "No student " + words[1];
+        }
+        accountManager.setAdvisingHold(student, words[2].equalsIgnoreCase("ON"));
+        return null;
+    }
+
+    /**
+     * Runs an ASSIGN_ROLE or UNASSIGN_ROLE command for every admin on the line at once.
+     *
+     * @param command the upper case command name
+     * @param words the words of the line
+     * @return an error message, or null if the command succeeded
+     */
+    private String roleAssignment(String command, String[] words) {
+        if (words.length < 3) {
+            return "Expected " + command + " role admin... or " + command + " role ALL";
+        }
+        List<Admin> admins;
+        if (words.length == 3 && words[2].equalsIgnoreCase("ALL")) {
+            admins = accountManager.getAdmins();
+        } else {
+            admins = new ArrayList<>();
+            for (int i = 2; i < words.length; i++) {
+                if (!(accountManager.getUserByIdOrEmail(words[i]) instanceof Admin admin)) {
+                    return "No admin " + words[i];
+                }
+                admins.add(admin);
+            }
+        }
+        boolean found = command.equals("ASSIGN_ROLE")
+                ? accountManager.assignRole(admins, words[1]) : accountManager.unassignRole(admins, words[1]);
+        return found ? null : "No role " + words[1];
+    }
+
+    /**
+     * The counts and timing of a script run.
+     */
+    public static class Result {
+        private final Map<String, int[]> countsByCommand = new LinkedHashMap<>();
+        private int succeeded;
+        private int failed;
+        private long nanos;
+
+        /**
+         * Counts one command.
+         *
+         * @param command the upper case command name
+         * @param success whether the command succeeded
+         */
+        private void count(String command, boolean success) {
+            int[] counts = countsByCommand.computeIfAbsent(command, key -> new int[2]);
+            if (success) {
+                counts[0]++;
+                succeeded++;
+            } else {
+                counts[1]++;
+                failed++;
+            }
+        }
+
+        /**
+         * Writes the number of commands run, their throughput, and the counts for each command.
+         *
+         * @param out where to write the summary
+         * @throws IOException if the output cannot be written
+         */
+        private void writeSummary(Writer out) throws IOException {
+            double seconds = nanos / 1e9;
+            out.write(String.format("%,d commands in %.2f s (%,.0f commands/s): %,d succeeded, %,d failed%n",
+                    getCommandCount(), seconds, seconds > 0 ? getCommandCount() / seconds : 0.0, succeeded, failed));
+            for (Map.Entry<String, int[]> entry : countsByCommand.entrySet()) {
+                out.write(String.format("  %-16s %,10d succeeded %,10d failed%n",
+                        entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+            }
+        }
+
+        /**
+         * Returns the number of commands run, not counting blank lines and comments.
+         *
+         * @return the number of commands
+         */
+        public int getCommandCount() {
+            return succeeded + failed;
+        }
+
+        /**
+         * Returns the number of commands that succeeded.
+         *
+         * @return the number of successful commands
+         */
+        public int getSucceeded() {
+            return succeeded;
+        }
+
+        /**
+         * Returns the number of commands that failed.
+         *
+         * @return the number of failed commands
+         */
+        public int getFailed() {
+            return failed;
+        }
+
+        /**
+         * Returns how long the script took to run.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return nanos;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package system;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import model.CourseSection;
+import model.TimeSlot;
+
+/**
+ * Secondary indexes over the course sections in a catalog, used to answer a {@link SectionQuery}
+ * without looking at every section.
+ *
+ * Sections are kept in two kinds of sorted maps:
+ * <ul>
+ *   <li>the catalog, keyed by lower case course ID then CRN, so a course ID prefix such as "math 12"
+ *       is one contiguous range;</li>
+ *   <li>one map per day of the week, keyed by the start and end of each meeting on that day, so a time
+ *       window such as "Monday, starting after 9:00 AM" is one contiguous range.</li>
+ * </ul>
+ * A search walks the narrowest range the query allows and checks the remaining filters on each
+ * section in it. Whether a section has a seat open is read from the section itself, since it changes
+ * with every enrollment and keeping a set of open sections would add work to each one.
+ *
+ * The maps are concurrent, so searches run on other threads without locking. Sections are added and
+ * removed by {@link EnrollmentSystem#registerSection(CourseSection)} and
+ * {@link EnrollmentSystem#unregisterSection(CourseSection)}.
+ *
+ * @version Oct 17, 2026
+ */
+public class SectionIndex {
+    /**
+     * Every section keyed by {@link #catalogKey(CourseSection)}.
+     */
+    private final ConcurrentSkipListMap<String, CourseSection> catalog = new ConcurrentSkipListMap<>();
+
+    /**
+     * For each day, every meeting on that day keyed by {@link #meetingKey(int, int, String)}.
+     */
+    private final Map<DayOfWeek, ConcurrentSkipListMap<String, CourseSection>> meetingsByDay = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Constructs an empty SectionIndex.
+     */
+    SectionIndex() {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            meetingsByDay.put(day, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * Adds a section to the indexes.
+     *
+     * @param section the section
+     */
+    void add(CourseSection section) {
+        String key = catalogKey(section);
+        catalog.put(key, section);
+        for (TimeSlot slot : section.getTimeSlots()) {
+            meetingsByDay.get(slot.getDay()).put(meetingKey(minutes(slot.getStartTime()), minutes(slot.getEndTime()), key), section);
+        }
+    }
+
+    /**
+     * Removes a section from the indexes.
+     *
+     * @param section the section
+     */
+    void remove(CourseSection section) {
+        String key = catalogKey(section);
+        catalog.remove(key, section);
+        for (TimeSlot slot : section.getTimeSlots()) {
+            meetingsByDay.get(slot.getDay()).remove(meetingKey(minutes(slot.getStartTime()), minutes(slot.getEndTime()), key), section);
+        }
+    }
+
+    /**
+     * Returns the number of sections indexed.
+     *
+     * @return the number of sections
+     */
+    public int size() {
+        return catalog.size();
+    }
+
+    /**
+     * Finds the sections matching a query.
+     *
+     * @param query the query
+     * @return the matching sections ordered by course ID then CRN, at most {@link SectionQuery#getLimit()} of them
+     */
+    public List<CourseSection> search(SectionQuery query) {
+        boolean timed = query.getDay() != null || query.getStartingAfter() != null || query.getEndingBefore() != null;
+        if (query.getCourseIdPrefix() != null) {
+            return scan(prefixRange(query.getCourseIdPrefix()), query);
+        }
+        if (timed) {
+            return searchMeetings(query);
+        }
+        // Text may match anywhere in a course name, so it is checked on each section in catalog order
+        return scan(catalog, query);
+    }
+
+    /**
+     * Walks a range of the catalog in order, stopping once the limit is reached.
+     *
+     * @param range the range
+     * @param query the query
+     * @return the matching sections
+     */
+    private static List<CourseSection> scan(NavigableMap<String, CourseSection> range, SectionQuery query) {
+        List<CourseSection> results = new ArrayList<>();
+        for (CourseSection section : range.values()) {
+            if (query.matches(section)) {
+                results.add(section);
+                if (results.size() == query.getLimit()) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Walks the meetings on the queried day, or on every day, that start within the queried times.
+     *
+     * @param query the query, with a day or a time set
+     * @return the matching sections
+     */
+    private List<CourseSection> searchMeetings(SectionQuery query) {
+        int from = query.getStartingAfter() == null ? 0 : minutes(query.getStartingAfter());
+        // A meeting ending by the latest end also starts by it
+        int to = query.getEndingBefore() == null ? 24 * 60 : minutes(query.getEndingBefore());
+        if (from > to) {
+            return List.of();
+        }
+        String fromKey = String.format("%04d", from);
+        String toKey = String.format("%04d", to + 1);
+        TreeMap<String, CourseSection> matches = new TreeMap<>();
+        for (Map.Entry<DayOfWeek, ConcurrentSkipListMap<String, CourseSection>> day : meetingsByDay.entrySet()) {
+            if (query.getDay() != null && day.getKey() != query.getDay()) {
+                continue;
+            }
+            for (Map.Entry<String, CourseSection> meeting : day.getValue().subMap(fromKey, toKey).entrySet()) {
+                // Meetings ending too late are skipped by the end in their key, before looking at the section
+                if (query.getEndingBefore() != null && Integer.parseInt(meeting.getKey(), 4, 8, 10) > to) {
+                    continue;
+                }
+                String key = meeting.getKey().substring(8);
+                // Only the first sections in catalog order are kept, so a full result skips later ones unchecked
+                if (matches.size() == query.getLimit() && key.compareTo(matches.lastKey()) >= 0) {
+                    continue;
+                }
+                if (!matches.containsKey(key) && query.matches(meeting.getValue())) {
+                    matches.put(key, meeting.getValue());
+                    if (matches.size() > query.getLimit()) {
+                        matches.pollLastEntry();
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * Returns the part of the catalog whose course IDs start with a prefix.
+     *
+     * @param prefix the lower case prefix
+     * @return the range
+     */
+    private NavigableMap<String, CourseSection> prefixRange(String prefix) {
+        return catalog.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the key ordering a section by course ID, then by CRN.
+     *
+     * @param section the section
+     * @return the key
+     */
+    private static String catalogKey(CourseSection section) {
+        return section.getCourse().getId().toLowerCase(Locale.ROOT) + '\u0000'
+                + String.format("%010d", Integer.parseInt(section.getCRN()));
+    }
+
+    /**
+     * Returns the key ordering a meeting by start, then end, then section.
+     * The first eight characters are the times and the rest is the catalog key.
+     *
+     * @param start the start, in minutes after midnight
+     * @param end the end, in minutes after midnight
+     * @param catalogKey the catalog key of the section
+     * @return the key
+     */
+    private static String meetingKey(int start, int end, String catalogKey) {
+        return String.format("%04d%04d", start, end) + catalogKey;
+    }
+
+    /**
+     * Returns a time as minutes after midnight.
+     *
+     * @param time the time
+     * @return the minutes
+     */
+    private static int minutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,298 @@
+package system;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import model.CourseSection;
+import model.Instructor;
+import model.TimeSlot;
+
+/**
+ * The filters of a section search, run by {@link EnrollmentSystem#findSections(SectionQuery)}.
+ * Each method sets one filter and returns the query, so filters can be chained; filters left unset
+ * match every section.
+ *
+ * How to use:
+ * <pre>
+ * List&lt;CourseSection&gt; sections = enrollmentSystem.findSections(new SectionQuery()
+ *     .courseIdPrefix("MATH")
+ *     .day(DayOfWeek.MONDAY)
+ *     .startingAfter(LocalTime.of(9, 0))
+ *     .endingBefore(LocalTime.of(12, 0))
+ *     .openOnly(true));
+ * </pre>
+ *
+ * The day and time filters apply to a single meeting: a section matches if one of its meetings is
+ * on the day and starts and ends within the times.
+ *
+ * @version Oct 17, 2026
+ */
+public class SectionQuery {
+    private String courseIdPrefix;
+    private String text;
+    private DayOfWeek day;
+    private LocalTime startingAfter;
+    private LocalTime endingBefore;
+    private Integer credits;
+    private String instructor;
+    private boolean openOnly;
+    private int limit = Integer.MAX_VALUE;
+
+    /**
+     * Only matches sections of courses whose ID starts with a prefix, such as "MATH" or "MATH 12".
+     *
+     * @param prefix the prefix, in any case; null or blank matches every course
+     * @return this query
+     */
+    public SectionQuery courseIdPrefix(String prefix) {
+        this.courseIdPrefix = normalize(prefix);
+        return this;
+    }
+
+    /**
+     * Only matches sections of courses whose ID starts with the text or whose name contains it.
+     *
+     * @param text the text, in any case; null or blank matches every course
+     * @return this query
+     */
+    public SectionQuery text(String text) {
+        this.text = normalize(text);
+        return this;
+    }
+
+    /**
+     * Only matches sections meeting on a day.
+     *
+     * @param day the day, or null for any day
+     * @return this query
+     */
+    public SectionQuery day(DayOfWeek day) {
+        this.day = day;
+        return this;
+    }
+
+    /**
+     * Only matches sections with a meeting starting at or after a time.
+     *
+     * @param time the earliest start, or null for any time
+     * @return this query
+     */
+    public SectionQuery startingAfter(LocalTime time) {
+        this.startingAfter = time;
+        return this;
+    }
+
+    /**
+     * Only matches sections with a meeting ending at or before a time.
+     *
+     * @param time the latest end, or null for any time
+     * @return this query
+     */
+    public SectionQuery endingBefore(LocalTime time) {
+        this.endingBefore = time;
+        return this;
+    }
+
+    /**
+     * Only matches sections of courses worth a number of credits.
+     *
+     * @param credits the credits, or null for any number
+     * @return this query
+     */
+    public SectionQuery credits(Integer credits) {
+        this.credits = credits;
+        return this;
+    }
+
+    /**
+     * Only matches sections taught by an instructor.
+     *
+     * @param instructor the instructor's ID, or part of their name, in any case; null or blank matches every section
+     * @return this query
+     */
+    public SectionQuery instructor(String instructor) {
+        this.instructor = normalize(instructor);
+        return this;
+    }
+
+    /**
+     * Only matches sections with a seat open.
+     *
+     * @param openOnly true to leave out full sections
+     * @return this query
+     */
+    public SectionQuery openOnly(boolean openOnly) {
+        this.openOnly = openOnly;
+        return this;
+    }
+
+    /**
+     * Returns at most a number of sections.
+     *
+     * @param limit the most sections to return
+     * @return this query
+     * @throws IllegalArgumentException if the limit is less than 1
+     */
+    public SectionQuery limit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Returns the course ID prefix, in lower case.
+     *
+     * @return the prefix, or null if not filtered
+     */
+    public String getCourseIdPrefix() {
+        return courseIdPrefix;
+    }
+
+    /**
+     * Returns the text matched against course IDs and names, in lower case.
+     *
+     * @return the text, or null if not filtered
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the day.
+     *
+     * @return the day, or null if not filtered
+     */
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    /**
+     * Returns the earliest start.
+     *
+     * @return the earliest start, or null if not filtered
+     */
+    public LocalTime getStartingAfter() {
+        return startingAfter;
+    }
+
+    /**
+     * Returns the latest end.
+     *
+     * @return the latest end, or null if not filtered
+     */
+    public LocalTime getEndingBefore() {
+        return endingBefore;
+    }
+
+    /**
+     * Returns the most sections to return.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks a section against every filter.
+     *
+     * @param section the section
+     * @return true if the section matches the query, false otherwise
+     */
+    public boolean matches(CourseSection section) {
+        if (openOnly && section.isFull()) {
+            return false;
+        }
+        if (courseIdPrefix != null || text != null) {
+            String courseId = section.getCourse().getId().toLowerCase(Locale.ROOT);
+            if (courseIdPrefix != null && !courseId.startsWith(courseIdPrefix)) {
+                return false;
+            }
+            if (text != null && !courseId.startsWith(text)
+                    && !section.getCourse().getName().toLowerCase(Locale.ROOT).contains(text)) {
+                return false;
+            }
+        }
+        if (credits != null && section.getCourse().getCredits() != credits) {
+            return false;
+        }
+        if (instructor != null) {
+            Instructor teacher = section.getInstructor();
+            if (teacher == null || !(teacher.getId().equalsIgnoreCase(instructor)
+                    || teacher.getName().toLowerCase(Locale.ROOT).contains(instructor))) {
+                return false;
+            }
+        }
+        if (day == null && startingAfter == null && endingBefore == null) {
+            return true;
+        }
+        for (TimeSlot slot : section.getTimeSlots()) {
+            if (matches(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks one meeting against the day and time filters.
+     *
+     * @param slot the meeting
+     * @return true if the meeting is on the day and within the times, false otherwise
+     */
+    boolean matches(TimeSlot slot) {
+        return (day == null || slot.getDay() == day)
+                && (startingAfter == null || !slot.getStartTime().isBefore(startingAfter))
+                && (endingBefore == null || !slot.getEndTime().isAfter(endingBefore));
+    }
+
+    /**
+     * Reads a day given as an abbreviation (M, T, W, Th, F) or a full name (Monday).
+     *
+     * @param day the day
+     * @return the day of the week, or null if it is not a day
+     */
+    public static DayOfWeek parseDay(String day) {
+        DayOfWeek abbreviated = EnrollmentSystem.toDayOfWeek(day);
+        if (abbreviated != null) {
+            return abbreviated;
+        }
+        try {
+            return DayOfWeek.valueOf(day.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a time given as hh:mm AM/PM (9:30 AM) or on a 24 hour clock (09:30).
+     *
+     * @param time the time
+     * @return the time, or null if it is not a time
+     */
+    public static LocalTime parseTime(String time) {
+        try {
+            return EnrollmentSystem.parseTime(time);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalTime.parse(time.strip());
+            } catch (DateTimeParseException e2) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns text in lower case without surrounding spaces.
+     *
+     * @param value the text
+     * @return the normalized text, or null if the text is null or blank
+     */
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.strip().toLowerCase(Locale.ROOT);
+    }
+}
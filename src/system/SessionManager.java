@@ -0,0 +1,208 @@
+package system;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import model.User;
+
+/**
+ * Issues session tokens to users who have logged in, so later requests can present the token
+ * instead of having their email and password checked again.
+ *
+ * Tokens are random and carry no information about the user. A session expires once it has not
+ * been used for the time to live; each use pushes the expiry back. A session also ends when the
+ * user's password changes, so a token cannot outlive a password reset. Expired sessions are refused
+ * when they are looked up and removed from memory by a background sweeper.
+ *
+ * How to use:
+ * <pre>
+ * SessionManager sessions = new SessionManager(30, TimeUnit.MINUTES);
+ * sessions.startSweeper(1, TimeUnit.MINUTES);
+ * String token = sessions.createSession(user);
+ * User sameUser = sessions.getUser(token);
+ * sessions.invalidate(token);
+ * sessions.close();
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class SessionManager {
+    private static final int tokenBytes = 32;
+    private static final SecureRandom random = new SecureRandom();
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private ScheduledExecutorService sweeper;
+
+    /**
+     * A logged-in user, the password hash they logged in with, and when their session expires.
+     */
+    private static class Session {
+        private final User user;
+        private final String password;
+        private volatile long expiresAt;
+
+        /**
+         * Constructs a Session.
+         *
+         * @param user the logged-in user
+         * @param expiresAt the {@link System#nanoTime()} at which the session expires
+         */
+        private Session(User user, long expiresAt) {
+            this.user = user;
+            this.password = user.getPassword();
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Returns whether the session has expired.
+         *
+         * @param now the current {@link System#nanoTime()}
+         * @return true if the session has expired
+         */
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Constructs a SessionManager.
+     *
+     * @param ttl how long a session lasts after it was last used
+     * @param unit the unit of the time to live
+     * @throws IllegalArgumentException if the time to live is not positive
+     */
+    public SessionManager(long ttl, TimeUnit unit) {
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("Session time to live must be positive");
+        }
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * Starts a session for a user who has been authenticated.
+     *
+     * @param user the user
+     * @return the session's token
+     */
+    public String createSession(User user) {
+        byte[] bytes = new byte[tokenBytes];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(user, System.nanoTime() + ttlNanos));
+        return token;
+    }
+
+    /**
+     * Returns the user of a session and extends the session.
+     *
+     * @param token the session's token
+     * @return the user, or null if the token is unknown or the session has expired
+     */
+    public User getUser(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        // A changed password ends every session started with the old one
+        if (session.isExpired(now) || !Objects.equals(session.password, session.user.getPassword())) {
+            sessions.remove(token, session);
+            return null;
+        }
+        session.expiresAt = now + ttlNanos;
+        return session.user;
+    }
+
+    /**
+     * Ends a session, such as when the user logs out.
+     *
+     * @param token the session's token
+     * @return true if the session existed
+     */
+    public boolean invalidate(String token) {
+        return token != null && sessions.remove(token) != null;
+    }
+
+    /**
+     * Ends every session of a user, such as when the user is removed.
+     *
+     * @param user the user
+     * @return the number of sessions ended
+     */
+    public int invalidateUser(User user) {
+        int[] removed = {0};
+        sessions.values().removeIf(session -> {
+            if (session.user == user) {
+                removed[0]++;
+                return true;
+            }
+            return false;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Removes every expired session and every session whose user has changed their password.
+     *
+     * @return the number of sessions removed
+     */
+    public int sweep() {
+        long now = System.nanoTime();
+        int[] removed = {0};
+        sessions.values().removeIf(session -> {
+            if (session.isExpired(now) || !Objects.equals(session.password, session.user.getPassword())) {
+                removed[0]++;
+                return true;
+            }
+            return false;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Starts a background thread that sweeps expired sessions at a fixed period.
+     * Calling this again has no effect.
+     *
+     * @param period how often to sweep
+     * @param unit the unit of the period
+     */
+    public synchronized void startSweeper(long period, TimeUnit unit) {
+        if (sweeper != null) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, period, period, unit);
+    }
+
+    /**
+     * Returns the number of sessions held, including expired ones not yet swept.
+     *
+     * @return the number of sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops the sweeper, if it was started. Sessions remain valid.
+     */
+    public synchronized void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+}
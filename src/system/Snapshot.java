@@ -0,0 +1,363 @@
+package system;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import model.Admin;
+import model.Course;
+import model.CourseSection;
+import model.Instructor;
+import model.Permissions;
+import model.Role;
+import model.RoleSet;
+import model.Student;
+import model.TimeSlot;
+import model.User;
+
+/**
+ * Writes and reads compact binary snapshots of an {@link EnrollmentSystem} and an {@link AccountManager}.
+ *
+ * A snapshot holds every role, user, course, section, instructor assignment, and roster. Users are
+ * written first and rosters refer to students by their position in the user list, so each
+ * enrollment takes four bytes. Each snapshot also records the generation of the write-ahead log
+ * file that holds the changes made after the snapshot was started. Snapshots written before roles
+ * existed (format version 1) can still be read.
+ *
+ * Writing does not stop enrollment: the user list and catalog are copied while their managers are
+ * locked, and each roster while its section is locked. A change made during the snapshot may or may
+ * not be included, but it is always in the log file that is replayed afterwards, and replaying a
+ * change that is already included leaves the state unchanged.
+ *
+ * @version Oct 17, 2026
+ */
+public class Snapshot {
+    private static final int magic = 0x43455353;
+    private static final int formatVersion = 2;
+    private static final int formatVersionWithoutRoles = 1;
+    private static final byte studentType = 1;
+    private static final byte instructorType = 2;
+    private static final byte adminType = 3;
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private Snapshot() {
+    }
+
+    /**
+     * Writes a snapshot to a file and forces it to disk.
+     *
+     * @param file the file to write, replaced if it exists
+     * @param generation the generation of the log file holding changes made after this snapshot
+     * @param enrollmentSystem the enrollment system to save
+     * @param accountManager the account manager to save
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, long generation, EnrollmentSystem enrollmentSystem,
+            AccountManager accountManager) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(magic);
+            out.writeInt(formatVersion);
+            out.writeLong(generation);
+
+            Map<User, Integer> userIndexes = new HashMap<>();
+            synchronized (accountManager) {
+                List<Role> roles = accountManager.getRoleManager().getRoles();
+                out.writeInt(roles.size());
+                for (Role role : roles) {
+                    out.writeUTF(role.getName());
+                    writePermissions(out, role.getPermissions());
+                }
+
+                List<User> users = accountManager.getUsers();
+                out.writeInt(users.size());
+                for (User user : users) {
+                    userIndexes.put(user, userIndexes.size());
+                    writeUser(out, user);
+                }
+            }
+
+            List<Course> courses;
+            Map<Course, List<CourseSection>> sections = new HashMap<>();
+            synchronized (enrollmentSystem) {
+                courses = new ArrayList<>(enrollmentSystem.getCourses());
+                for (Course course : courses) {
+                    sections.put(course, new ArrayList<>(course.getSections()));
+                }
+            }
+
+            out.writeInt(courses.size());
+            for (Course course : courses) {
+                out.writeUTF(course.getId());
+                out.writeUTF(course.getName());
+                out.writeUTF(course.getDescription() == null ? "" : course.getDescription());
+                out.writeInt(course.getCredits());
+                out.writeInt(sections.get(course).size());
+                for (CourseSection section : sections.get(course)) {
+                    writeSection(out, section, userIndexes);
+                }
+            }
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Reads a snapshot into an empty enrollment system and account manager.
+     *
+     * @param file the snapshot file
+     * @param enrollmentSystem the enrollment system to restore into
+     * @param accountManager the account manager to restore into
+     * @return the generation of the log file holding changes made after the snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static long read(Path file, EnrollmentSystem enrollmentSystem, AccountManager accountManager)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            int version = in.readInt() == magic ? in.readInt() : -1;
+            if (version != formatVersion && version != formatVersionWithoutRoles) {
+                throw new IOException("Not a snapshot file: " + file);
+            }
+            boolean hasRoles = version == formatVersion;
+            long generation = in.readLong();
+
+            if (hasRoles) {
+                int roleCount = in.readInt();
+                for (int i = 0; i < roleCount; i++) {
+                    accountManager.defineRole(in.readUTF(), readPermissions(in));
+                }
+            }
+
+            int userCount = in.readInt();
+            List<User> users = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                User user = readUser(in, hasRoles, accountManager.getRoleManager());
+                accountManager.addRestoredUser(user);
+                users.add(user);
+            }
+
+            int courseCount = in.readInt();
+            for (int c = 0; c < courseCount; c++) {
+                Course course = new Course(in.readUTF(), in.readUTF(), in.readUTF(), in.readInt());
+                enrollmentSystem.addCourse(course);
+                int sectionCount = in.readInt();
+                for (int s = 0; s < sectionCount; s++) {
+                    readSection(in, course, enrollmentSystem, users);
+                }
+            }
+            return generation;
+        }
+    }
+
+    /**
+     * Writes one user.
+     *
+     * @param out the stream to write to
+     * @param user the user to write
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeUser(DataOutputStream out, User user) throws IOException {
+        if (user instanceof Student) {
+            out.writeByte(studentType);
+        } else if (user instanceof Instructor) {
+            out.writeByte(instructorType);
+        } else {
+            out.writeByte(adminType);
+        }
+        out.writeUTF(user.getId());
+        out.writeUTF(user.getName());
+        out.writeUTF(user.getEmail());
+        out.writeUTF(user.getPassword());
+        out.writeBoolean(user.needsPasswordReset());
+        if (user instanceof Student student) {
+            out.writeBoolean(student.hasAdvisingHold());
+        } else if (user instanceof Admin admin) {
+            writePermissions(out, admin.getPermissions());
+            Set<String> roleNames = admin.getRoleSet().getRoleNames();
+            out.writeInt(roleNames.size());
+            for (String roleName : roleNames) {
+                out.writeUTF(roleName);
+            }
+        }
+    }
+
+    /**
+     * Writes a set of permissions by name.
+     *
+     * @param out the stream to write to
+     * @param permissions the permissions to write
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writePermissions(DataOutputStream out, Set<Permissions> permissions) throws IOException {
+        List<Permissions> copy = new ArrayList<>(permissions);
+        out.writeInt(copy.size());
+        for (Permissions permission : copy) {
+            out.writeUTF(permission.name());
+        }
+    }
+
+    /**
+     * Reads a set of permissions written by {@link #writePermissions(DataOutputStream, Set)}.
+     *
+     * @param in the stream to read from
+     * @return the permissions
+     * @throws IOException if the stream cannot be read
+     */
+    private static List<Permissions> readPermissions(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<Permissions> permissions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Permissions permission = Permissions.parse(in.readUTF());
+            if (permission != null) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+
+    /**
+     * Reads one user.
+     *
+     * @param in the stream to read from
+     * @param hasRoles whether admins are followed by the names of their roles
+     * @param roleManager the roles admins are given
+     * @return the restored user
+     * @throws IOException if the stream cannot be read
+     */
+    private static User readUser(DataInputStream in, boolean hasRoles, RoleManager roleManager) throws IOException {
+        byte type = in.readByte();
+        String id = in.readUTF();
+        String name = in.readUTF();
+        String email = in.readUTF();
+        String password = in.readUTF();
+        boolean needsPasswordReset = in.readBoolean();
+        User user;
+        switch (type) {
+            case studentType:
+                user = new Student(id, name, email, password, in.readBoolean());
+                break;
+            case instructorType:
+                user = new Instructor(id, name, email, password);
+                break;
+            case adminType:
+                Admin admin = new Admin(id, name, email, password);
+                for (Permissions permission : readPermissions(in)) {
+                    admin.addPermission(permission);
+                }
+                if (hasRoles) {
+                    int roleCount = in.readInt();
+                    List<String> roleNames = new ArrayList<>(roleCount);
+                    for (int i = 0; i < roleCount; i++) {
+                        roleNames.add(in.readUTF());
+                    }
+                    RoleSet roles = roleManager.resolve(roleNames);
+                    if (roles == null) {
+                        throw new IOException("Unknown role in " + roleNames + " for admin " + id);
+                    }
+                    admin.setRoleSet(roles);
+                }
+                user = admin;
+                break;
+            default:
+                throw new IOException("Unknown user type: " + type);
+        }
+        user.setNeedsPasswordReset(needsPasswordReset);
+        return user;
+    }
+
+    /**
+     * Writes one section with its time slots, instructor, and roster.
+     *
+     * @param out the stream to write to
+     * @param section the section to write
+     * @param userIndexes the position of each user in the snapshot
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeSection(DataOutputStream out, CourseSection section, Map<User, Integer> userIndexes)
+            throws IOException {
+        out.writeUTF(section.getSectionId());
+        out.writeUTF(section.getCRN());
+        out.writeInt(section.getMaxCapacity());
+        out.writeInt(section.getTimeSlots().size());
+        for (TimeSlot slot : section.getTimeSlots()) {
+            out.writeByte(slot.getDay().getValue());
+            out.writeInt(slot.getStartTime().toSecondOfDay());
+            out.writeInt(slot.getEndTime().toSecondOfDay());
+        }
+
+        int[] roster;
+        Instructor instructor;
+        synchronized (section) {
+            instructor = section.getInstructor();
+            List<Student> students = section.getEnrolledStudents();
+            roster = new int[students.size()];
+            int count = 0;
+            for (Student student : students) {
+                Integer index = userIndexes.get(student);
+                if (index != null) {
+                    roster[count++] = index;
+                }
+            }
+            roster = count == roster.length ? roster : Arrays.copyOf(roster, count);
+        }
+        Integer instructorIndex = instructor == null ? null : userIndexes.get(instructor);
+        out.writeInt(instructorIndex == null ? -1 : instructorIndex);
+        out.writeInt(roster.length);
+        for (int index : roster) {
+            out.writeInt(index);
+        }
+    }
+
+    /**
+     * Reads one section and restores it into a course.
+     *
+     * @param in the stream to read from
+     * @param course the course the section belongs to
+     * @param enrollmentSystem the enrollment system containing the course
+     * @param users the restored users in snapshot order
+     * @throws IOException if the stream cannot be read
+     */
+    private static void readSection(DataInputStream in, Course course, EnrollmentSystem enrollmentSystem,
+            List<User> users) throws IOException {
+        String sectionId = in.readUTF();
+        String crn = in.readUTF();
+        int maxCapacity = in.readInt();
+        int slotCount = in.readInt();
+        List<TimeSlot> timeSlots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            DayOfWeek day = DayOfWeek.of(in.readByte());
+            LocalTime start = LocalTime.ofSecondOfDay(in.readInt());
+            LocalTime end = LocalTime.ofSecondOfDay(in.readInt());
+            timeSlots.add(new TimeSlot(start, end, day));
+        }
+        CourseSection section = course.restoreSection(sectionId, crn, timeSlots, maxCapacity);
+
+        int instructorIndex = in.readInt();
+        if (instructorIndex >= 0 && users.get(instructorIndex) instanceof Instructor instructor) {
+            enrollmentSystem.assignInstructor(section, instructor);
+        }
+        int rosterSize = in.readInt();
+        for (int i = 0; i < rosterSize; i++) {
+            if (users.get(in.readInt()) instanceof Student student && section.reserveSeat()) {
+                section.confirmSeat(student);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package system;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import model.Student;
+
+/**
+ * Creates student accounts in an {@link AccountManager} from a file of names, one "First Last" per line.
+ *
+ * The names are read in a single pass, a batch at a time. Each batch of valid names is added with
+ * {@link AccountManager#createStudents(List)}, which takes the account lock once for the batch, and
+ * the new credentials are written out before the next batch is read:
+ * <pre>
+ * name,email,password
+ * Jane Smith,jsmith@university.edu,Jane4821
+ * </pre>
+ * Blank lines are ignored. Invalid names are skipped and reported with their line numbers.
+ *
+ * @version Oct 17, 2026
+ */
+public class StudentImporter {
+    private static final int batchSize = 4096;
+
+    private final AccountManager accountManager;
+
+    /**
+     * Constructs a StudentImporter that adds to an account manager.
+     *
+     * @param accountManager the account manager to add students to
+     */
+    public StudentImporter(AccountManager accountManager) {
+        this.accountManager = accountManager;
+    }
+
+    /**
+     * Creates students from a UTF-8 file of names and writes their credentials to a CSV file.
+     *
+     * @param names the file of names
+     * @param credentials the CSV file to write, replaced if it exists
+     * @return the result of the import
+     * @throws IOException if a file cannot be read or written
+     */
+    public Result importFile(Path names, Path credentials) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(names, StandardCharsets.UTF_8);
+                BufferedWriter writer = Files.newBufferedWriter(credentials, StandardCharsets.UTF_8)) {
+            return importNames(reader, writer);
+        }
+    }
+
+    /**
+     * Creates students from lines of names and writes their credentials as CSV.
+     *
+     * @param names the names, one per line
+     * @param credentials where to write the credentials of each created student
+     * @return the result of the import
+     * @throws IOException if the names cannot be read or the credentials cannot be written
+     */
+    public Result importNames(Reader names, Writer credentials) throws IOException {
+        BufferedReader lines = names instanceof BufferedReader buffered ? buffered : new BufferedReader(names);
+        Result result = new Result();
+        List<String> batch = new ArrayList<>(batchSize);
+        credentials.write("name,email,password\n");
+        int lineNumber = 0;
+        String line;
+        accountManager.beginBatch();
+        try {
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                String name = line.strip();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                result.rowCount++;
+                if (!AccountManager.namePattern.matcher(name).matches()) {
+                    result.errors.add("Line " + lineNumber + ": \"" + name
+                            + "\" is not a first and last name separated by a space");
+                    continue;
+                }
+                batch.add(name);
+                if (batch.size() == batchSize) {
+                    createBatch(batch, credentials, result);
+                }
+            }
+            createBatch(batch, credentials, result);
+        } finally {
+            accountManager.endBatch();
+        }
+        credentials.flush();
+        return result;
+    }
+
+    /**
+     * Creates the students of a batch and writes their credentials.
+     *
+     * @param batch the valid names of the batch, cleared afterwards
+     * @param credentials where to write the credentials
+     * @param result the result to add counts to
+     * @throws IOException if the credentials cannot be written
+     */
+    private void createBatch(List<String> batch, Writer credentials, Result result) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder out = new StringBuilder(batch.size() * 48);
+        List<String> passwords = new ArrayList<>(batch.size());
+        List<Student> students = accountManager.createStudents(batch, passwords);
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            out.append(student.getName()).append(',')
+                    .append(student.getEmail()).append(',')
+                    .append(passwords.get(i)).append('\n');
+        }
+        credentials.write(out.toString());
+        result.studentsCreated += batch.size();
+        batch.clear();
+    }
+
+    /**
+     * The counts and per-line errors of an import.
+     */
+    public static class Result {
+        private int rowCount;
+        private int studentsCreated;
+        private final List<String> errors = new ArrayList<>();
+
+        /**
+         * Returns the number of non-blank lines read.
+         *
+         * @return the number of names read
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Returns the number of students created.
+         *
+         * @return the number of students created
+         */
+        public int getStudentsCreated() {
+            return studentsCreated;
+        }
+
+        /**
+         * Returns a message for each skipped name, starting with its line number.
+         *
+         * @return the error messages in file order
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package system;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An append-only log file of text records, one per line, with group commit.
+ *
+ * {@link #append(String)} only queues a record and returns immediately, so it is safe to call
+ * while holding locks. A background thread writes everything queued since its last flush in one
+ * write and forces it to disk with a single fsync, so a burst of appends from many threads costs
+ * one disk flush per batch rather than one per record. Callers that must not report success
+ * before their changes are durable call {@link #sync()} after releasing their locks.
+ *
+ * A record that was only partly written when the program stopped is discarded by
+ * {@link #recover(Consumer)}, which must be called before the first append.
+ * {@link #rollOver(Path)} switches to a new file so older files can be deleted once a snapshot
+ * covers them.
+ *
+ * @version Oct 17, 2026
+ */
+public class WriteAheadLog implements Closeable {
+    private Path file;
+    private FileChannel channel;
+    private final Thread flusher;
+
+    /**
+     * Guards the queue and sequence numbers shared by appending threads and the flusher.
+     */
+    private final Object lock = new Object();
+    private List<byte[]> pending = new ArrayList<>();
+    private long appendedSequence;
+    private long durableSequence;
+    private long flushCount;
+    private IOException failure;
+    private boolean closed;
+
+    /**
+     * The sequence number of the last record appended by each thread, used by {@link #sync()}.
+     */
+    private final ThreadLocal<long[]> lastAppended = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Opens a log file, creating it if it does not exist, and starts the flusher thread.
+     *
+     * @param file the path of the log file
+     * @throws IOException if the file cannot be opened
+     */
+    public WriteAheadLog(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+        this.flusher = new Thread(this::flushLoop, "wal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Reads every complete record in the log in the order it was appended.
+     * A partly written record at the end of the file is discarded and cut off so later
+     * appends start on a clean line.
+     *
+     * @param handler called with each record
+     * @return the number of records read
+     * @throws IOException if the file cannot be read
+     */
+    public long recover(Consumer<String> handler) throws IOException {
+        channel.position(0);
+        long[] count = new long[1];
+        long validLength = readRecords(Channels.newInputStream(channel), record -> {
+            handler.accept(record);
+            count[0]++;
+        });
+        if (validLength < channel.size()) {
+            channel.truncate(validLength);
+            channel.force(true);
+        }
+        channel.position(validLength);
+        return count[0];
+    }
+
+    /**
+     * Reads every complete record in a log file that is not open for appending,
+     * such as an older file replaced by {@link #rollOver(Path)}.
+     *
+     * @param file the log file
+     * @param handler called with each record
+     * @throws IOException if the file cannot be read
+     */
+    public static void read(Path file, Consumer<String> handler) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            readRecords(in, handler);
+        }
+    }
+
+    /**
+     * Reads newline-terminated records from a stream, ignoring a final record without a newline.
+     *
+     * @param stream the stream to read
+     * @param handler called with each complete record
+     * @return the number of bytes up to and including the last complete record
+     * @throws IOException if the stream cannot be read
+     */
+    private static long readRecords(InputStream stream, Consumer<String> handler) throws IOException {
+        long validLength = 0;
+        long offset = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        InputStream in = new BufferedInputStream(stream, 1 << 16);
+        int b;
+        while ((b = in.read()) != -1) {
+            offset++;
+            if (b == '\n') {
+                handler.accept(line.toString(StandardCharsets.UTF_8));
+                line.reset();
+                validLength = offset;
+            } else {
+                line.write(b);
+            }
+        }
+        return validLength;
+    }
+
+    /**
+     * Queues a record to be written by the flusher thread. Does not wait for the disk.
+     *
+     * @param record the record to append; must not contain line breaks
+     * @return the sequence number of the record
+     * @throws UncheckedIOException if an earlier flush failed
+     */
+    public long append(String record) {
+        byte[] bytes = (record + "\n").getBytes(StandardCharsets.UTF_8);
+        long sequence;
+        synchronized (lock) {
+            checkUsable();
+            pending.add(bytes);
+            sequence = ++appendedSequence;
+            lock.notifyAll();
+        }
+        lastAppended.get()[0] = sequence;
+        return sequence;
+    }
+
+    /**
+     * Waits until a record and every record before it are on disk.
+     *
+     * @param sequence the sequence number returned by {@link #append(String)}
+     * @throws UncheckedIOException if the flush failed
+     */
+    public void awaitDurable(long sequence) {
+        synchronized (lock) {
+            boolean interrupted = false;
+            while (durableSequence < sequence && failure == null) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (durableSequence < sequence) {
+                throw new UncheckedIOException("Write-ahead log flush failed", failure);
+            }
+        }
+    }
+
+    /**
+     * Waits until every record appended by the current thread is on disk.
+     *
+     * @throws UncheckedIOException if the flush failed
+     */
+    public void sync() {
+        awaitDurable(lastAppended.get()[0]);
+    }
+
+    /**
+     * Writes every queued record to the current file, then sends later records to a new file.
+     * The current file is closed and can be deleted once nothing needs to replay it.
+     *
+     * @param newFile the path of the new log file
+     * @return the number of records appended before the switch
+     * @throws IOException if the new file cannot be opened
+     */
+    public long rollOver(Path newFile) throws IOException {
+        synchronized (lock) {
+            awaitFlushed();
+            checkUsable();
+            FileChannel next = FileChannel.open(newFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            next.position(next.size());
+            channel.close();
+            channel = next;
+            file = newFile;
+            return appendedSequence;
+        }
+    }
+
+    /**
+     * Returns the path of the log file.
+     *
+     * @return the log file
+     */
+    public Path getFile() {
+        synchronized (lock) {
+            return file;
+        }
+    }
+
+    /**
+     * Returns the number of fsyncs performed, which is lower than the number of records when
+     * appends are batched.
+     *
+     * @return the number of flushes
+     */
+    public long getFlushCount() {
+        synchronized (lock) {
+            return flushCount;
+        }
+    }
+
+    /**
+     * Returns the number of records appended since the log was opened.
+     *
+     * @return the number of appended records
+     */
+    public long getAppendCount() {
+        synchronized (lock) {
+            return appendedSequence;
+        }
+    }
+
+    /**
+     * Flushes any queued records, stops the flusher thread and closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    /**
+     * Writes queued records in batches until the log is closed.
+     */
+    private void flushLoop() {
+        while (true) {
+            List<byte[]> batch;
+            long batchEnd;
+            FileChannel target;
+            synchronized (lock) {
+                while (pending.isEmpty() && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+                batchEnd = appendedSequence;
+                target = channel;
+            }
+
+            IOException error = null;
+            try {
+                write(batch, target);
+            } catch (IOException e) {
+                error = e;
+            }
+
+            synchronized (lock) {
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durableSequence = batchEnd;
+                    flushCount++;
+                }
+                lock.notifyAll();
+                if (error != null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of records with one write and one fsync.
+     *
+     * @param batch the encoded records
+     * @param target the file to write to
+     * @throws IOException if the write or fsync fails
+     */
+    private static void write(List<byte[]> batch, FileChannel target) throws IOException {
+        int size = 0;
+        for (byte[] record : batch) {
+            size += record.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] record : batch) {
+            buffer.put(record);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        target.force(false);
+    }
+
+    /**
+     * Waits while holding the lock until every appended record has been written or a flush fails.
+     */
+    private void awaitFlushed() {
+        boolean interrupted = false;
+        while (durableSequence < appendedSequence && failure == null) {
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Throws if the log can no longer accept records.
+     */
+    private void checkUsable() {
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log flush failed", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+    }
+}
@@ -8,7 +8,8 @@ import system.AccountManager;
 
 /**
  * Tests the functionality of the AccountManager class.
- * This class includes tests for adding users, authenticating, removing, and looking up users.
+ * This class includes tests for adding users, authenticating, removing, and looking up users,
+ * and listing users while another thread adds them.
  *
  * @version Apr 27, 2025
  */
@@ -37,6 +38,15 @@ public class AccountManagerTest {
             System.out.println("xxx FAIL --> Failed to add one or more users.");
         }
 
+        // Test: Adding a user with an email already in use (should fail)
+        System.out.println("\nTEST: Adding a user with a duplicate email...");
+        boolean addedDuplicate = accountManager.addUser(new Student("John Dup", "JOHN@example.com", "password", false));
+        if (!addedDuplicate) {
+            System.out.println("✓✓✓ PASS --> Duplicate email rejected.");
+        } else {
+            System.out.println("xxx FAIL --> Duplicate email allowed.");
+        }
+
         // Test: Authenticating users
         System.out.println("\nTEST: Authenticating student...");
         User authStudent = accountManager.authenticate("john@example.com", "password123");
@@ -80,6 +90,17 @@ public class AccountManagerTest {
             System.out.println("xxx FAIL --> User lookup by ID failed.");
         }
 
+        // Test: Generating an email when a longer name shares the same prefix
+        System.out.println("\nTEST: Generating email next to a shared prefix...");
+        accountManager.addUser(new Student("Jim Smithson", "jsmithson@university.edu", "password", false));
+        accountManager.addUser(new Student("Jim Smith", "jsmith@university.edu", "password", false));
+        String generated = accountManager.generateEmail("Jane Smith", "university.edu");
+        if (generated.equals("jsmith1@university.edu")) {
+            System.out.println("✓✓✓ PASS --> Next free email generated correctly.");
+        } else {
+            System.out.println("xxx FAIL --> Generated " + generated + " instead of jsmith1@university.edu.");
+        }
+
        // Test: Setting all advising holds true
         System.out.println("\nTEST: Setting all advising holds true...");
         accountManager.setAllAdvisingHoldsTrue();
@@ -98,7 +119,37 @@ public class AccountManagerTest {
             System.out.println("xxx FAIL --> User removal failed.");
         }
 
-       
+        // Test: Listing users while another session adds them
+        System.out.println("\nTEST: Listing users while another session adds them...");
+        AccountManager shared = new AccountManager();
+        // A low work factor keeps this test about concurrent access rather than password hashing
+        shared.setHashIterations(1_000);
+        Thread adder = new Thread(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                shared.addUser(new Student("Added Student", "added" + i + "@example.com", "password123", false));
+            }
+        });
+        adder.start();
+        int listingErrors = 0;
+        while (adder.isAlive()) {
+            try {
+                for (User user : shared.getUsers()) {
+                    shared.getUserById(user.getId());
+                }
+            } catch (RuntimeException e) {
+                listingErrors++;
+            }
+        }
+        try {
+            adder.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (listingErrors == 0 && shared.getUsers().size() == 2_000) {
+            System.out.println("✓✓✓ PASS --> Users listed and looked up safely while being added.");
+        } else {
+            System.out.println("xxx FAIL --> " + listingErrors + " listings failed while users were added.");
+        }
 
         System.out.println("\n########################################################");
         System.out.println("ACCOUNT MANAGER CLASS TESTING COMPLETE.");
@@ -0,0 +1,234 @@
+package tests;
+
+import api.ApiServer;
+import api.Json;
+import model.Course;
+import model.CourseSection;
+import model.Student;
+import model.TimeSlot;
+import system.AccountManager;
+import system.EnrollmentSystem;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tests the functionality of the ApiServer and Json classes.
+ * This class includes tests for logging in, searching courses, enrolling, viewing a schedule,
+ * dropping, ending sessions when a password changes, and many students enrolling at once over HTTP.
+ *
+ * @version Oct 17, 2026
+ */
+public class ApiServerTest {
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static String baseUrl;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.out.println("########################################################");
+        System.out.println("TESTING API SERVER CLASS FUNCTIONALITY...");
+
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        AccountManager accountManager = new AccountManager();
+        // A low work factor keeps this test about HTTP rather than password hashing
+        accountManager.setHashIterations(1_000);
+        Course course = new Course("MATH 1241", "Calculus 1", "Limits and derivatives.", 3);
+        Course other = new Course("ITSC 1212", "Intro to Computer Science", "Programming.", 4);
+        enrollmentSystem.addCourse(course);
+        enrollmentSystem.addCourse(other);
+        CourseSection section = course.createSection(
+                List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(9, 50), DayOfWeek.MONDAY)), 100);
+        CourseSection full = other.createSection(
+                List.of(new TimeSlot(LocalTime.of(13, 0), LocalTime.of(13, 50), DayOfWeek.MONDAY)), 0);
+        Student student = new Student("Ana Diaz", "adiaz@university.edu", "password", false);
+        accountManager.addUser(student);
+
+        ApiServer server = new ApiServer(new InetSocketAddress("127.0.0.1", 0), enrollmentSystem, accountManager);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getPort();
+        String auth = basic("adiaz@university.edu", "password");
+
+        // Test: Logging in
+        System.out.println("\nTEST: Logging in...");
+        HttpResponse<String> login = post("/api/login", "{\"email\": \"adiaz@university.edu\", \"password\": \"password\"}", null);
+        HttpResponse<String> wrong = post("/api/login", "{\"email\": \"adiaz@university.edu\", \"password\": \"nope\"}", null);
+        HttpResponse<String> override = post("/api/login", "{\"email\": \"studentoveride\", \"password\": \"x\"}", null);
+        if (login.statusCode() == 200 && Json.parseObject(login.body()).get("id").equals(student.getId())
+                && Json.parseObject(login.body()).get("role").equals("student")
+                && wrong.statusCode() == 401 && override.statusCode() == 401) {
+            System.out.println("✓✓✓ PASS --> Valid login accepted, wrong password and override login rejected.");
+        } else {
+            System.out.println("xxx FAIL --> Login incorrect: " + login.body() + " " + wrong.statusCode() + " " + override.statusCode());
+        }
+
+        // Test: Searching courses
+        System.out.println("\nTEST: Searching courses...");
+        HttpResponse<String> byId = get("/api/courses?q=math", null);
+        HttpResponse<String> byName = get("/api/courses?q=computer%20science", null);
+        HttpResponse<String> open = get("/api/courses?open=true", null);
+        HttpResponse<String> morning = get("/api/courses?day=M&after=8:00%20AM&before=10:00&credits=3", null);
+        HttpResponse<String> badDay = get("/api/courses?day=Someday", null);
+        if (byId.statusCode() == 200 && byId.body().contains("\"crn\":\"" + section.getCRN() + "\"")
+                && !byId.body().contains(full.getCRN())
+                && byName.body().contains(full.getCRN()) && !byName.body().contains(section.getCRN())
+                && open.body().contains(section.getCRN()) && !open.body().contains(full.getCRN())
+                && morning.body().contains(section.getCRN()) && !morning.body().contains(full.getCRN())
+                && badDay.statusCode() == 400) {
+            System.out.println("✓✓✓ PASS --> Sections found by course ID, name, open seats, and meeting time.");
+        } else {
+            System.out.println("xxx FAIL --> Search incorrect: " + byId.body() + " " + byName.body() + " " + open.body() + " " + morning.body());
+        }
+
+        // Test: Enrolling, viewing the schedule, and dropping
+        System.out.println("\nTEST: Enrolling, viewing the schedule, and dropping...");
+        HttpResponse<String> enrolled = post("/api/enroll", "{\"crn\": \"" + section.getCRN() + "\"}", auth);
+        HttpResponse<String> rejected = post("/api/enroll", "{\"crn\": \"" + full.getCRN() + "\"}", auth);
+        HttpResponse<String> unauthenticated = post("/api/enroll", "{\"crn\": \"" + section.getCRN() + "\"}", null);
+        HttpResponse<String> missing = post("/api/enroll", "{\"crn\": \"99999\"}", auth);
+        HttpResponse<String> invalid = post("/api/enroll", "{\"crn\": ", auth);
+        HttpResponse<String> schedule = get("/api/schedule", auth);
+        HttpResponse<String> dropped = post("/api/drop", "{\"crn\": \"" + section.getCRN() + "\"}", auth);
+        if (enrolled.statusCode() == 200 && Json.parseObject(enrolled.body()).get("status").equals("ENROLLED")
+                && rejected.statusCode() == 409 && Json.parseObject(rejected.body()).get("status").equals("SECTION_FULL")
+                && unauthenticated.statusCode() == 401 && missing.statusCode() == 404 && invalid.statusCode() == 400
+                && schedule.statusCode() == 200 && schedule.body().contains(section.getCRN())
+                && dropped.statusCode() == 200 && !student.getEnrolledCourses().contains(section)) {
+            System.out.println("✓✓✓ PASS --> Enroll, schedule, and drop work with the right status codes.");
+        } else {
+            System.out.println("xxx FAIL --> Enrollment requests incorrect: " + enrolled.body() + " " + rejected.body()
+                    + " " + unauthenticated.statusCode() + " " + missing.statusCode() + " " + invalid.statusCode());
+        }
+
+        // Test: Session tokens
+        System.out.println("\nTEST: Using a session token and logging out...");
+        String token = Json.parseObject(login.body()).get("token");
+        String bearer = "Bearer " + token;
+        HttpResponse<String> withToken = post("/api/enroll", "{\"crn\": \"" + section.getCRN() + "\"}", bearer);
+        HttpResponse<String> badToken = get("/api/schedule", "Bearer not-a-token");
+        HttpResponse<String> loggedOut = post("/api/logout", "", bearer);
+        HttpResponse<String> afterLogout = get("/api/schedule", bearer);
+        Student removed = new Student("Removed Student", "removed@university.edu", "password", false);
+        accountManager.addUser(removed);
+        String removedToken = Json.parseObject(post("/api/login",
+                "{\"email\": \"removed@university.edu\", \"password\": \"password\"}", null).body()).get("token");
+        accountManager.removeUser(removed);
+        HttpResponse<String> afterRemoval = get("/api/schedule", "Bearer " + removedToken);
+        if (token != null && withToken.statusCode() == 200 && student.getEnrolledCourses().contains(section)
+                && badToken.statusCode() == 401 && loggedOut.statusCode() == 200
+                && afterLogout.statusCode() == 401 && afterRemoval.statusCode() == 401) {
+            System.out.println("✓✓✓ PASS --> Tokens work until logout and end with the account.");
+        } else {
+            System.out.println("xxx FAIL --> Token requests incorrect: " + withToken.statusCode() + " " + badToken.statusCode()
+                    + " " + loggedOut.statusCode() + " " + afterLogout.statusCode() + " " + afterRemoval.statusCode());
+        }
+        post("/api/drop", "{\"crn\": \"" + section.getCRN() + "\"}", auth);
+
+        // Test: Changing a password ends sessions
+        System.out.println("\nTEST: Changing a password ends the user's sessions...");
+        Student resetting = new Student("Reset Student", "reset@university.edu", "password", false);
+        accountManager.addUser(resetting);
+        String login1 = "{\"email\": \"reset@university.edu\", \"password\": \"password\"}";
+        String firstToken = "Bearer " + Json.parseObject(post("/api/login", login1, null).body()).get("token");
+        String secondToken = "Bearer " + Json.parseObject(post("/api/login", login1, null).body()).get("token");
+        HttpResponse<String> beforeReset = get("/api/schedule", firstToken);
+        accountManager.changePassword(resetting, "newpassword");
+        HttpResponse<String> firstAfterReset = get("/api/schedule", firstToken);
+        HttpResponse<String> secondAfterReset = get("/api/schedule", secondToken);
+        String newToken = "Bearer " + Json.parseObject(post("/api/login",
+                "{\"email\": \"reset@university.edu\", \"password\": \"newpassword\"}", null).body()).get("token");
+        HttpResponse<String> withNewToken = get("/api/schedule", newToken);
+        if (beforeReset.statusCode() == 200 && firstAfterReset.statusCode() == 401
+                && secondAfterReset.statusCode() == 401 && withNewToken.statusCode() == 200) {
+            System.out.println("✓✓✓ PASS --> Tokens from before the password change are refused.");
+        } else {
+            System.out.println("xxx FAIL --> Tokens after a password change: " + beforeReset.statusCode() + " "
+                    + firstAfterReset.statusCode() + " " + secondAfterReset.statusCode() + " " + withNewToken.statusCode());
+        }
+
+        // Test: Many students enrolling at once
+        System.out.println("\nTEST: 200 students enrolling in a 100 seat section at once...");
+        List<CompletableFuture<HttpResponse<String>>> requests = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String email = "student" + i + "@university.edu";
+            accountManager.addUser(new Student("Student " + i, email, "password", false));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/enroll"))
+                    .header("Authorization", basic(email, "password"))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"crn\": \"" + section.getCRN() + "\"}"))
+                    .build();
+            requests.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        int accepted = 0;
+        int full409 = 0;
+        for (CompletableFuture<HttpResponse<String>> request : requests) {
+            int status = request.join().statusCode();
+            if (status == 200) {
+                accepted++;
+            } else if (status == 409) {
+                full409++;
+            }
+        }
+        if (accepted == 100 && full409 == 100 && section.getEnrolledCount() == 100) {
+            System.out.println("✓✓✓ PASS --> 100 enrolled and 100 told the section is full.");
+        } else {
+            System.out.println("xxx FAIL --> " + accepted + " enrolled, " + full409 + " rejected, "
+                    + section.getEnrolledCount() + " on the roster.");
+        }
+
+        server.stop();
+        System.out.println("\n########################################################");
+        System.out.println("API SERVER CLASS TESTING COMPLETE.");
+    }
+
+    /**
+     * Sends a GET request.
+     *
+     * @param path the path and query
+     * @param auth the Authorization header, or null
+     * @return the response
+     */
+    private static HttpResponse<String> get(String path, String auth) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (auth != null) {
+            request.header("Authorization", auth);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends a POST request with a JSON body.
+     *
+     * @param path the path
+     * @param body the JSON body
+     * @param auth the Authorization header, or null
+     * @return the response
+     */
+    private static HttpResponse<String> post(String path, String body, String auth) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (auth != null) {
+            request.header("Authorization", auth);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Builds a Basic Authorization header.
+     *
+     * @param email the email
+     * @param password the password
+     * @return the header value
+     */
+    private static String basic(String email, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((email + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
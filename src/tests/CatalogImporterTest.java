@@ -0,0 +1,134 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import system.CatalogImporter;
+import system.EnrollmentSystem;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.List;
+
+/**
+ * Tests the functionality of the CatalogImporter class.
+ * This class includes tests for importing courses and sections from CSV text, reporting rows
+ * with errors, telling a header from a first row of data, ignoring a byte order mark, and
+ * importing a full term.
+ *
+ * @version Oct 17, 2026
+ */
+public class CatalogImporterTest {
+    public static void main(String[] args) throws IOException {
+        System.out.println("########################################################");
+        System.out.println("TESTING CATALOG IMPORTER CLASS FUNCTIONALITY...");
+
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        CatalogImporter importer = new CatalogImporter(enrollmentSystem);
+
+        // Test: Importing courses and sections
+        System.out.println("\nTEST: Importing courses and sections...");
+        String csv = "id,name,credits,description,day,start,end,capacity\n"
+                + "MATH 1241,Calculus 1,3,\"Limits, derivatives, and \"\"integrals\"\"\",M/W/F,9:00 AM,9:50 AM,40\n"
+                + "\n"
+                + "math 1241,Calculus 1,3,Second section,T/Th,1:00 pm,2:15 pm,35\n"
+                + "ITSC 1212,Intro to Computer Science,4,Programming,W,10:00 AM,11:15 AM,30\n";
+        CatalogImporter.Result result = importer.importCsv(new StringReader(csv));
+        Course calculus = enrollmentSystem.getCourseById("MATH 1241");
+        if (result.getRowCount() == 3 && result.getCoursesAdded() == 2 && result.getSectionsAdded() == 3
+                && result.getErrors().isEmpty() && calculus != null && calculus.getSections().size() == 2
+                && calculus.getDescription().equals("Limits, derivatives, and \"integrals\"")
+                && calculus.getSections().get(0).getTimeSlots().size() == 3
+                && calculus.getSections().get(1).getTimeSlots().get(1).getDay() == DayOfWeek.THURSDAY
+                && calculus.getSections().get(1).getMaxCapacity() == 35) {
+            System.out.println("✓✓✓ PASS --> 2 courses and 3 sections imported.");
+        } else {
+            System.out.println("xxx FAIL --> Import incorrect: " + result.getErrors());
+        }
+
+        // Test: Reporting rows with errors
+        System.out.println("\nTEST: Reporting rows with errors...");
+        String invalid = "MATH 124,Calculus 1,3,Bad ID,M,9:00 AM,9:50 AM,40\n"
+                + "PHYS 2101,Physics,4,Bad day,M/Sa,9:00 AM,9:50 AM,40\n"
+                + "PHYS 2101,Physics,4,Bad time,M,9:00,9:50 AM,40\n"
+                + "PHYS 2101,Physics,4,Backwards,M,10:00 AM,9:50 AM,40\n"
+                + "PHYS 2101,Physics,4,Missing capacity,M,9:00 AM,9:50 AM\n"
+                + "PHYS 2101,Calculus 1,4,Name taken,M,9:00 AM,9:50 AM,40\n"
+                + "MATH 1241,Calculus 1,4,Credits differ,M,9:00 AM,9:50 AM,40\n"
+                + "PHYS 2101,Physics,4,Valid,M,9:00 AM,9:50 AM,0\n"
+                + "PHYS 2101,Physics,4,Valid,M,9:00 AM,9:50 AM,25\n";
+        CatalogImporter.Result errors = importer.importCsv(new StringReader(invalid));
+        List<String> messages = errors.getErrors();
+        if (errors.getSectionsAdded() == 1 && messages.size() == 8
+                && messages.get(0).startsWith("Line 1: Invalid course ID")
+                && messages.get(1).startsWith("Line 2: Invalid day \"Sa\"")
+                && messages.get(2).startsWith("Line 3: Invalid time \"9:00\"")
+                && messages.get(7).startsWith("Line 8: Capacity")
+                && enrollmentSystem.getCourseById("PHYS 2101").getSections().size() == 1) {
+            System.out.println("✓✓✓ PASS --> 8 invalid rows reported and the valid row imported.");
+        } else {
+            System.out.println("xxx FAIL --> Errors reported incorrectly: " + messages);
+        }
+
+        // Test: Importing a first row that is not a header
+        System.out.println("\nTEST: Importing a first row whose course ID starts with ID...");
+        EnrollmentSystem idSystem = new EnrollmentSystem();
+        CatalogImporter.Result idResult = new CatalogImporter(idSystem).importCsv(new StringReader(
+                "IDST 1100,Interdisciplinary Studies,3,Seminar,T,9:00 AM,9:50 AM,20\n"
+                + "ID,Name,Credits,Description,Day,Start,End,Capacity\n"));
+        CatalogImporter.Result headed = new CatalogImporter(new EnrollmentSystem()).importCsv(new StringReader(
+                " ID , Name,Credits,Description,Day,Start,End,Capacity\n"
+                + "IDST 1100,Interdisciplinary Studies,3,Seminar,T,9:00 AM,9:50 AM,20\n"));
+        if (idResult.getSectionsAdded() == 1 && idSystem.getCourseById("IDST 1100") != null
+                && idResult.getRowCount() == 2 && idResult.getErrors().size() == 1
+                && idResult.getErrors().get(0).startsWith("Line 2:")
+                && headed.getRowCount() == 1 && headed.getSectionsAdded() == 1 && headed.getErrors().isEmpty()) {
+            System.out.println("✓✓✓ PASS --> Only a row naming every column is skipped as a header.");
+        } else {
+            System.out.println("xxx FAIL --> First row handled incorrectly: " + idResult.getErrors() + " " + headed.getErrors());
+        }
+
+        // Test: Importing a file that starts with a byte order mark
+        System.out.println("\nTEST: Importing a file that starts with a byte order mark...");
+        Path bomFile = Files.createTempFile("catalog", ".csv");
+        Files.writeString(bomFile, "\uFEFFid,name,credits,description,day,start,end,capacity\n"
+                + "ARTS 1101,Drawing,3,Studio,F,1:00 PM,3:50 PM,15\n", StandardCharsets.UTF_8);
+        CatalogImporter.Result bomHeader = new CatalogImporter(new EnrollmentSystem()).importFile(bomFile);
+        Files.delete(bomFile);
+        EnrollmentSystem bomSystem = new EnrollmentSystem();
+        CatalogImporter.Result bomData = new CatalogImporter(bomSystem).importCsv(new StringReader(
+                "\uFEFFARTS 1101,Drawing,3,Studio,F,1:00 PM,3:50 PM,15\n"));
+        if (bomHeader.getRowCount() == 1 && bomHeader.getSectionsAdded() == 1 && bomHeader.getErrors().isEmpty()
+                && bomData.getSectionsAdded() == 1 && bomSystem.getCourseById("ARTS 1101") != null) {
+            System.out.println("✓✓✓ PASS --> The byte order mark was ignored.");
+        } else {
+            System.out.println("xxx FAIL --> Byte order mark not ignored: " + bomHeader.getErrors() + " " + bomData.getErrors());
+        }
+
+        // Test: Importing a full term
+        System.out.println("\nTEST: Importing a full term of 20000 sections...");
+        StringBuilder term = new StringBuilder("id,name,credits,description,day,start,end,capacity\n");
+        for (int i = 0; i < 20000; i++) {
+            int course = i / 5;
+            term.append(String.format("TERM %04d,Course %d,3,\"Topics, part %d\",M/W,%d:00 AM,%d:50 AM,30%n",
+                    course, course, i % 5, 8 + i % 4, 8 + i % 4));
+        }
+        EnrollmentSystem termSystem = new EnrollmentSystem();
+        long start = System.nanoTime();
+        CatalogImporter.Result termResult = new CatalogImporter(termSystem).importCsv(new StringReader(term.toString()));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        CourseSection last = termSystem.getCourseById("TERM 3999").getSections().get(4);
+        if (termResult.getSectionsAdded() == 20000 && termResult.getCoursesAdded() == 4000
+                && termResult.getErrors().isEmpty() && termSystem.findCourseByCRN(last.getCRN()) == last) {
+            System.out.printf("✓✓✓ PASS --> 20000 sections imported in %.2f seconds.%n", seconds);
+        } else {
+            System.out.println("xxx FAIL --> Full term import incorrect: " + termResult.getErrors().size() + " errors.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("CATALOG IMPORTER CLASS TESTING COMPLETE.");
+    }
+}
@@ -0,0 +1,148 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import model.Student;
+import model.TimeSlot;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import ui.ConsoleServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the functionality of the ConsoleServer class.
+ * This class includes tests for many terminals using the menus at once, refusing override logins,
+ * terminals that disconnect in the middle of a session, and sessions that are left idle.
+ *
+ * @version Oct 17, 2026
+ */
+public class ConsoleServerTest {
+    private static int port;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.out.println("########################################################");
+        System.out.println("TESTING CONSOLE SERVER CLASS FUNCTIONALITY...");
+
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        AccountManager accountManager = new AccountManager();
+        // A low work factor keeps this test about serving terminals rather than password hashing
+        accountManager.setHashIterations(1_000);
+        Course course = new Course("MATH 1241", "Calculus 1", "Limits and derivatives.", 3);
+        enrollmentSystem.addCourse(course);
+        CourseSection section = course.createSection(
+                List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(9, 50), DayOfWeek.MONDAY)), 200);
+        for (int i = 0; i < 100; i++) {
+            accountManager.addUser(new Student("Student " + i, "student" + i + "@university.edu", "password", false));
+        }
+
+        ConsoleServer server = new ConsoleServer(new InetSocketAddress("127.0.0.1", 0), enrollmentSystem, accountManager);
+        server.start();
+        port = server.getPort();
+
+        // Test: Many terminals at once
+        System.out.println("\nTEST: 100 terminals logging in and enrolling at once...");
+        List<CompletableFuture<String>> terminals = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // New accounts must change their password on first login
+            String keys = "1\nstudent" + i + "@university.edu\npassword\nnewpassword\n3\n1\n" + section.getCRN() + "\n2\n6\n2\n";
+            terminals.add(CompletableFuture.supplyAsync(() -> type(keys)));
+        }
+        int correct = 0;
+        for (int i = 0; i < terminals.size(); i++) {
+            String output = terminals.get(i).join();
+            if (output.contains("Welcome Student " + i + ".") && output.indexOf("Welcome ") == output.lastIndexOf("Welcome ")
+                    && output.contains("Successfully enrolled in MATH 1241") && output.contains("Goodbye!")) {
+                correct++;
+            }
+        }
+        if (correct == 100 && section.getEnrolledCount() == 100) {
+            System.out.println("✓✓✓ PASS --> Each terminal saw only its own session and all 100 students enrolled.");
+        } else {
+            System.out.println("xxx FAIL --> " + correct + " terminals correct, " + section.getEnrolledCount() + " enrolled.");
+        }
+
+        // Test: Override logins over the network
+        System.out.println("\nTEST: Logging in with an override over the network...");
+        String override = type("1\nstudentoveride\nanything\n2\n");
+        if (override.contains("Invalid Credentials") && !override.contains("Welcome")) {
+            System.out.println("✓✓✓ PASS --> The override login was refused.");
+        } else {
+            System.out.println("xxx FAIL --> A terminal logged in without a registered account.");
+        }
+
+        // Test: Disconnecting in the middle of a session
+        System.out.println("\nTEST: Disconnecting while logged in...");
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            socket.getOutputStream().write("1\nstudent0@university.edu\npassword\n".getBytes(StandardCharsets.UTF_8));
+            socket.getOutputStream().flush();
+            Thread.sleep(200);
+        }
+        if (waitForSessions(server, 0)) {
+            System.out.println("✓✓✓ PASS --> The session ended when its terminal disconnected.");
+        } else {
+            System.out.println("xxx FAIL --> " + server.getSessionCount() + " sessions still open.");
+        }
+
+        // Test: Idle sessions
+        System.out.println("\nTEST: Leaving a terminal idle...");
+        server.setIdleTimeout(200, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        String idle = type("");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (idle.contains("Login Menu") && elapsedMillis < 5000 && waitForSessions(server, 0)) {
+            System.out.println("✓✓✓ PASS --> The idle terminal was disconnected after " + elapsedMillis + " ms.");
+        } else {
+            System.out.println("xxx FAIL --> Idle terminal not disconnected: " + elapsedMillis + " ms, "
+                    + server.getSessionCount() + " sessions open.");
+        }
+
+        server.stop();
+        System.out.println("\n########################################################");
+        System.out.println("CONSOLE SERVER CLASS TESTING COMPLETE.");
+    }
+
+    /**
+     * Connects a terminal, types the keys, and returns everything printed until the server disconnects.
+     *
+     * @param keys the keys to type
+     * @return the output of the session, or the error if the connection failed
+     */
+    private static String type(String keys) {
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            socket.setSoTimeout(10000);
+            OutputStream out = socket.getOutputStream();
+            out.write(keys.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return e.toString();
+        }
+    }
+
+    /**
+     * Waits up to five seconds for the number of open sessions to reach a count.
+     *
+     * @param server the server
+     * @param count the expected number of sessions
+     * @return true if the count was reached
+     */
+    private static boolean waitForSessions(ConsoleServer server, int count) throws InterruptedException {
+        for (int i = 0; i < 100 && server.getSessionCount() != count; i++) {
+            Thread.sleep(50);
+        }
+        return server.getSessionCount() == count;
+    }
+}
@@ -0,0 +1,103 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import model.EnrollmentStatus;
+import model.Student;
+import model.TimeSlot;
+import system.EnrollmentEngine;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the functionality of the EnrollmentEngine class.
+ * This class includes tests that capacity and duplicate enrollment hold under concurrent requests.
+ *
+ * @version Oct 17, 2026
+ */
+public class EnrollmentEngineTest {
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("########################################################");
+        System.out.println("TESTING ENROLLMENT ENGINE CLASS FUNCTIONALITY...");
+
+        EnrollmentEngine engine = new EnrollmentEngine();
+        Course course = new Course("CSCI 3155", "Principles of Programming Languages", "Language design.", 3);
+        List<TimeSlot> timeSlots = List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 15), DayOfWeek.MONDAY));
+        CourseSection section = course.createSection(timeSlots, 50);
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            students.add(new Student("Student " + i, "student" + i + "@example.com", "password", false));
+        }
+
+        // Test: Concurrent enrollments never overfill the section
+        System.out.println("\nTEST: 2000 students enrolling concurrently in a 50 seat section...");
+        AtomicInteger enrolled = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        for (Student student : students) {
+            executor.execute(() -> {
+                if (engine.enroll(student, section) == EnrollmentStatus.ENROLLED) {
+                    enrolled.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        if (enrolled.get() == 50 && section.getEnrolledCount() == 50) {
+            System.out.println("✓✓✓ PASS --> Exactly 50 students enrolled.");
+        } else {
+            System.out.println("xxx FAIL --> " + enrolled.get() + " enrollments reported, "
+                    + section.getEnrolledCount() + " on the roster.");
+        }
+
+        // Test: The same student enrolling concurrently is only enrolled once
+        System.out.println("\nTEST: One student enrolling concurrently 100 times...");
+        CourseSection bigSection = course.createSection(timeSlots, 500);
+        Student eager = new Student("Eager Student", "eager@example.com", "password", false);
+        AtomicInteger eagerEnrolled = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> {
+                if (engine.enroll(eager, bigSection) == EnrollmentStatus.ENROLLED) {
+                    eagerEnrolled.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        if (eagerEnrolled.get() == 1 && bigSection.getEnrolledCount() == 1 && eager.getEnrolledCourses().size() == 1) {
+            System.out.println("✓✓✓ PASS --> Student enrolled exactly once.");
+        } else {
+            System.out.println("xxx FAIL --> Student enrolled " + eagerEnrolled.get() + " times.");
+        }
+
+        // Test: Dropping a student who is not enrolled
+        System.out.println("\nTEST: Dropping a student who is not enrolled...");
+        if (engine.drop(eager, section) == EnrollmentStatus.NOT_ENROLLED) {
+            System.out.println("✓✓✓ PASS --> Drop correctly rejected.");
+        } else {
+            System.out.println("xxx FAIL --> Drop of non-enrolled student allowed.");
+        }
+
+        // Test: Dropping frees a seat for the next student
+        System.out.println("\nTEST: Dropping frees a seat...");
+        Student dropped = section.getEnrolledStudents().get(0);
+        Student waiting = new Student("Waiting Student", "waiting@example.com", "password", false);
+        if (engine.drop(dropped, section) == EnrollmentStatus.DROPPED
+                && engine.enroll(waiting, section) == EnrollmentStatus.ENROLLED) {
+            System.out.println("✓✓✓ PASS --> Freed seat was taken.");
+        } else {
+            System.out.println("xxx FAIL --> Freed seat could not be taken.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("ENROLLMENT ENGINE CLASS TESTING COMPLETE.");
+    }
+}
@@ -2,16 +2,21 @@ package tests;
 
 import model.Course;
 import model.CourseSection;
+import model.EnrollmentStatus;
+import model.Student;
 import model.TimeSlot;
+import system.EnrollmentEngine;
 import system.EnrollmentSystem;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Tests the functionality of the EnrollmentSystem class.
- * This class includes tests for adding, finding, and removing courses and sections.
+ * This class includes tests for adding, finding, and removing courses and sections,
+ * listing the catalog while another thread changes it, and removing a course while students enroll in it.
  *
  * @version Apr 27, 2025
  */
@@ -35,6 +40,15 @@ public class EnrollmentSystemTest {
             System.out.println("xxx FAIL --> Course addition failed.");
         }
 
+        // Test: Adding a course with a duplicate ID in a different case (should fail)
+        System.out.println("\nTEST: Adding a course with a duplicate ID...");
+        boolean duplicateAdded = enrollmentSystem.addCourse(new Course("math 2142", "Vector Calculus", "Duplicate", 4));
+        if (!duplicateAdded) {
+            System.out.println("✓✓✓ PASS --> Duplicate course ID rejected.");
+        } else {
+            System.out.println("xxx FAIL --> Duplicate course ID allowed.");
+        }
+
         // Create a section for the course
         List<TimeSlot> timeSlots = List.of(
                 new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 15), DayOfWeek.TUESDAY)
@@ -59,6 +73,16 @@ public class EnrollmentSystemTest {
             System.out.println("xxx FAIL --> Course section lookup by CRN failed.");
         }
 
+        // Test: Removed section should no longer be found by CRN
+        System.out.println("\nTEST: Removing a section and looking it up by CRN...");
+        CourseSection extraSection = course.createSection(timeSlots, 10);
+        course.removeCourseSection(extraSection);
+        if (enrollmentSystem.findCourseByCRN(extraSection.getCRN()) == null) {
+            System.out.println("✓✓✓ PASS --> Removed section no longer found by CRN.");
+        } else {
+            System.out.println("xxx FAIL --> Removed section still found by CRN.");
+        }
+
         // Test: Removing the course
         System.out.println("\nTEST: Removing course and all its sections...");
         boolean removedCourse = enrollmentSystem.removeCourse(course);
@@ -77,6 +101,79 @@ public class EnrollmentSystemTest {
             System.out.println("xxx FAIL --> Section still exists after course removal.");
         }
 
+        // Test: Listing the catalog while another session changes it
+        System.out.println("\nTEST: Listing the catalog while another session adds courses and sections...");
+        EnrollmentSystem shared = new EnrollmentSystem();
+        Thread adder = new Thread(() -> {
+            for (int c = 0; c < 2_000; c++) {
+                Course added = new Course("CRSE " + (1000 + c), "Course " + c, "Description " + c, 3);
+                shared.addCourse(added);
+                added.createSection(timeSlots, 30);
+                added.createSection(timeSlots, 30);
+            }
+        });
+        adder.start();
+        int listingErrors = 0;
+        while (adder.isAlive()) {
+            try {
+                shared.getSectionTable().render();
+                shared.getCourses().size();
+            } catch (RuntimeException e) {
+                listingErrors++;
+            }
+        }
+        try {
+            adder.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (listingErrors == 0 && shared.getCourses().size() == 2_000
+                && shared.getSectionTable().render().lines().count() == 2 * 4_000 + 3) {
+            System.out.println("✓✓✓ PASS --> Listings copied the catalog safely while it changed.");
+        } else {
+            System.out.println("xxx FAIL --> " + listingErrors + " listings failed while the catalog changed.");
+        }
+
+        // Test: Removing a course while students enroll in it
+        System.out.println("\nTEST: Removing a course while students enroll in it, 200 times...");
+        EnrollmentSystem racing = new EnrollmentSystem();
+        EnrollmentEngine racingEngine = racing.getEnrollmentEngine();
+        int stranded = 0;
+        CourseSection lastRaced = null;
+        for (int round = 0; round < 200; round++) {
+            Course raced = new Course("RACE " + (1000 + round), "Race " + round, "Removed while enrolling.", 3);
+            racing.addCourse(raced);
+            CourseSection racedSection = raced.createSection(timeSlots, 100);
+            List<Student> racers = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                racers.add(new Student("Racer " + i, "racer" + round + "_" + i + "@example.com", "password", false));
+            }
+            Thread enroller = new Thread(() -> {
+                for (Student racer : racers) {
+                    racingEngine.enroll(racer, racedSection);
+                }
+            });
+            enroller.start();
+            racing.removeCourse(raced);
+            try {
+                enroller.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (Student racer : racers) {
+                if (racer.getEnrolledCourses().contains(racedSection)) {
+                    stranded++;
+                }
+            }
+            lastRaced = racedSection;
+        }
+        EnrollmentStatus late = racingEngine.enroll(new Student("Late Comer", "late@example.com", "password", false), lastRaced);
+        if (stranded == 0 && late == EnrollmentStatus.SECTION_REMOVED) {
+            System.out.println("✓✓✓ PASS --> No student was left enrolled in a deleted section.");
+        } else {
+            System.out.println("xxx FAIL --> " + stranded + " students enrolled in deleted sections, late enroll " + late + ".");
+        }
+
         System.out.println("\n########################################################");
         System.out.println("ENROLLMENT SYSTEM CLASS TESTING COMPLETE.");
     }
@@ -0,0 +1,160 @@
+package tests;
+
+import model.Student;
+import model.User;
+import system.AccountManager;
+import util.LruCache;
+import util.PasswordHasher;
+
+/**
+ * Tests the functionality of the PasswordHasher and LruCache classes and how AccountManager uses them.
+ * This class includes tests for hashing and checking passwords, keeping the work factor in the hash,
+ * evicting cached entries, storing users' passwords hashed, hashing typed passwords that look like hashes,
+ * taking as long for unknown emails as for wrong passwords, and remembering verified logins.
+ *
+ * @version Oct 17, 2026
+ */
+public class PasswordHasherTest {
+    public static void main(String[] args) {
+        System.out.println("########################################################");
+        System.out.println("TESTING PASSWORD HASHER CLASS FUNCTIONALITY...");
+
+        // Test: Hashing and checking passwords
+        System.out.println("\nTEST: Hashing and checking passwords...");
+        String first = PasswordHasher.hash("secret", 1_000);
+        String second = PasswordHasher.hash("secret", 1_000);
+        if (!first.contains("secret") && !first.equals(second) && PasswordHasher.isHash(first)
+                && PasswordHasher.verify("secret", first) && PasswordHasher.verify("secret", second)
+                && !PasswordHasher.verify("Secret", first) && !PasswordHasher.verify("secret", "secret")
+                && !PasswordHasher.isHash("secret") && !PasswordHasher.verify(null, first)) {
+            System.out.println("✓✓✓ PASS --> Hashes are salted and only the right password matches.");
+        } else {
+            System.out.println("xxx FAIL --> Hashing incorrect: " + first + " " + second);
+        }
+
+        // Test: Keeping the work factor in the hash
+        System.out.println("\nTEST: Checking hashes made with different work factors...");
+        String cheap = PasswordHasher.hash("secret", 10);
+        String costly = PasswordHasher.hash("secret", 20_000);
+        boolean rejected = false;
+        try {
+            PasswordHasher.hash("secret", 0);
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        }
+        if (cheap.startsWith("pbkdf2-sha256$10$") && costly.startsWith("pbkdf2-sha256$20000$")
+                && PasswordHasher.verify("secret", cheap) && PasswordHasher.verify("secret", costly) && rejected) {
+            System.out.println("✓✓✓ PASS --> Each hash is checked with the work factor it was made with.");
+        } else {
+            System.out.println("xxx FAIL --> Work factor not kept: " + cheap + " " + costly + " " + rejected);
+        }
+
+        // Test: Evicting the least recently used entry
+        System.out.println("\nTEST: Evicting the least recently used entry...");
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+        LruCache<String, Integer> disabled = new LruCache<>(0);
+        disabled.put("a", 1);
+        if (cache.get("a") == 1 && cache.get("b") == null && cache.get("c") == 3 && cache.size() == 2
+                && disabled.get("a") == null) {
+            System.out.println("✓✓✓ PASS --> The entry used longest ago was dropped.");
+        } else {
+            System.out.println("xxx FAIL --> Cache holds a=" + cache.get("a") + " b=" + cache.get("b") + " c=" + cache.get("c"));
+        }
+
+        // Test: Storing passwords hashed
+        System.out.println("\nTEST: Storing users' passwords hashed...");
+        AccountManager accountManager = new AccountManager();
+        accountManager.setHashIterations(20_000);
+        Student student = new Student("Ana Diaz", "adiaz@university.edu", "password", false);
+        accountManager.addUser(student);
+        Student restored = new Student("Ben Ruiz", "bruiz@university.edu", first, false);
+        accountManager.addRestoredUser(restored);
+        if (PasswordHasher.isHash(student.getPassword()) && student.getPassword().startsWith("pbkdf2-sha256$20000$")
+                && restored.getPassword().equals(first)
+                && accountManager.authenticate("adiaz@university.edu", "password") == student
+                && accountManager.authenticate("bruiz@university.edu", "secret") == restored
+                && accountManager.authenticate("adiaz@university.edu", "wrong") == null) {
+            System.out.println("✓✓✓ PASS --> New passwords are hashed and restored hashes are kept as they are.");
+        } else {
+            System.out.println("xxx FAIL --> Stored passwords incorrect: " + student.getPassword() + " " + restored.getPassword());
+        }
+
+        // Test: Typing a password that looks like a hash
+        System.out.println("\nTEST: Typing a password that looks like a hash...");
+        String expensive = "pbkdf2-sha256$999999999$c2FsdA==$aGFzaA==";
+        Student typed = new Student("Cam Ortiz", "cortiz@university.edu", first, false);
+        accountManager.addUser(typed);
+        boolean addedHashed = !typed.getPassword().equals(first)
+                && accountManager.authenticate("cortiz@university.edu", first) == typed;
+        accountManager.changePassword(typed, expensive);
+        boolean changedHashed = typed.getPassword().startsWith("pbkdf2-sha256$20000$")
+                && accountManager.authenticate("cortiz@university.edu", expensive) == typed;
+        long checkStart = System.nanoTime();
+        boolean oversized = PasswordHasher.verify("secret", expensive);
+        long checkMillis = (System.nanoTime() - checkStart) / 1_000_000;
+        boolean refused = false;
+        try {
+            PasswordHasher.hash("secret", PasswordHasher.maxIterations + 1);
+        } catch (IllegalArgumentException e) {
+            refused = true;
+        }
+        if (addedHashed && changedHashed && !oversized && checkMillis < 1000 && refused) {
+            System.out.println("✓✓✓ PASS --> Typed passwords are always hashed and oversized work factors are refused.");
+        } else {
+            System.out.println("xxx FAIL --> Typed hash stored as " + typed.getPassword() + ", oversized hash checked in "
+                    + checkMillis + " ms, refused " + refused);
+        }
+
+        // Test: Unknown emails take as long as wrong passwords
+        System.out.println("\nTEST: Logging in with an unknown email...");
+        accountManager.authenticate("nobody@university.edu", "guess");
+        long unknownNanos = Long.MAX_VALUE;
+        long wrongNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long attempt = System.nanoTime();
+            accountManager.authenticate("nobody@university.edu", "guess " + i);
+            unknownNanos = Math.min(unknownNanos, System.nanoTime() - attempt);
+            attempt = System.nanoTime();
+            accountManager.authenticate("adiaz@university.edu", "guess " + i);
+            wrongNanos = Math.min(wrongNanos, System.nanoTime() - attempt);
+        }
+        if (unknownNanos * 2 > wrongNanos) {
+            System.out.printf("✓✓✓ PASS --> Unknown email %.1f ms, wrong password %.1f ms.%n", unknownNanos / 1e6, wrongNanos / 1e6);
+        } else {
+            System.out.printf("xxx FAIL --> Unknown email %.1f ms is much faster than wrong password %.1f ms.%n",
+                    unknownNanos / 1e6, wrongNanos / 1e6);
+        }
+
+        // Test: Remembering verified logins
+        System.out.println("\nTEST: Remembering verified logins...");
+        accountManager.setHashIterations(200_000);
+        accountManager.changePassword(student, "correct horse");
+        long start = System.nanoTime();
+        User firstLogin = accountManager.authenticate("adiaz@university.edu", "correct horse");
+        long firstNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        User repeatLogin = null;
+        for (int i = 0; i < 100; i++) {
+            repeatLogin = accountManager.authenticate("adiaz@university.edu", "correct horse");
+        }
+        long repeatNanos = (System.nanoTime() - start) / 100;
+        accountManager.changePassword(student, "battery staple");
+        User oldPassword = accountManager.authenticate("adiaz@university.edu", "correct horse");
+        User newPassword = accountManager.authenticate("adiaz@university.edu", "battery staple");
+        if (firstLogin == student && repeatLogin == student && repeatNanos * 100 < firstNanos
+                && oldPassword == null && newPassword == student) {
+            System.out.printf("✓✓✓ PASS --> First login %.1f ms, repeat logins %.1f us, old password rejected after a change.%n",
+                    firstNanos / 1e6, repeatNanos / 1e3);
+        } else {
+            System.out.println("xxx FAIL --> First login " + firstNanos + " ns, repeat " + repeatNanos
+                    + " ns, old password " + oldPassword + ", new password " + newPassword);
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("PASSWORD HASHER CLASS TESTING COMPLETE.");
+    }
+}
@@ -0,0 +1,112 @@
+package tests;
+
+import model.Admin;
+import model.Permissions;
+import model.User;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import system.PersistenceManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests the functionality of the Permissions enum and how Admin holds permissions.
+ * This class includes tests for reading permission names, granting and revoking permissions,
+ * rejecting unknown names, formatting, and restoring permissions from the log and a snapshot.
+ *
+ * @version Oct 17, 2026
+ */
+public class PermissionsTest {
+    public static void main(String[] args) throws IOException {
+        System.out.println("########################################################");
+        System.out.println("TESTING PERMISSIONS CLASS FUNCTIONALITY...");
+
+        // Test: Reading permission names
+        System.out.println("\nTEST: Reading permission names...");
+        if (Permissions.parse("COURSE_MANAGEMENT") == Permissions.COURSE_MANAGEMENT
+                && Permissions.parse(" view users ") == Permissions.VIEW_USERS
+                && Permissions.parse("admin_management") == Permissions.ADMIN_MANAGEMENT
+                && Permissions.parse("SUPERUSER") == null && Permissions.parse("") == null
+                && Permissions.parse(null) == null) {
+            System.out.println("✓✓✓ PASS --> Names are read regardless of case and spacing, unknown names give null.");
+        } else {
+            System.out.println("xxx FAIL --> Permission names read incorrectly.");
+        }
+
+        // Test: Granting and revoking permissions
+        System.out.println("\nTEST: Granting and revoking permissions...");
+        Admin admin = new Admin("Dana Park", "dpark@university.edu", "password");
+        admin.addPermission(Permissions.VIEW_USERS);
+        boolean grantedByName = admin.addPermission("course management");
+        boolean unknownGrant = admin.addPermission("SUPERUSER");
+        admin.addPermission(Permissions.VIEW_USERS);
+        boolean hadCourses = admin.hasPermission(Permissions.COURSE_MANAGEMENT);
+        boolean revokedByName = admin.revokePermission("COURSE_MANAGEMENT");
+        boolean unknownRevoke = admin.revokePermission("SUPERUSER");
+        if (grantedByName && !unknownGrant && hadCourses && revokedByName && !unknownRevoke
+                && admin.getPermissions().size() == 1 && admin.hasPermission(Permissions.VIEW_USERS)
+                && admin.hasPermission("view_users") && !admin.hasPermission("SUPERUSER")
+                && !admin.hasPermission(Permissions.COURSE_MANAGEMENT)) {
+            System.out.println("✓✓✓ PASS --> Permissions granted and revoked once, unknown names rejected.");
+        } else {
+            System.out.println("xxx FAIL --> Permissions incorrect: " + admin.getPermissionsFormatted());
+        }
+
+        // Test: Formatting permissions
+        System.out.println("\nTEST: Formatting permissions...");
+        Admin full = new Admin("Lee Moss", "lmoss@university.edu", "password");
+        full.grantAllPermissions();
+        String formatted = full.getPermissionsFormatted();
+        full.clearPermissions();
+        boolean readOnly = false;
+        try {
+            full.getPermissions().add(Permissions.ADMIN_MANAGEMENT);
+        } catch (UnsupportedOperationException e) {
+            readOnly = true;
+        }
+        if (formatted.equals("COURSE_MANAGEMENT, USER_MANAGEMENT, ADMIN_MANAGEMENT, VIEW_COURSES, VIEW_USERS")
+                && formatted.equals(Permissions.toPermissionsString())
+                && full.getPermissionsFormatted().isEmpty() && readOnly) {
+            System.out.println("✓✓✓ PASS --> Permissions listed in a fixed order and cannot be changed from outside.");
+        } else {
+            System.out.println("xxx FAIL --> Formatted as \"" + formatted + "\", read only " + readOnly);
+        }
+
+        // Test: Restoring permissions from the log and a snapshot
+        System.out.println("\nTEST: Restoring permissions from the log and a snapshot...");
+        Path directory = Files.createTempDirectory("permissions-test");
+        AccountManager accountManager = new AccountManager();
+        // A low work factor keeps this test about permissions rather than password hashing
+        accountManager.setHashIterations(1_000);
+        PersistenceManager persistence = PersistenceManager.open(directory, new EnrollmentSystem(), accountManager);
+        Admin saved = new Admin("Ira Shah", "ishah@university.edu", "password");
+        saved.addPermission(Permissions.VIEW_COURSES);
+        accountManager.addUser(saved);
+        accountManager.grantPermission(saved, "USER_MANAGEMENT");
+        persistence.close();
+
+        AccountManager fromLog = new AccountManager();
+        PersistenceManager reopened = PersistenceManager.open(directory, new EnrollmentSystem(), fromLog);
+        User logged = fromLog.getUserById(saved.getId());
+        reopened.snapshot();
+        reopened.close();
+
+        AccountManager fromSnapshot = new AccountManager();
+        PersistenceManager restarted = PersistenceManager.open(directory, new EnrollmentSystem(), fromSnapshot);
+        User snapshotted = fromSnapshot.getUserById(saved.getId());
+        restarted.close();
+        if (logged instanceof Admin loggedAdmin && snapshotted instanceof Admin snapshotAdmin
+                && loggedAdmin.getPermissions().equals(saved.getPermissions())
+                && snapshotAdmin.getPermissions().equals(saved.getPermissions())
+                && restarted.isSnapshotLoaded()) {
+            System.out.println("✓✓✓ PASS --> Permissions restored as " + saved.getPermissionsFormatted() + ".");
+        } else {
+            System.out.println("xxx FAIL --> Permissions not restored: " + logged + " " + snapshotted);
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("PERMISSIONS CLASS TESTING COMPLETE.");
+    }
+}
@@ -0,0 +1,193 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import model.Instructor;
+import model.Student;
+import model.TimeSlot;
+import model.User;
+import system.AccountManager;
+import system.EnrollmentEngine;
+import system.EnrollmentSystem;
+import system.PersistenceManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the functionality of the PersistenceManager and WriteAheadLog classes.
+ * This class includes tests for restoring saved state, restarting from a snapshot, discarding a
+ * partly written record, batching concurrent enrollments into fewer disk flushes, and sharing flushes
+ * among the drops of a removed course.
+ *
+ * @version Oct 17, 2026
+ */
+public class PersistenceManagerTest {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.out.println("########################################################");
+        System.out.println("TESTING PERSISTENCE MANAGER CLASS FUNCTIONALITY...");
+
+        Path directory = Files.createTempDirectory("enrollment-test");
+
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        AccountManager accountManager = new AccountManager();
+        PersistenceManager persistence = PersistenceManager.open(directory, enrollmentSystem, accountManager);
+
+        Course course = new Course("BIOL 1110", "Biology", "Principles of biology.", 4);
+        enrollmentSystem.addCourse(course);
+        List<TimeSlot> timeSlots = List.of(new TimeSlot(LocalTime.of(8, 0), LocalTime.of(9, 15), DayOfWeek.TUESDAY));
+        CourseSection section = course.createSection(timeSlots, 30);
+        Student student = new Student("Pat Lee", "plee@university.edu", "password", false);
+        Student held = new Student("Sam Ray", "sray@university.edu", "password", false);
+        Instructor instructor = new Instructor("Kim Cho", "kcho@university.edu", "password");
+        accountManager.addUser(student);
+        accountManager.addUser(held);
+        accountManager.addUser(instructor);
+        enrollmentSystem.getEnrollmentEngine().enroll(student, section);
+        enrollmentSystem.assignInstructor(section, instructor);
+        accountManager.setAdvisingHold(held, true);
+        accountManager.changePassword(student, "new\tpassword");
+        persistence.close();
+
+        // Test: Restoring state from the log
+        System.out.println("\nTEST: Restoring state from the log...");
+        EnrollmentSystem restoredSystem = new EnrollmentSystem();
+        AccountManager restoredAccounts = new AccountManager();
+        PersistenceManager restored = PersistenceManager.open(directory, restoredSystem, restoredAccounts);
+        CourseSection restoredSection = restoredSystem.findCourseByCRN(section.getCRN());
+        User restoredStudent = restoredAccounts.getUserById(student.getId());
+        User restoredHeld = restoredAccounts.getUserById(held.getId());
+        if (restoredSection != null && restoredStudent instanceof Student enrolled
+                && restoredSection.getEnrolledStudents().contains(enrolled)
+                && enrolled.getEnrolledCourses().contains(restoredSection)
+                && restoredSection.getInstructor() != null
+                && restoredSection.getInstructor().getId().equals(instructor.getId())
+                && restoredHeld instanceof Student restoredHeldStudent && restoredHeldStudent.hasAdvisingHold()
+                && restoredAccounts.authenticate("plee@university.edu", "new\tpassword") == restoredStudent
+                && !restoredStudent.needsPasswordReset()) {
+            System.out.println("✓✓✓ PASS --> Catalog, enrollment, instructor, hold, and password restored.");
+        } else {
+            System.out.println("xxx FAIL --> State not restored correctly.");
+        }
+
+        // Test: Restarting from a snapshot and the log written since
+        System.out.println("\nTEST: Restarting from a snapshot and the log written since...");
+        restored.snapshot();
+        Student late = new Student("Lou Park", "lpark@university.edu", "password", false);
+        restoredAccounts.addUser(late);
+        restoredSystem.getEnrollmentEngine().enroll(late, restoredSection);
+        Path liveLog = restored.getLog().getFile();
+        // Open the directory again without closing, as if the program had stopped here
+        AccountManager tailAccounts = new AccountManager();
+        EnrollmentSystem tailSystem = new EnrollmentSystem();
+        PersistenceManager tail = PersistenceManager.open(directory, tailSystem, tailAccounts);
+        CourseSection tailSection = tailSystem.findCourseByCRN(section.getCRN());
+        if (tail.isSnapshotLoaded() && tail.getRecoveredCount() == 2 && tailSection != null
+                && tailSection.getEnrolledCount() == 2
+                && tailSection.getEnrolledStudents().contains(tailAccounts.getUserById(late.getId()))) {
+            System.out.println("✓✓✓ PASS --> Snapshot loaded and only the 2 later changes replayed.");
+        } else {
+            System.out.println("xxx FAIL --> Snapshot restart incorrect, replayed " + tail.getRecoveredCount() + " changes.");
+        }
+        tail.close();
+
+        // Test: Closing takes a snapshot and removes replayed log files
+        System.out.println("\nTEST: Closing takes a snapshot and removes replayed log files...");
+        PersistenceManager reopened = PersistenceManager.open(directory, new EnrollmentSystem(), new AccountManager());
+        if (Files.exists(directory.resolve("snapshot.bin")) && !Files.exists(liveLog)
+                && reopened.getRecoveredCount() == 0) {
+            System.out.println("✓✓✓ PASS --> Restart needed no log replay.");
+        } else {
+            System.out.println("xxx FAIL --> Log replayed after a clean close.");
+        }
+        Path activeLog = reopened.getLog().getFile();
+        reopened.close();
+
+        // Test: Discarding a partly written record
+        System.out.println("\nTEST: Discarding a partly written record...");
+        Files.writeString(activeLog, "USER_REMOVE\t" + student.getId(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        AccountManager tornAccounts = new AccountManager();
+        PersistenceManager torn = PersistenceManager.open(directory, new EnrollmentSystem(), tornAccounts);
+        if (tornAccounts.getUserById(student.getId()) != null && torn.getSkippedCount() == 0) {
+            System.out.println("✓✓✓ PASS --> Partly written record ignored.");
+        } else {
+            System.out.println("xxx FAIL --> Partly written record was applied.");
+        }
+        torn.close();
+
+        // Test: Concurrent enrollments share disk flushes
+        System.out.println("\nTEST: Concurrent enrollments share disk flushes...");
+        Path batchDirectory = Files.createTempDirectory("enrollment-batch-test");
+        EnrollmentSystem batchSystem = new EnrollmentSystem();
+        AccountManager batchAccounts = new AccountManager();
+        PersistenceManager batchPersistence = PersistenceManager.open(batchDirectory, batchSystem, batchAccounts);
+        Course batchCourse = new Course("CHEM 1111", "Chemistry", "General chemistry.", 4);
+        batchSystem.addCourse(batchCourse);
+        CourseSection batchSection = batchCourse.createSection(timeSlots, 1000);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Student batchStudent = new Student("Student " + i, "student" + i + "@example.com", "password", false);
+            students.add(batchStudent);
+        }
+        long flushesBefore = batchPersistence.getLog().getFlushCount();
+        EnrollmentEngine engine = batchSystem.getEnrollmentEngine();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                for (int i = offset; i < students.size(); i += 8) {
+                    engine.enroll(students.get(i), batchSection);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long flushes = batchPersistence.getLog().getFlushCount() - flushesBefore;
+        long enrollRecords = Files.readAllLines(batchPersistence.getLog().getFile()).stream()
+                .filter(line -> line.startsWith("ENROLL")).count();
+        batchPersistence.close();
+        if (enrollRecords == 400 && flushes < 400) {
+            System.out.println("✓✓✓ PASS --> 400 enrollments saved with " + flushes + " flushes.");
+        } else {
+            System.out.println("xxx FAIL --> " + enrollRecords + " enrollments saved with " + flushes + " flushes.");
+        }
+
+        // Test: Removing a course shares disk flushes among its drops
+        System.out.println("\nTEST: Removing a course with 200 students enrolled...");
+        Path removeDirectory = Files.createTempDirectory("enrollment-remove-test");
+        EnrollmentSystem removeSystem = new EnrollmentSystem();
+        PersistenceManager removePersistence = PersistenceManager.open(removeDirectory, removeSystem, new AccountManager());
+        Course removed = new Course("PHYS 1101", "Physics", "General physics.", 4);
+        removeSystem.addCourse(removed);
+        CourseSection removedSection = removed.createSection(timeSlots, 200);
+        for (int i = 0; i < 200; i++) {
+            removeSystem.getEnrollmentEngine().enroll(
+                    new Student("Student " + i, "removed" + i + "@example.com", "password", false), removedSection);
+        }
+        long removeFlushesBefore = removePersistence.getLog().getFlushCount();
+        removeSystem.removeCourse(removed);
+        long removeFlushes = removePersistence.getLog().getFlushCount() - removeFlushesBefore;
+        long dropRecords = Files.readAllLines(removePersistence.getLog().getFile()).stream()
+                .filter(line -> line.startsWith("DROP")).count();
+        removePersistence.close();
+        if (dropRecords == 200 && removeFlushes < 200) {
+            System.out.println("✓✓✓ PASS --> 200 drops saved with " + removeFlushes + " flushes.");
+        } else {
+            System.out.println("xxx FAIL --> " + dropRecords + " drops saved with " + removeFlushes + " flushes.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("PERSISTENCE MANAGER CLASS TESTING COMPLETE.");
+    }
+}
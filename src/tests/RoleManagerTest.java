@@ -0,0 +1,162 @@
+package tests;
+
+import model.Admin;
+import model.Permissions;
+import model.RoleSet;
+import model.User;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import system.PersistenceManager;
+import system.RoleManager;
+import system.ScriptRunner;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests the functionality of the RoleManager class and how AccountManager gives roles to admins.
+ * This class includes tests for sharing resolved roles between admins, changing a role for every
+ * admin holding it, giving a role to many admins at once, removing a role, and restoring roles.
+ *
+ * @version Oct 17, 2026
+ */
+public class RoleManagerTest {
+    public static void main(String[] args) throws IOException {
+        System.out.println("########################################################");
+        System.out.println("TESTING ROLE MANAGER CLASS FUNCTIONALITY...");
+
+        AccountManager accountManager = new AccountManager();
+        // A low work factor keeps this test about roles rather than password hashing
+        accountManager.setHashIterations(1_000);
+        RoleManager roleManager = accountManager.getRoleManager();
+        accountManager.defineRole("Registrar", List.of(Permissions.COURSE_MANAGEMENT, Permissions.VIEW_COURSES));
+        accountManager.defineRole("auditor", List.of(Permissions.VIEW_COURSES, Permissions.VIEW_USERS));
+        Admin first = new Admin("Dana Park", "dpark@university.edu", "password");
+        Admin second = new Admin("Lee Moss", "lmoss@university.edu", "password");
+        Admin auditor = new Admin("Ira Shah", "ishah@university.edu", "password");
+        accountManager.addUser(first);
+        accountManager.addUser(second);
+        accountManager.addUser(auditor);
+
+        // Test: Sharing resolved roles between admins
+        System.out.println("\nTEST: Sharing resolved roles between admins...");
+        boolean assigned = accountManager.setRoles(first, List.of("registrar", "AUDITOR"));
+        accountManager.setRoles(second, List.of("auditor", "registrar"));
+        accountManager.setRoles(auditor, List.of("auditor"));
+        boolean unknown = accountManager.setRoles(auditor, List.of("superuser"));
+        if (assigned && !unknown && first.getRoleSet() == second.getRoleSet() && roleManager.getRoleSetCount() == 2
+                && first.hasPermission(Permissions.COURSE_MANAGEMENT) && first.hasPermission("view users")
+                && !first.hasPermission(Permissions.ADMIN_MANAGEMENT) && first.getPermissions().isEmpty()
+                && auditor.getRolesFormatted().equals("auditor") && !auditor.hasPermission(Permissions.COURSE_MANAGEMENT)) {
+            System.out.println("✓✓✓ PASS --> Admins with the same roles share one resolved set of permissions.");
+        } else {
+            System.out.println("xxx FAIL --> Roles resolved incorrectly: " + first.getRolesFormatted()
+                    + " / " + roleManager.getRoleSetCount() + " sets");
+        }
+
+        // Test: Changing a role for every admin holding it
+        System.out.println("\nTEST: Changing a role for every admin holding it...");
+        Set<Permissions> auditorBefore = auditor.getRoleSet().getPermissions();
+        accountManager.grantToRole("registrar", List.of(Permissions.USER_MANAGEMENT));
+        boolean grantedToBoth = first.hasPermission(Permissions.USER_MANAGEMENT) && second.hasPermission(Permissions.USER_MANAGEMENT);
+        boolean auditorUntouched = auditor.getRoleSet().getPermissions() == auditorBefore;
+        accountManager.revokeFromRole("auditor", List.of(Permissions.VIEW_USERS));
+        boolean missingRole = accountManager.grantToRole("superuser", List.of(Permissions.VIEW_USERS));
+        if (grantedToBoth && auditorUntouched && !missingRole && !auditor.hasPermission(Permissions.VIEW_USERS)
+                && !first.hasPermission(Permissions.VIEW_USERS) && !auditor.hasPermission(Permissions.USER_MANAGEMENT)) {
+            System.out.println("✓✓✓ PASS --> Role changes reach every holder and leave other roles' sets alone.");
+        } else {
+            System.out.println("xxx FAIL --> Role changes incorrect: granted " + grantedToBoth + ", auditor untouched "
+                    + auditorUntouched);
+        }
+
+        // Test: Giving a role to many admins at once
+        System.out.println("\nTEST: Giving a role to 300 admins at once...");
+        List<Admin> staff = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Admin admin = new Admin("Staff Member", "staff" + i + "@university.edu", "password");
+            accountManager.addUser(admin);
+            staff.add(admin);
+        }
+        accountManager.assignRole(staff, "registrar");
+        accountManager.assignRole(staff.subList(0, 100), "auditor");
+        RoleSet registrarOnly = staff.get(299).getRoleSet();
+        boolean allHold = true;
+        for (Admin admin : staff) {
+            allHold &= admin.hasPermission(Permissions.COURSE_MANAGEMENT);
+        }
+        StringWriter output = new StringWriter();
+        ScriptRunner.Result result = new ScriptRunner(new EnrollmentSystem(), accountManager).run(
+                new StringReader("UNASSIGN_ROLE registrar " + staff.get(0).getEmail() + " " + staff.get(1).getId()
+                        + "\nASSIGN_ROLE auditor ALL\nASSIGN_ROLE superuser ALL\n"), output);
+        if (allHold && roleManager.getRoleSetCount() == 3 && staff.get(0).getRoleSet() == auditor.getRoleSet()
+                && staff.get(150).getRoleSet() == first.getRoleSet()
+                && registrarOnly.getRoleNames().equals(Set.of("registrar")) && result.getFailed() == 1
+                && staff.get(1).getRolesFormatted().equals("auditor")
+                && !staff.get(1).hasPermission(Permissions.COURSE_MANAGEMENT)) {
+            System.out.println("✓✓✓ PASS --> 300 admins share " + roleManager.getRoleSetCount() + " resolved sets.");
+        } else {
+            System.out.println("xxx FAIL --> Bulk assignment incorrect: " + roleManager.getRoleSetCount() + " sets, "
+                    + result.getFailed() + " failed commands\n" + output);
+        }
+
+        // Test: Removing a role
+        System.out.println("\nTEST: Removing a role from every admin holding it...");
+        boolean removed = accountManager.removeRole("auditor");
+        if (removed && !accountManager.removeRole("auditor") && roleManager.getRole("auditor") == null
+                && first.getRolesFormatted().equals("registrar") && auditor.getRoleSet() == RoleSet.none
+                && staff.get(1).getRoleSet() == RoleSet.none && roleManager.getRoleSetCount() == 1
+                && first.hasPermission(Permissions.COURSE_MANAGEMENT) && first.hasPermission(Permissions.VIEW_COURSES)) {
+            System.out.println("✓✓✓ PASS --> The role was taken from its holders and its cached sets dropped.");
+        } else {
+            System.out.println("xxx FAIL --> Role not removed correctly: " + first.getRolesFormatted() + " / "
+                    + roleManager.getRoleSetCount() + " sets");
+        }
+
+        // Test: Restoring roles from the log and a snapshot
+        System.out.println("\nTEST: Restoring roles from the log and a snapshot...");
+        Path directory = Files.createTempDirectory("roles-test");
+        AccountManager saved = new AccountManager();
+        saved.setHashIterations(1_000);
+        PersistenceManager persistence = PersistenceManager.open(directory, new EnrollmentSystem(), saved);
+        saved.defineRole("registrar", List.of(Permissions.COURSE_MANAGEMENT));
+        saved.defineRole("auditor", List.of(Permissions.VIEW_USERS));
+        saved.defineRole("temporary", List.of(Permissions.ADMIN_MANAGEMENT));
+        Admin holder = new Admin("Kim Cho", "kcho@university.edu", "password");
+        saved.addUser(holder);
+        saved.assignRole(List.of(holder), "registrar");
+        saved.assignRole(List.of(holder), "temporary");
+        saved.grantToRole("registrar", List.of(Permissions.VIEW_COURSES));
+        saved.removeRole("temporary");
+        persistence.close();
+
+        AccountManager fromLog = new AccountManager();
+        PersistenceManager reopened = PersistenceManager.open(directory, new EnrollmentSystem(), fromLog);
+        User logged = fromLog.getUserById(holder.getId());
+        reopened.snapshot();
+        reopened.close();
+
+        AccountManager fromSnapshot = new AccountManager();
+        PersistenceManager restarted = PersistenceManager.open(directory, new EnrollmentSystem(), fromSnapshot);
+        User snapshotted = fromSnapshot.getUserById(holder.getId());
+        restarted.close();
+        if (logged instanceof Admin loggedAdmin && snapshotted instanceof Admin snapshotAdmin
+                && loggedAdmin.getRolesFormatted().equals("registrar") && snapshotAdmin.getRolesFormatted().equals("registrar")
+                && snapshotAdmin.hasPermission(Permissions.VIEW_COURSES) && !snapshotAdmin.hasPermission(Permissions.ADMIN_MANAGEMENT)
+                && fromSnapshot.getRoleManager().getRoles().size() == 2 && fromSnapshot.getRoleManager().getRole("temporary") == null
+                && fromSnapshot.getRoleManager().getRole("auditor").hasPermission(Permissions.VIEW_USERS)) {
+            System.out.println("✓✓✓ PASS --> Roles and the admins holding them restored.");
+        } else {
+            System.out.println("xxx FAIL --> Roles not restored: " + logged + " " + snapshotted);
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("ROLE MANAGER CLASS TESTING COMPLETE.");
+    }
+}
@@ -0,0 +1,135 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import model.RosterStore;
+import model.Student;
+import model.TimeSlot;
+import system.EnrollmentEngine;
+import system.EnrollmentSystem;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the functionality of the RosterStore class.
+ * This class includes tests for enrolling and dropping with rosters kept in a memory-mapped file,
+ * growing a roster past its first region, reusing freed space, and freeing the rosters and indexes
+ * of removed courses and students.
+ *
+ * @version Oct 17, 2026
+ */
+public class RosterStoreTest {
+    public static void main(String[] args) throws IOException {
+        System.out.println("########################################################");
+        System.out.println("TESTING ROSTER STORE CLASS FUNCTIONALITY...");
+
+        Path file = Files.createTempFile("rosters", ".bin");
+        RosterStore store = RosterStore.open(file);
+        RosterStore.install(store);
+
+        EnrollmentEngine engine = new EnrollmentEngine();
+        Course course = new Course("PHYS 2101", "Physics", "Mechanics.", 4);
+        Course other = new Course("ENGL 1101", "Writing", "Composition.", 3);
+        CourseSection section = course.createSection(
+                List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(9, 50), DayOfWeek.MONDAY)), 200);
+        CourseSection otherSection = other.createSection(
+                List.of(new TimeSlot(LocalTime.of(13, 0), LocalTime.of(13, 50), DayOfWeek.MONDAY)), 200);
+        Student student = new Student("Ana Diaz", "adiaz@example.com", "password", false);
+
+        // Test: Enrolling with a mapped roster and schedule
+        System.out.println("\nTEST: Enrolling with a mapped roster and schedule...");
+        engine.enroll(student, section);
+        engine.enroll(student, otherSection);
+        if (section.getEnrolledStudents().contains(student) && section.getEnrolledStudents().get(0) == student
+                && student.getEnrolledCourses().equals(List.of(section, otherSection))
+                && !section.getEnrolledStudents().getClass().equals(ArrayList.class)) {
+            System.out.println("✓✓✓ PASS --> Roster and schedule stored and read back.");
+        } else {
+            System.out.println("xxx FAIL --> Roster or schedule incorrect.");
+        }
+
+        // Test: Growing a roster past its first region
+        System.out.println("\nTEST: Growing a roster past its first region...");
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            Student next = new Student("Student " + i, "s" + i + "@example.com", "password", false);
+            students.add(next);
+            engine.enroll(next, section);
+        }
+        boolean ordered = section.getEnrolledCount() == 151;
+        for (int i = 0; ordered && i < students.size(); i++) {
+            ordered = section.getEnrolledStudents().get(i + 1) == students.get(i);
+        }
+        if (ordered) {
+            System.out.println("✓✓✓ PASS --> 151 students kept in enrollment order.");
+        } else {
+            System.out.println("xxx FAIL --> Roster lost or reordered students.");
+        }
+
+        // Test: Dropping and reusing freed space
+        System.out.println("\nTEST: Dropping and reusing freed space...");
+        engine.drop(student, section);
+        long usedBefore = store.getUsedBytes();
+        section.getWaitlist().clear();
+        for (Student enrolled : new ArrayList<>(section.getEnrolledStudents())) {
+            engine.drop(enrolled, section);
+        }
+        section.getEnrolledStudents().clear();
+        CourseSection reused = course.createSection(
+                List.of(new TimeSlot(LocalTime.of(15, 0), LocalTime.of(15, 50), DayOfWeek.FRIDAY)), 200);
+        for (Student enrolled : students) {
+            engine.enroll(enrolled, reused);
+        }
+        if (!section.getEnrolledStudents().contains(student) && student.getEnrolledCourses().equals(List.of(otherSection))
+                && reused.getEnrolledCount() == 150 && store.getUsedBytes() <= usedBefore) {
+            System.out.println("✓✓✓ PASS --> Dropped students removed and space reused.");
+        } else {
+            System.out.println("xxx FAIL --> Drop or reuse incorrect (" + store.getUsedBytes() + " > " + usedBefore + ").");
+        }
+
+        // Test: Freeing emptied rosters and forgetting removed students and sections
+        System.out.println("\nTEST: Freeing emptied rosters and forgetting removed students and sections...");
+        long usedBeforeCourse = store.getUsedBytes();
+        int registeredBefore = store.getRegisteredCount();
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        Course removed = new Course("CHEM 1211", "Chemistry", "Principles.", 4);
+        enrollmentSystem.addCourse(removed);
+        CourseSection removedSection = removed.createSection(
+                List.of(new TimeSlot(LocalTime.of(10, 0), LocalTime.of(10, 50), DayOfWeek.TUESDAY)), 200);
+        Student leaving = new Student("Lee Park", "lpark@example.com", "password", false);
+        engine.enroll(leaving, removedSection);
+        enrollmentSystem.removeCourse(removed);
+        boolean freed = store.getUsedBytes() == usedBeforeCourse && store.getRegisteredCount() == registeredBefore;
+        WeakReference<Student> leavingRef = new WeakReference<>(leaving);
+        WeakReference<CourseSection> sectionRef = new WeakReference<>(removedSection);
+        leaving = null;
+        removedSection = null;
+        removed = null;
+        for (int i = 0; i < 10 && (leavingRef.get() != null || sectionRef.get() != null); i++) {
+            System.gc();
+        }
+        // A new student takes the freed index, and lists holding older indexes still read back correctly
+        Student arriving = new Student("Kim Reyes", "kreyes@example.com", "password", false);
+        engine.enroll(arriving, otherSection);
+        if (freed && leavingRef.get() == null && sectionRef.get() == null
+                && otherSection.getEnrolledStudents().equals(List.of(student, arriving))
+                && arriving.getEnrolledCourses().equals(List.of(otherSection))
+                && reused.getEnrolledStudents().equals(students)) {
+            System.out.println("✓✓✓ PASS --> Emptied rosters freed and removed objects collected.");
+        } else {
+            System.out.println("xxx FAIL --> Rosters or removed objects kept (" + store.getUsedBytes() + " bytes used, "
+                    + store.getRegisteredCount() + " objects registered).");
+        }
+
+        store.close();
+        System.out.println("\n########################################################");
+        System.out.println("ROSTER STORE CLASS TESTING COMPLETE.");
+    }
+}
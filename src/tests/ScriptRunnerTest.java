@@ -0,0 +1,153 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import model.Instructor;
+import model.Student;
+import model.TimeSlot;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import system.PersistenceManager;
+import system.ScriptRunner;
+import util.Console;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Tests the functionality of the ScriptRunner class.
+ * This class includes tests for running enrollment, assignment, and hold commands, reporting
+ * failed commands, saving a scripted run in one batch, and leaving other sessions' output alone.
+ *
+ * @version Oct 17, 2026
+ */
+public class ScriptRunnerTest {
+    public static void main(String[] args) throws IOException {
+        System.out.println("########################################################");
+        System.out.println("TESTING SCRIPT RUNNER CLASS FUNCTIONALITY...");
+
+        Path directory = Files.createTempDirectory("script-test");
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        AccountManager accountManager = new AccountManager();
+        PersistenceManager persistence = PersistenceManager.open(directory, enrollmentSystem, accountManager);
+        Course course = new Course("HIST 1120", "World History", "Since 1500.", 3);
+        enrollmentSystem.addCourse(course);
+        CourseSection section = course.createSection(
+                List.of(new TimeSlot(LocalTime.of(11, 0), LocalTime.of(11, 50), DayOfWeek.MONDAY)), 1);
+        Student first = new Student("Ana Diaz", "adiaz@university.edu", "password", false);
+        Student second = new Student("Ben Ortiz", "bortiz@university.edu", "password", false);
+        Instructor instructor = new Instructor("Kim Cho", "kcho@university.edu", "password");
+        accountManager.addUser(first);
+        accountManager.addUser(second);
+        accountManager.addUser(instructor);
+        String crn = section.getCRN();
+
+        // Test: Running commands
+        System.out.println("\nTEST: Running enrollment, assignment, and hold commands...");
+        String script = "# registration fixes\n"
+                + "ENROLL " + crn + " adiaz@university.edu\n"
+                + "\n"
+                + "waitlist " + crn + " " + second.getId() + "\n"
+                + "ASSIGN " + crn + " kcho@university.edu\n"
+                + "HOLD bortiz@university.edu ON\n";
+        StringWriter out = new StringWriter();
+        ScriptRunner.Result result = new ScriptRunner(enrollmentSystem, accountManager).run(new StringReader(script), out);
+        if (result.getCommandCount() == 4 && result.getFailed() == 0
+                && section.getEnrolledStudents().contains(first) && section.getWaitlist().contains(second)
+                && section.getInstructor() == instructor && second.hasAdvisingHold()
+                && out.toString().startsWith("4 commands")) {
+            System.out.println("✓✓✓ PASS --> 4 commands run and summarized.");
+        } else {
+            System.out.println("xxx FAIL --> Commands not run correctly:\n" + out);
+        }
+
+        // Test: Reporting failed commands
+        System.out.println("\nTEST: Reporting failed commands...");
+        String failing = "ENROLL " + crn + " bortiz@university.edu\n"
+                + "ENROLL 99999 adiaz@university.edu\n"
+                + "ASSIGN " + crn + " adiaz@university.edu\n"
+                + "HOLD adiaz@university.edu MAYBE\n"
+                + "FLY " + crn + "\n"
+                + "DROP " + crn + " adiaz@university.edu\n";
+        StringWriter failures = new StringWriter();
+        ScriptRunner.Result failed = new ScriptRunner(enrollmentSystem, accountManager)
+                .run(new StringReader(failing), failures);
+        List<String> lines = failures.toString().lines().toList();
+        if (failed.getFailed() == 5 && failed.getSucceeded() == 1
+                && lines.get(0).equals("Line 1: ENROLL " + crn + " bortiz@university.edu: This section is at capacity")
+                && lines.get(1).endsWith("No section with CRN 99999")
+                && lines.get(2).endsWith("No instructor adiaz@university.edu")
+                && lines.get(4).startsWith("Line 5:") && lines.get(4).endsWith("Unknown command FLY")
+                && !section.getEnrolledStudents().contains(first)) {
+            System.out.println("✓✓✓ PASS --> 5 failed commands reported with their line numbers.");
+        } else {
+            System.out.println("xxx FAIL --> Failures reported incorrectly:\n" + failures);
+        }
+
+        // Test: Saving a scripted run in one batch
+        System.out.println("\nTEST: Saving a scripted run in one batch...");
+        StringBuilder drops = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            drops.append(i % 2 == 0 ? "DROP " : "WAITLIST ").append(crn).append(' ').append(first.getId()).append('\n');
+        }
+        long flushesBefore = persistence.getLog().getFlushCount();
+        ScriptRunner.Result batch = new ScriptRunner(enrollmentSystem, accountManager)
+                .run(new StringReader(drops.toString()), new StringWriter());
+        long flushes = persistence.getLog().getFlushCount() - flushesBefore;
+        persistence.close();
+        EnrollmentSystem restored = new EnrollmentSystem();
+        PersistenceManager.open(directory, restored, new AccountManager()).close();
+        if (batch.getCommandCount() == 200 && batch.getSucceeded() > 100 && flushes < batch.getSucceeded()
+                && restored.findCourseByCRN(crn).getEnrolledStudents().size() == 1) {
+            System.out.println("✓✓✓ PASS --> " + batch.getSucceeded() + " changes saved with " + flushes + " flushes.");
+        } else {
+            System.out.println("xxx FAIL --> " + batch.getSucceeded() + " changes saved with " + flushes + " flushes.");
+        }
+
+        // Test: Other sessions keep printing while a script runs
+        System.out.println("\nTEST: Printing from another session while a script runs...");
+        ByteArrayOutputStream terminal = new ByteArrayOutputStream();
+        // The script's reader is read on the running thread, so the other session prints mid-run
+        Reader duringRun = new StringReader("HOLD ALL\n") {
+            private boolean printed;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                if (!printed) {
+                    printed = true;
+                    Thread session = new Thread(() -> {
+                        Console.attach(InputStream.nullInputStream(), terminal);
+                        System.out.println("Still printing");
+                        Console.detach();
+                    });
+                    session.start();
+                    try {
+                        session.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.read(buffer, offset, length);
+            }
+        };
+        new ScriptRunner(new EnrollmentSystem(), new AccountManager()).run(duringRun, new StringWriter());
+        if (terminal.toString(StandardCharsets.UTF_8).contains("Still printing")) {
+            System.out.println("✓✓✓ PASS --> Only the script's own thread was silenced.");
+        } else {
+            System.out.println("xxx FAIL --> Another session's output was discarded while the script ran.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("SCRIPT RUNNER CLASS TESTING COMPLETE.");
+    }
+}
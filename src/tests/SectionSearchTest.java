@@ -0,0 +1,268 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import model.Instructor;
+import model.Student;
+import model.TimeSlot;
+import system.EnrollmentSystem;
+import system.SectionQuery;
+import util.Console;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests searching course sections with SectionQuery and EnrollmentSystem.findSections.
+ * This class includes tests for finding sections by course ID and name, by meeting day and time,
+ * by credits, instructor and open seats, keeping the indexes up to date as sections change,
+ * searching from the console, ordering and limiting results, and searching a 20,000 section catalog.
+ *
+ * @version Oct 17, 2026
+ */
+public class SectionSearchTest {
+    public static void main(String[] args) {
+        System.out.println("########################################################");
+        System.out.println("TESTING SECTION SEARCH FUNCTIONALITY...");
+
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        Course calculus = new Course("MATH 1241", "Calculus 1", "Limits and derivatives.", 3);
+        Course calculusTwo = new Course("MATH 2164", "Calculus 3", "Vectors.", 4);
+        Course programming = new Course("ITSC 1212", "Intro to Computer Science", "Programming.", 4);
+        enrollmentSystem.addCourse(programming);
+        enrollmentSystem.addCourse(calculus);
+        enrollmentSystem.addCourse(calculusTwo);
+        CourseSection mathMorning = calculus.createSection(List.of(
+                slot(9, 0, 9, 50, DayOfWeek.MONDAY), slot(9, 0, 9, 50, DayOfWeek.WEDNESDAY)), 30);
+        CourseSection mathAfternoon = calculus.createSection(List.of(
+                slot(14, 0, 15, 15, DayOfWeek.TUESDAY), slot(14, 0, 15, 15, DayOfWeek.THURSDAY)), 1);
+        CourseSection vectors = calculusTwo.createSection(List.of(slot(10, 0, 10, 50, DayOfWeek.MONDAY)), 30);
+        CourseSection itscMorning = programming.createSection(List.of(slot(8, 0, 9, 15, DayOfWeek.MONDAY)), 30);
+        CourseSection itscLate = programming.createSection(List.of(slot(9, 30, 11, 45, DayOfWeek.MONDAY)), 30);
+        Instructor instructor = new Instructor("Rosa Vance", "rvance@university.edu", "password");
+        vectors.assignInstructor(instructor);
+        mathAfternoon.enrollStudent(new Student("Ana Diaz", "adiaz@university.edu", "password", false));
+
+        // Test: Finding sections by course ID and name
+        System.out.println("\nTEST: Finding sections by course ID and name...");
+        List<CourseSection> math = enrollmentSystem.findSections(new SectionQuery().courseIdPrefix("math"));
+        List<CourseSection> lowerDivision = enrollmentSystem.findSections(new SectionQuery().courseIdPrefix(" MATH 1"));
+        List<CourseSection> byName = enrollmentSystem.findSections(new SectionQuery().text("calculus"));
+        List<CourseSection> byIdText = enrollmentSystem.findSections(new SectionQuery().text("itsc"));
+        List<CourseSection> none = enrollmentSystem.findSections(new SectionQuery().courseIdPrefix("PHYS"));
+        if (math.equals(List.of(mathMorning, mathAfternoon, vectors))
+                && lowerDivision.equals(List.of(mathMorning, mathAfternoon))
+                && byName.equals(math) && byIdText.equals(List.of(itscMorning, itscLate)) && none.isEmpty()) {
+            System.out.println("✓✓✓ PASS --> Course ID prefixes and names find the right sections.");
+        } else {
+            System.out.println("xxx FAIL --> Found " + crns(math) + " " + crns(lowerDivision) + " " + crns(byName));
+        }
+
+        // Test: Finding sections by meeting day and time
+        System.out.println("\nTEST: Finding sections by meeting day and time...");
+        List<CourseSection> monday = enrollmentSystem.findSections(new SectionQuery().day(DayOfWeek.MONDAY));
+        List<CourseSection> mondayMorning = enrollmentSystem.findSections(new SectionQuery().day(DayOfWeek.MONDAY)
+                .startingAfter(LocalTime.of(9, 0)).endingBefore(LocalTime.of(11, 0)));
+        List<CourseSection> afternoon = enrollmentSystem.findSections(new SectionQuery().startingAfter(LocalTime.of(12, 0)));
+        List<CourseSection> early = enrollmentSystem.findSections(new SectionQuery().endingBefore(LocalTime.of(9, 50)));
+        List<CourseSection> backwards = enrollmentSystem.findSections(new SectionQuery()
+                .startingAfter(LocalTime.of(15, 0)).endingBefore(LocalTime.of(9, 0)));
+        if (monday.equals(List.of(itscMorning, itscLate, mathMorning, vectors))
+                && mondayMorning.equals(List.of(mathMorning, vectors))
+                && afternoon.equals(List.of(mathAfternoon)) && early.equals(List.of(itscMorning, mathMorning))
+                && backwards.isEmpty()) {
+            System.out.println("✓✓✓ PASS --> Meetings are matched on their day and within the times.");
+        } else {
+            System.out.println("xxx FAIL --> Found " + crns(monday) + " " + crns(mondayMorning) + " " + crns(early));
+        }
+
+        // Test: Finding sections by credits, instructor and open seats
+        System.out.println("\nTEST: Finding sections by credits, instructor and open seats...");
+        List<CourseSection> fourCredits = enrollmentSystem.findSections(new SectionQuery().credits(4));
+        List<CourseSection> taught = enrollmentSystem.findSections(new SectionQuery().instructor("vance"));
+        List<CourseSection> taughtById = enrollmentSystem.findSections(new SectionQuery().instructor(instructor.getId()));
+        List<CourseSection> openMath = enrollmentSystem.findSections(new SectionQuery().courseIdPrefix("MATH 1").openOnly(true));
+        List<CourseSection> openTuesday = enrollmentSystem.findSections(new SectionQuery().day(DayOfWeek.TUESDAY).openOnly(true));
+        if (fourCredits.equals(List.of(itscMorning, itscLate, vectors)) && taught.equals(List.of(vectors))
+                && taughtById.equals(taught) && openMath.equals(List.of(mathMorning)) && openTuesday.isEmpty()) {
+            System.out.println("✓✓✓ PASS --> Credits, instructor and open seats narrow the results.");
+        } else {
+            System.out.println("xxx FAIL --> Found " + crns(fourCredits) + " " + crns(taught) + " " + crns(openMath));
+        }
+
+        // Test: Keeping the indexes up to date
+        System.out.println("\nTEST: Keeping the indexes up to date as sections change...");
+        calculus.removeCourseSection(mathMorning);
+        enrollmentSystem.removeCourse(programming);
+        Course physics = new Course("PHYS 2101", "Physics 1", "Mechanics.", 4);
+        CourseSection physicsSection = physics.createSection(List.of(slot(9, 0, 9, 50, DayOfWeek.MONDAY)), 30);
+        boolean hiddenBeforeAdded = enrollmentSystem.findSections(new SectionQuery().courseIdPrefix("PHYS")).isEmpty();
+        enrollmentSystem.addCourse(physics);
+        List<CourseSection> mondayAfter = enrollmentSystem.findSections(new SectionQuery().day(DayOfWeek.MONDAY));
+        List<CourseSection> everything = enrollmentSystem.findSections(new SectionQuery());
+        if (hiddenBeforeAdded && mondayAfter.equals(List.of(vectors, physicsSection))
+                && everything.equals(List.of(mathAfternoon, vectors, physicsSection))) {
+            System.out.println("✓✓✓ PASS --> Removed sections and courses leave the results, added ones join them.");
+        } else {
+            System.out.println("xxx FAIL --> Found " + crns(mondayAfter) + " " + crns(everything));
+        }
+
+        // Test: Searching from the console
+        System.out.println("\nTEST: Searching from the console...");
+        Console.attach(new ByteArrayInputStream("math\nMonday\n9:00 am\nnoon\n\n4\n\ny\n".getBytes(StandardCharsets.UTF_8)),
+                OutputStream.nullOutputStream());
+        String searched;
+        try {
+            searched = capture(enrollmentSystem::searchSections);
+        } finally {
+            Console.detach();
+        }
+        if (searched.contains("| " + vectors.getCRN() + " |") && !searched.contains("| " + mathAfternoon.getCRN() + " |")
+                && searched.contains("Invalid time format") && searched.contains("1 section matches.")) {
+            System.out.println("✓✓✓ PASS --> Filters entered at the prompts find the matching sections.");
+        } else {
+            System.out.println("xxx FAIL --> Console search printed:\n" + searched);
+        }
+
+        // Test: Ordering and limiting results
+        System.out.println("\nTEST: Ordering and limiting results...");
+        EnrollmentSystem catalog = new EnrollmentSystem();
+        for (int c = 0; c < 4_000; c++) {
+            Course course = new Course(new String[] {"ACCT", "BIOL", "CHEM", "MATH"}[c % 4] + " " + (1000 + c / 4),
+                    "Course " + c, "Description " + c, 1 + c % 4);
+            catalog.addCourse(course);
+            for (int s = 0; s < 5; s++) {
+                int start = 8 * 60 + 30 * ((c + 7 * s) % 20);
+                course.createSection(List.of(new TimeSlot(LocalTime.of(start / 60, start % 60),
+                        LocalTime.of(start / 60, start % 60).plusMinutes(50), DayOfWeek.of(1 + (c + s) % 5))), 1 + s % 3);
+            }
+        }
+        List<CourseSection> firstTen = catalog.findSections(new SectionQuery().day(DayOfWeek.FRIDAY).limit(10));
+        boolean ordered = true;
+        for (int i = 1; i < firstTen.size(); i++) {
+            ordered &= compare(firstTen.get(i - 1), firstTen.get(i)) < 0;
+        }
+        boolean rejected = false;
+        try {
+            new SectionQuery().limit(0);
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        }
+        if (firstTen.size() == 10 && ordered && firstTen.get(0).getCourse().getId().equals("ACCT 1000") && rejected
+                && catalog.findSections(new SectionQuery().courseIdPrefix("CHEM").limit(7)).size() == 7) {
+            System.out.println("✓✓✓ PASS --> Results are ordered by course ID then CRN and stop at the limit.");
+        } else {
+            System.out.println("xxx FAIL --> Found " + crns(firstTen));
+        }
+
+        // Test: Searching a large catalog
+        System.out.println("\nTEST: Searching a 20,000 section catalog...");
+        List<CourseSection> all = catalog.findSections(new SectionQuery());
+        for (int i = 0; i < all.size(); i += 3) {
+            all.get(i).enrollStudent(new Student("Student " + i, "student" + i + "@university.edu", "password", false));
+        }
+        List<SectionQuery> queries = List.of(
+                new SectionQuery().courseIdPrefix("MATH 15"),
+                new SectionQuery().courseIdPrefix("BIOL").day(DayOfWeek.TUESDAY).openOnly(true),
+                new SectionQuery().day(DayOfWeek.WEDNESDAY).startingAfter(LocalTime.of(10, 0)).endingBefore(LocalTime.of(11, 0)),
+                new SectionQuery().day(DayOfWeek.MONDAY).startingAfter(LocalTime.of(13, 0)).credits(2).openOnly(true),
+                new SectionQuery().startingAfter(LocalTime.of(17, 0)),
+                new SectionQuery().text("course 39").openOnly(true));
+        boolean agree = true;
+        for (SectionQuery query : queries) {
+            List<CourseSection> scanned = new ArrayList<>();
+            for (CourseSection section : all) {
+                if (query.matches(section)) {
+                    scanned.add(section);
+                }
+            }
+            agree &= catalog.findSections(query).equals(scanned);
+        }
+        SectionQuery typical = new SectionQuery().courseIdPrefix("CHEM 12").day(DayOfWeek.THURSDAY).openOnly(true);
+        SectionQuery window = new SectionQuery().day(DayOfWeek.MONDAY).startingAfter(LocalTime.of(9, 0))
+                .endingBefore(LocalTime.of(10, 0)).openOnly(true).limit(25);
+        for (int i = 0; i < 2_000; i++) {
+            catalog.findSections(typical);
+            catalog.findSections(window);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) {
+            catalog.findSections(typical);
+            catalog.findSections(window);
+        }
+        long micros = (System.nanoTime() - start) / 2_000 / 1_000;
+        if (agree && micros < 1_000) {
+            System.out.println("✓✓✓ PASS --> Indexed searches match a full scan and take " + micros + " µs each.");
+        } else {
+            System.out.println("xxx FAIL --> Indexed searches agree with a scan: " + agree + ", " + micros + " µs each.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("SECTION SEARCH TESTING COMPLETE.");
+    }
+
+    /**
+     * Runs an action and returns what it printed to the console.
+     *
+     * @param action the action
+     * @return the printed text
+     */
+    private static String capture(Runnable action) {
+        PrintStream console = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer, true));
+        try {
+            action.run();
+        } finally {
+            System.setOut(console);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Returns a meeting on one day.
+     *
+     * @param startHour the hour the meeting starts
+     * @param startMinute the minute the meeting starts
+     * @param endHour the hour the meeting ends
+     * @param endMinute the minute the meeting ends
+     * @param day the day
+     * @return the time slot
+     */
+    private static TimeSlot slot(int startHour, int startMinute, int endHour, int endMinute, DayOfWeek day) {
+        return new TimeSlot(LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute), day);
+    }
+
+    /**
+     * Compares two sections by course ID, then CRN.
+     *
+     * @param first the first section
+     * @param second the second section
+     * @return a negative number, zero, or a positive number as the first comes before, with, or after the second
+     */
+    private static int compare(CourseSection first, CourseSection second) {
+        int byId = first.getCourse().getId().compareTo(second.getCourse().getId());
+        return byId != 0 ? byId : Integer.compare(Integer.parseInt(first.getCRN()), Integer.parseInt(second.getCRN()));
+    }
+
+    /**
+     * Lists the CRNs of sections, for failure messages.
+     *
+     * @param sections the sections
+     * @return the CRNs
+     */
+    private static List<String> crns(List<CourseSection> sections) {
+        List<String> crns = new ArrayList<>();
+        for (CourseSection section : sections) {
+            crns.add(section.getCRN());
+        }
+        return crns;
+    }
+}
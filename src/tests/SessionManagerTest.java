@@ -0,0 +1,92 @@
+package tests;
+
+import model.Student;
+import model.User;
+import system.SessionManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the functionality of the SessionManager class.
+ * This class includes tests for creating sessions, looking them up, ending them,
+ * expiring them, and sweeping expired sessions in the background.
+ *
+ * @version Oct 17, 2026
+ */
+public class SessionManagerTest {
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("########################################################");
+        System.out.println("TESTING SESSION MANAGER CLASS FUNCTIONALITY...");
+
+        Student ana = new Student("Ana Diaz", "adiaz@university.edu", "password", false);
+        Student ben = new Student("Ben Ruiz", "bruiz@university.edu", "password", false);
+
+        // Test: Creating and looking up sessions
+        System.out.println("\nTEST: Creating and looking up sessions...");
+        SessionManager sessions = new SessionManager(30, TimeUnit.MINUTES);
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            tokens.add(sessions.createSession(ana));
+        }
+        String benToken = sessions.createSession(ben);
+        if (tokens.size() == 1000 && sessions.getUser(benToken) == ben
+                && sessions.getUser(tokens.iterator().next()) == ana
+                && sessions.getUser("not-a-token") == null && sessions.getUser(null) == null) {
+            System.out.println("✓✓✓ PASS --> Tokens are unique and map back to their users.");
+        } else {
+            System.out.println("xxx FAIL --> " + tokens.size() + " unique tokens, lookup returned " + sessions.getUser(benToken));
+        }
+
+        // Test: Ending sessions
+        System.out.println("\nTEST: Ending sessions...");
+        boolean ended = sessions.invalidate(benToken);
+        boolean endedTwice = sessions.invalidate(benToken);
+        int anaEnded = sessions.invalidateUser(ana);
+        if (ended && !endedTwice && anaEnded == 1000 && sessions.getUser(benToken) == null
+                && sessions.getSessionCount() == 0) {
+            System.out.println("✓✓✓ PASS --> Logging out ends one session and removing a user ends all of theirs.");
+        } else {
+            System.out.println("xxx FAIL --> Sessions not ended: " + ended + " " + endedTwice + " " + anaEnded
+                    + ", " + sessions.getSessionCount() + " left.");
+        }
+
+        // Test: Expiring sessions
+        System.out.println("\nTEST: Expiring unused sessions...");
+        SessionManager shortSessions = new SessionManager(300, TimeUnit.MILLISECONDS);
+        String used = shortSessions.createSession(ana);
+        String unused = shortSessions.createSession(ben);
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(100);
+            shortSessions.getUser(used);
+        }
+        User stillThere = shortSessions.getUser(used);
+        User expired = shortSessions.getUser(unused);
+        if (stillThere == ana && expired == null) {
+            System.out.println("✓✓✓ PASS --> Using a session extends it and an unused one expires.");
+        } else {
+            System.out.println("xxx FAIL --> Used session returned " + stillThere + ", unused returned " + expired);
+        }
+
+        // Test: Sweeping expired sessions
+        System.out.println("\nTEST: Sweeping expired sessions in the background...");
+        SessionManager swept = new SessionManager(100, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 500; i++) {
+            swept.createSession(ana);
+        }
+        swept.startSweeper(50, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 100 && swept.getSessionCount() > 0; i++) {
+            Thread.sleep(20);
+        }
+        swept.close();
+        if (swept.getSessionCount() == 0) {
+            System.out.println("✓✓✓ PASS --> The sweeper removed all 500 expired sessions.");
+        } else {
+            System.out.println("xxx FAIL --> " + swept.getSessionCount() + " expired sessions left.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("SESSION MANAGER CLASS TESTING COMPLETE.");
+    }
+}
@@ -0,0 +1,103 @@
+package tests;
+
+import model.Student;
+import model.User;
+import system.AccountManager;
+import system.StudentImporter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+/**
+ * Tests the functionality of the StudentImporter class and AccountManager.createStudents.
+ * This class includes tests for importing names, reporting invalid names, rejecting an invalid
+ * batch, and onboarding a full freshman class.
+ *
+ * @version Oct 17, 2026
+ */
+public class StudentImporterTest {
+    public static void main(String[] args) throws IOException {
+        System.out.println("########################################################");
+        System.out.println("TESTING STUDENT IMPORTER CLASS FUNCTIONALITY...");
+
+        AccountManager accountManager = new AccountManager();
+        accountManager.addUser(new Student("Jane Smith", "jsmith@university.edu", "password", false));
+        StudentImporter importer = new StudentImporter(accountManager);
+
+        // Test: Importing names and writing credentials
+        System.out.println("\nTEST: Importing names and writing credentials...");
+        StringWriter credentials = new StringWriter();
+        StudentImporter.Result result = importer.importNames(
+                new StringReader("John Smith\n\n  Ada Lovelace  \nJoan Smith\n"), credentials);
+        String[] lines = credentials.toString().split("\n");
+        String[] ada = lines.length == 4 ? lines[2].split(",") : new String[0];
+        User adaUser = ada.length == 3 ? accountManager.authenticate(ada[1], ada[2]) : null;
+        if (result.getStudentsCreated() == 3 && result.getErrors().isEmpty()
+                && lines[0].equals("name,email,password")
+                && lines[1].startsWith("John Smith,jsmith1@university.edu,John")
+                && lines[3].startsWith("Joan Smith,jsmith2@university.edu,Joan")
+                && adaUser instanceof Student && adaUser.getName().equals("Ada Lovelace")
+                && adaUser.needsPasswordReset()) {
+            System.out.println("✓✓✓ PASS --> 3 students created with unique emails and working passwords.");
+        } else {
+            System.out.println("xxx FAIL --> Import incorrect: " + credentials);
+        }
+
+        // Test: Reporting invalid names
+        System.out.println("\nTEST: Reporting invalid names...");
+        StudentImporter.Result invalid = importer.importNames(
+                new StringReader("Madonna\nAlan Turing\nMary Ann Evans\nR2 D2\n"), new StringWriter());
+        if (invalid.getRowCount() == 4 && invalid.getStudentsCreated() == 1 && invalid.getErrors().size() == 3
+                && invalid.getErrors().get(0).startsWith("Line 1:")
+                && invalid.getErrors().get(2).startsWith("Line 4:")) {
+            System.out.println("✓✓✓ PASS --> 3 invalid names reported and the valid name imported.");
+        } else {
+            System.out.println("xxx FAIL --> Invalid names handled incorrectly: " + invalid.getErrors());
+        }
+
+        // Test: Rejecting a batch with an invalid name
+        System.out.println("\nTEST: Rejecting a batch with an invalid name...");
+        int usersBefore = accountManager.getUsers().size();
+        try {
+            accountManager.createStudents(List.of("Grace Hopper", "Cher"));
+            System.out.println("xxx FAIL --> Invalid batch accepted.");
+        } catch (IllegalArgumentException e) {
+            if (accountManager.getUsers().size() == usersBefore) {
+                System.out.println("✓✓✓ PASS --> Invalid batch rejected without creating any students.");
+            } else {
+                System.out.println("xxx FAIL --> Invalid batch partly created.");
+            }
+        }
+
+        // Test: Onboarding a freshman class
+        System.out.println("\nTEST: Onboarding 10000 students...");
+        StringBuilder names = new StringBuilder();
+        String[] lastNames = {"Nguyen", "Garcia", "Smith", "Patel", "Kim"};
+        for (int i = 0; i < 10000; i++) {
+            names.append("Student").append(lastNames[i % lastNames.length]).append(' ')
+                    .append(lastNames[(i / 5) % lastNames.length]).append('\n');
+        }
+        AccountManager freshmen = new AccountManager();
+        // A low work factor keeps this test about importing rather than password hashing
+        freshmen.setHashIterations(1_000);
+        StringWriter freshmenCredentials = new StringWriter();
+        long start = System.nanoTime();
+        StudentImporter.Result onboarded = new StudentImporter(freshmen)
+                .importNames(new StringReader(names.toString()), freshmenCredentials);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long distinctEmails = freshmenCredentials.toString().lines().skip(1)
+                .map(line -> line.split(",")[1]).distinct().count();
+        if (onboarded.getStudentsCreated() == 10000 && distinctEmails == 10000
+                && freshmen.getUsers().size() == 10000) {
+            System.out.printf("✓✓✓ PASS --> 10000 students created in %.2f seconds.%n", seconds);
+        } else {
+            System.out.println("xxx FAIL --> Created " + onboarded.getStudentsCreated() + " students with "
+                    + distinctEmails + " distinct emails.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("STUDENT IMPORTER CLASS TESTING COMPLETE.");
+    }
+}
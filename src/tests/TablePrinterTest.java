@@ -0,0 +1,170 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import model.TimeSlot;
+import system.EnrollmentSystem;
+import util.ColumnExtractor;
+import util.Console;
+import util.TablePrinter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the functionality of the TablePrinter class.
+ * This class includes tests for the layout of a table, extracting each cell once,
+ * printing a 20,000 section catalog, and showing and moving between pages of it.
+ *
+ * @version Oct 17, 2026
+ */
+public class TablePrinterTest {
+    public static void main(String[] args) {
+        System.out.println("########################################################");
+        System.out.println("TESTING TABLE PRINTER CLASS FUNCTIONALITY...");
+
+        String newline = System.lineSeparator();
+        List<String> headers = List.of("Id", "Name", "Credits");
+        AtomicInteger extractions = new AtomicInteger();
+        List<ColumnExtractor<Course>> extractors = List.of(
+                course -> {
+                    extractions.incrementAndGet();
+                    return course.getId();
+                },
+                course -> {
+                    extractions.incrementAndGet();
+                    return course.getName();
+                },
+                course -> {
+                    extractions.incrementAndGet();
+                    return String.valueOf(course.getCredits());
+                });
+        List<Course> courses = List.of(
+                new Course("MATH 1241", "Calculus 1", "Limits and derivatives.", 3),
+                new Course("ITSC 1212", "Intro to Computer Science", "Programming.", 4));
+        TablePrinter<Course> printer = new TablePrinter<>(headers, extractors, courses);
+
+        // Test: Laying out a table
+        System.out.println("\nTEST: Laying out a table...");
+        String expected = "+-----------+---------------------------+---------+" + newline
+                + "| Id        | Name                      | Credits |" + newline
+                + "+-----------+---------------------------+---------+" + newline
+                + "| MATH 1241 | Calculus 1                | 3       |" + newline
+                + "+-----------+---------------------------+---------+" + newline
+                + "| ITSC 1212 | Intro to Computer Science | 4       |" + newline
+                + "+-----------+---------------------------+---------+" + newline;
+        String printed = capture(printer::printTable);
+        if (printed.equals(expected)) {
+            System.out.println("✓✓✓ PASS --> Columns are padded to their widest cell.");
+        } else {
+            System.out.println("xxx FAIL --> Table laid out as:" + newline + printed);
+        }
+
+        // Test: Extracting each cell once
+        System.out.println("\nTEST: Extracting each cell once...");
+        extractions.set(0);
+        printer.render();
+        int renderExtractions = extractions.get();
+        String empty = new TablePrinter<>(headers, extractors, List.<Course>of()).render();
+        if (renderExtractions == 6 && empty.equals("+----+------+---------+" + newline
+                + "| Id | Name | Credits |" + newline + "+----+------+---------+" + newline)) {
+            System.out.println("✓✓✓ PASS --> 6 cells took 6 extractions, and an empty table prints its headers.");
+        } else {
+            System.out.println("xxx FAIL --> " + renderExtractions + " extractions for 6 cells, empty table:" + newline + empty);
+        }
+
+        // Test: Printing a large catalog
+        System.out.println("\nTEST: Printing a 20,000 section catalog...");
+        EnrollmentSystem enrollmentSystem = new EnrollmentSystem();
+        for (int c = 0; c < 4_000; c++) {
+            Course course = new Course("CRSE " + (1000 + c), "Course " + c, "Description " + c, 3);
+            enrollmentSystem.addCourse(course);
+            for (int s = 0; s < 5; s++) {
+                course.createSection(List.of(new TimeSlot(LocalTime.of(8 + s, 0), LocalTime.of(8 + s, 50),
+                        DayOfWeek.of(1 + s))), 30);
+            }
+        }
+        TablePrinter<CourseSection> sections = enrollmentSystem.getSectionTable();
+        capture(sections::printTable);
+        long start = System.nanoTime();
+        String catalog = capture(sections::printTable);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long lines = catalog.lines().count();
+        if (lines == 2 * 20_000 + 3 && millis < 1_000) {
+            System.out.println("✓✓✓ PASS --> " + lines + " lines printed in " + millis + " ms.");
+        } else {
+            System.out.println("xxx FAIL --> " + lines + " lines printed in " + millis + " ms.");
+        }
+
+        // Test: Showing a page of a large listing
+        System.out.println("\nTEST: Showing a page of the 20,000 section catalog...");
+        String secondPage = sections.renderPage(2, 25);
+        String lastPage = sections.renderPage(5_000, 25);
+        String window = sections.renderRows(19_990, 25);
+        String narrow = new TablePrinter<>(headers, extractors, courses).renderPage(1, 1);
+        if (sections.getPageCount(25) == 800 && secondPage.lines().count() == 2 * 25 + 4
+                && secondPage.contains("| CRSE 1005 |") && !secondPage.contains("| CRSE 1004 |")
+                && secondPage.endsWith("Rows 26-50 of 20,000 (page 2 of 800)" + newline)
+                && lastPage.endsWith("Rows 19,976-20,000 of 20,000 (page 800 of 800)" + newline)
+                && window.lines().count() == 2 * 10 + 3
+                && narrow.startsWith("+-----------+------------+---------+" + newline)) {
+            System.out.println("✓✓✓ PASS --> Pages hold the right rows and are measured over those rows only.");
+        } else {
+            System.out.println("xxx FAIL --> Page incorrect:" + newline + secondPage + lastPage + narrow);
+        }
+
+        // Test: Moving between pages
+        System.out.println("\nTEST: Moving between pages...");
+        Console.attach(new ByteArrayInputStream("n\nn\np\n800\nn\nx\n\n".getBytes(StandardCharsets.UTF_8)),
+                OutputStream.nullOutputStream());
+        String browsed;
+        try {
+            browsed = capture(sections::printPaged);
+        } finally {
+            Console.detach();
+        }
+        List<String> shown = new ArrayList<>();
+        for (String line : browsed.split(newline)) {
+            int page = line.indexOf("(page ");
+            if (page >= 0) {
+                shown.add(line.substring(page + 6, line.indexOf(' ', page + 6)));
+            }
+        }
+        String small = capture(printer::printPaged);
+        if (shown.equals(List.of("1", "2", "3", "2", "800", "800", "800")) && browsed.contains("Invalid option")
+                && small.equals(expected)) {
+            System.out.println("✓✓✓ PASS --> Next, previous, and page numbers move through the listing.");
+        } else {
+            System.out.println("xxx FAIL --> Pages shown: " + shown);
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("TABLE PRINTER CLASS TESTING COMPLETE.");
+    }
+
+    /**
+     * Runs an action and returns what it printed to the console.
+     *
+     * @param action the action
+     * @return the printed text
+     */
+    private static String capture(Runnable action) {
+        PrintStream console = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer, true));
+        try {
+            action.run();
+        } finally {
+            System.setOut(console);
+        }
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package tests;
+
+import model.Course;
+import model.CourseSection;
+import model.EnrollmentStatus;
+import model.Student;
+import model.TimeSlot;
+import model.Waitlist;
+import system.EnrollmentEngine;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Tests the functionality of the Waitlist class.
+ * This class includes tests for joining a waitlist, automatic promotion when a seat opens up,
+ * serving waiting students before new enrollments, and dropping and joining at the same time.
+ *
+ * @version Oct 17, 2026
+ */
+public class WaitlistTest {
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("########################################################");
+        System.out.println("TESTING WAITLIST CLASS FUNCTIONALITY...");
+
+        EnrollmentEngine engine = new EnrollmentEngine();
+        Course course = new Course("HIST 1110", "World History", "Survey of world history.", 3);
+        List<TimeSlot> timeSlots = List.of(new TimeSlot(LocalTime.of(11, 0), LocalTime.of(12, 15), DayOfWeek.FRIDAY));
+        CourseSection section = course.createSection(timeSlots, 1);
+
+        Student first = new Student("First Student", "first@example.com", "password", false);
+        Student held = new Student("Held Student", "held@example.com", "password", false);
+        Student next = new Student("Next Student", "next@example.com", "password", false);
+        engine.enroll(first, section);
+
+        // Test: Joining the waitlist of a full section
+        System.out.println("\nTEST: Joining the waitlist of a full section...");
+        EnrollmentStatus heldStatus = engine.joinWaitlist(held, section);
+        EnrollmentStatus nextStatus = engine.joinWaitlist(next, section);
+        if (heldStatus == EnrollmentStatus.WAITLISTED && nextStatus == EnrollmentStatus.WAITLISTED
+                && section.getWaitlist().size() == 2) {
+            System.out.println("✓✓✓ PASS --> Students added to the waitlist.");
+        } else {
+            System.out.println("xxx FAIL --> Students not added to the waitlist.");
+        }
+
+        // Test: Joining the waitlist twice
+        System.out.println("\nTEST: Joining the waitlist twice (should fail)...");
+        if (engine.joinWaitlist(next, section) == EnrollmentStatus.WAITLIST_FULL) {
+            System.out.println("✓✓✓ PASS --> Duplicate waitlist entry prevented.");
+        } else {
+            System.out.println("xxx FAIL --> Duplicate waitlist entry allowed.");
+        }
+
+        // Test: Dropping promotes the next eligible student
+        System.out.println("\nTEST: Dropping promotes the next eligible student...");
+        held.setAdvisingHold(true);
+        engine.drop(first, section);
+        Waitlist.awaitPromotions();
+        if (section.getEnrolledStudents().contains(next) && !section.getEnrolledStudents().contains(held)
+                && section.getWaitlist().size() == 0) {
+            System.out.println("✓✓✓ PASS --> Ineligible student skipped and next student promoted.");
+        } else {
+            System.out.println("xxx FAIL --> Waitlist promotion incorrect.");
+        }
+
+        // Test: Waiting students are served before new enrollments
+        System.out.println("\nTEST: Waiting students are served before new enrollments...");
+        CourseSection queued = course.createSection(timeSlots, 1);
+        Student reserver = new Student("Reserving Student", "reserver@example.com", "password", false);
+        Student waiting = new Student("Waiting Student", "waiting@example.com", "password", false);
+        Student latecomer = new Student("Late Student", "late@example.com", "password", false);
+        queued.reserveSeat();
+        EnrollmentStatus waitingStatus = engine.joinWaitlist(waiting, queued);
+        // The reservation is given up, as when an enrollment turns out to be ineligible
+        queued.releaseSeat();
+        EnrollmentStatus lateStatus = engine.enroll(latecomer, queued);
+        Waitlist.awaitPromotions();
+        if (waitingStatus == EnrollmentStatus.WAITLISTED && lateStatus == EnrollmentStatus.SECTION_FULL
+                && queued.getEnrolledStudents().equals(List.of(waiting)) && queued.getWaitlist().size() == 0
+                && !queued.getEnrolledStudents().contains(reserver)) {
+            System.out.println("✓✓✓ PASS --> A released seat went to the waiting student, not the latecomer.");
+        } else {
+            System.out.println("xxx FAIL --> Seat went to " + queued.getEnrolledStudents() + ", latecomer got " + lateStatus);
+        }
+
+        // Test: Dropping and joining at the same time
+        System.out.println("\nTEST: Dropping and joining the waitlist at the same time, 2,000 times...");
+        int stranded = 0;
+        for (int round = 0; round < 2_000; round++) {
+            CourseSection contested = course.createSection(timeSlots, 1);
+            Student leaving = new Student("Leaving Student", "leaving" + round + "@example.com", "password", false);
+            Student joining = new Student("Joining Student", "joining" + round + "@example.com", "password", false);
+            engine.enroll(leaving, contested);
+            CountDownLatch start = new CountDownLatch(1);
+            Thread dropper = new Thread(() -> {
+                awaitQuietly(start);
+                engine.drop(leaving, contested);
+            });
+            Thread joiner = new Thread(() -> {
+                awaitQuietly(start);
+                engine.joinWaitlist(joining, contested);
+            });
+            dropper.start();
+            joiner.start();
+            start.countDown();
+            dropper.join();
+            joiner.join();
+            Waitlist.awaitPromotions();
+            if (contested.getWaitlist().size() > 0 && !contested.isFull()
+                    || !contested.getEnrolledStudents().equals(List.of(joining))) {
+                stranded++;
+            }
+        }
+        if (stranded == 0) {
+            System.out.println("✓✓✓ PASS --> No student was left waitlisted next to an open seat.");
+        } else {
+            System.out.println("xxx FAIL --> " + stranded + " students left waitlisted next to an open seat.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("WAITLIST CLASS TESTING COMPLETE.");
+    }
+
+    /**
+     * Waits for a latch, so racing threads start together.
+     *
+     * @param latch the latch
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package tests;
+
+import model.TimeSlot;
+import model.WeeklyOccupancy;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests the functionality of the WeeklyOccupancy class.
+ * This class includes tests that the occupancy bitmap never misses a conflict found by TimeSlot.
+ *
+ * @version Oct 17, 2026
+ */
+public class WeeklyOccupancyTest {
+    public static void main(String[] args) {
+        System.out.println("########################################################");
+        System.out.println("TESTING WEEKLY OCCUPANCY CLASS FUNCTIONALITY...");
+
+        TimeSlot morning = new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 15), DayOfWeek.MONDAY);
+        TimeSlot touching = new TimeSlot(LocalTime.of(10, 15), LocalTime.of(11, 30), DayOfWeek.MONDAY);
+        TimeSlot afternoon = new TimeSlot(LocalTime.of(14, 0), LocalTime.of(15, 15), DayOfWeek.MONDAY);
+        TimeSlot tuesday = new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 15), DayOfWeek.TUESDAY);
+
+        // Test: Touching time slots share a bucket
+        System.out.println("\nTEST: Touching time slots (should intersect)...");
+        if (new WeeklyOccupancy(List.of(morning)).intersects(new WeeklyOccupancy(List.of(touching)))) {
+            System.out.println("✓✓✓ PASS --> Touching slots intersect.");
+        } else {
+            System.out.println("xxx FAIL --> Touching slots do not intersect.");
+        }
+
+        // Test: Separate times on the same day
+        System.out.println("\nTEST: Separate time slots on the same day (should not intersect)...");
+        if (!new WeeklyOccupancy(List.of(morning)).intersects(new WeeklyOccupancy(List.of(afternoon)))) {
+            System.out.println("✓✓✓ PASS --> Separate slots do not intersect.");
+        } else {
+            System.out.println("xxx FAIL --> Separate slots intersect.");
+        }
+
+        // Test: Same times on different days
+        System.out.println("\nTEST: Same time slots on different days (should not intersect)...");
+        if (!new WeeklyOccupancy(List.of(morning)).intersects(new WeeklyOccupancy(List.of(tuesday)))) {
+            System.out.println("✓✓✓ PASS --> Different days do not intersect.");
+        } else {
+            System.out.println("xxx FAIL --> Different days intersect.");
+        }
+
+        // Test: Random slots never miss a conflict
+        System.out.println("\nTEST: Random time slots never miss a conflict...");
+        Random random = new Random(42);
+        int missed = 0;
+        for (int i = 0; i < 100000; i++) {
+            TimeSlot first = randomSlot(random);
+            TimeSlot second = randomSlot(random);
+            boolean conflict = first.conflictsWith(second);
+            boolean intersects = new WeeklyOccupancy(List.of(first)).intersects(new WeeklyOccupancy(List.of(second)));
+            if (conflict && !intersects) {
+                missed++;
+            }
+        }
+        if (missed == 0) {
+            System.out.println("✓✓✓ PASS --> Every conflict was found by the bitmap.");
+        } else {
+            System.out.println("xxx FAIL --> Bitmap missed " + missed + " conflicts.");
+        }
+
+        System.out.println("\n########################################################");
+        System.out.println("WEEKLY OCCUPANCY CLASS TESTING COMPLETE.");
+    }
+
+    private static TimeSlot randomSlot(Random random) {
+        int start = 7 * 60 + random.nextInt(14 * 60);
+        int end = start + 1 + random.nextInt(180);
+        DayOfWeek day = DayOfWeek.of(1 + random.nextInt(5));
+        return new TimeSlot(LocalTime.of(start / 60, start % 60), LocalTime.of(end / 60, end % 60), day);
+    }
+}
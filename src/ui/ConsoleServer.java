@@ -0,0 +1,180 @@
+package ui;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import util.Console;
+import util.VirtualThreads;
+
+/**
+ * Serves the console menus over TCP so many terminals can share one enrollment process.
+ *
+ * Each connection gets its own {@link ConsoleSession}, with its own pages, logged-in user, input,
+ * and output, running on its own thread from {@link VirtualThreads}, which uses virtual threads on
+ * Java 21 and later. Connect with a plain terminal client, such as {@code nc localhost 4000} or
+ * {@code telnet localhost 4000}. A session ends when the user exits, the terminal disconnects, or
+ * nothing is typed for the idle timeout. Sessions only log in to registered accounts; the override
+ * logins of the local console are refused.
+ *
+ * How to use:
+ * <pre>
+ * ConsoleServer server = new ConsoleServer(
+ *     new InetSocketAddress(InetAddress.getLoopbackAddress(), 4000), enrollmentSystem, accountManager);
+ * server.start();
+ * ...
+ * server.stop();
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class ConsoleServer {
+    private static final long defaultIdleMinutes = 30;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final EnrollmentSystem enrollmentSystem;
+    private final AccountManager accountManager;
+    private int idleTimeoutMillis = (int) TimeUnit.MINUTES.toMillis(defaultIdleMinutes);
+    private Thread acceptor;
+
+    /**
+     * Constructs a ConsoleServer listening on the specified address. Call {@link #start()} to accept connections.
+     *
+     * @param address the address to listen on; port 0 picks a free port
+     * @param enrollmentSystem the enrollment system shared by all sessions
+     * @param accountManager the account manager shared by all sessions
+     * @throws IOException if the address cannot be bound
+     */
+    public ConsoleServer(InetSocketAddress address, EnrollmentSystem enrollmentSystem, AccountManager accountManager)
+            throws IOException {
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+        this.sessions = VirtualThreads.newPerTaskExecutor("console-session");
+        this.enrollmentSystem = enrollmentSystem;
+        this.accountManager = accountManager;
+    }
+
+    /**
+     * Sets how long a session may wait for input before it is disconnected. Applies to later connections.
+     *
+     * @param timeout the idle timeout
+     * @param unit the unit of the timeout
+     */
+    public void setIdleTimeout(long timeout, TimeUnit unit) {
+        this.idleTimeoutMillis = (int) Math.min(Integer.MAX_VALUE, unit.toMillis(timeout));
+    }
+
+    /**
+     * Starts accepting connections on a background thread.
+     * From now on {@code System.out} prints to the terminal of whichever session is printing.
+     */
+    public synchronized void start() {
+        if (acceptor != null) {
+            return;
+        }
+        Console.routeOutput();
+        acceptor = new Thread(this::acceptConnections, "console-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Stops accepting connections and disconnects every session.
+     */
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+        for (Socket connection : connections) {
+            closeQuietly(connection);
+        }
+        sessions.shutdown();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of terminals currently connected.
+     *
+     * @return the number of open sessions
+     */
+    public int getSessionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Accepts connections until the server socket is closed, starting a session for each.
+     */
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            Socket connection;
+            try {
+                connection = serverSocket.accept();
+            } catch (IOException e) {
+                // Closed by stop(), or a connection that failed before it was accepted
+                continue;
+            }
+            connections.add(connection);
+            try {
+                sessions.execute(() -> serve(connection));
+            } catch (RuntimeException e) {
+                // Stopping; the executor no longer takes sessions
+                connections.remove(connection);
+                closeQuietly(connection);
+            }
+        }
+    }
+
+    /**
+     * Runs a session for one connection on the current thread, then closes the connection.
+     *
+     * @param connection the connection
+     */
+    private void serve(Socket connection) {
+        try {
+            connection.setSoTimeout(idleTimeoutMillis);
+            connection.setTcpNoDelay(true);
+            Console.attach(connection.getInputStream(), connection.getOutputStream());
+            new ConsoleSession(enrollmentSystem, accountManager, true).run();
+        } catch (NoSuchElementException | IllegalStateException e) {
+            // The terminal disconnected or was idle too long while the session waited for input
+        } catch (IOException e) {
+            // The connection failed before the session started
+        } finally {
+            Console.detach();
+            connections.remove(connection);
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Closes a connection, ignoring errors.
+     *
+     * @param connection the connection
+     */
+    private static void closeQuietly(Socket connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            // Nothing more to do
+        }
+    }
+}
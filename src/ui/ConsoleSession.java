@@ -0,0 +1,80 @@
+package ui;
+
+import model.Admin;
+import model.Instructor;
+import model.Student;
+import model.User;
+import system.AccountManager;
+import system.EnrollmentSystem;
+import ui.admin.AdminPage;
+import ui.student.StudentPage;
+
+/**
+ * The ConsoleSession class runs the menus for one terminal: the login page, then the page for
+ * whoever logs in, until the user chooses to exit.
+ * The local console runs one session; the console server runs one per connection, each with its
+ * own pages and logged-in user.
+ *
+ * @version Oct 17, 2026
+ */
+public class ConsoleSession implements Runnable {
+    private final EnrollmentSystem enrollmentSystem;
+    private final AccountManager accountManager;
+    private final boolean remote;
+
+    /**
+     * Constructs a ConsoleSession with the specified EnrollmentSystem and AccountManager for the local terminal.
+     *
+     * @param enrollmentSystem the enrollment system shared by all sessions
+     * @param accountManager the account manager shared by all sessions
+     */
+    public ConsoleSession(EnrollmentSystem enrollmentSystem, AccountManager accountManager) {
+        this(enrollmentSystem, accountManager, false);
+    }
+
+    /**
+     * Constructs a ConsoleSession with the specified EnrollmentSystem and AccountManager.
+     *
+     * @param enrollmentSystem the enrollment system shared by all sessions
+     * @param accountManager the account manager shared by all sessions
+     * @param remote true for a terminal connecting over the network, which may only log in to registered accounts
+     */
+    public ConsoleSession(EnrollmentSystem enrollmentSystem, AccountManager accountManager, boolean remote) {
+        this.enrollmentSystem = enrollmentSystem;
+        this.accountManager = accountManager;
+        this.remote = remote;
+    }
+
+    /**
+     * Shows the login page and the page for each user who logs in, until the user chooses to exit.
+     * The pages read from the input attached to the current thread, so this must run on the thread
+     * serving the session.
+     */
+    @Override
+    public void run() {
+        LoginPage loginPage = new LoginPage(accountManager);
+        loginPage.setOverridesAllowed(!remote);
+        while (true) {
+            loginPage.display();
+            User currentUser = loginPage.getCurrentUser();
+
+            if (currentUser == null) {
+                System.out.println("Exiting program. Goodbye!");
+                break;
+            }
+
+            if (currentUser instanceof Student student) {
+                StudentPage studentPage = new StudentPage(student, enrollmentSystem);
+                studentPage.display();
+            } else if (currentUser instanceof Instructor instructor) {
+                InstructorPage instructorPage = new InstructorPage(instructor, enrollmentSystem);
+                instructorPage.display();
+            } else if (currentUser instanceof Admin admin) {
+                AdminPage adminPage = new AdminPage(admin, enrollmentSystem, accountManager);
+                adminPage.display();
+            }
+
+            loginPage.clearCurrentUser();
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class LoginPage extends Page {
     private AccountManager accountManager;
     private User currentUser;
     private boolean shouldExit = false;
+    private boolean overridesAllowed = true;
 
     /**
      * Constructs a LoginPage with the specified AccountManager.
@@ -83,6 +84,10 @@ public class LoginPage extends Page {
         Util.createSeperator(50);
 
         User loggedInUser = accountManager.authenticate(email, password);
+        // An override login is not a registered account, so it is refused where it is not allowed
+        if (loggedInUser != null && !overridesAllowed && accountManager.getUserByEmail(email) != loggedInUser) {
+            loggedInUser = null;
+        }
         if (loggedInUser == null) {
             System.out.println("Invalid Credentials Try Again\n");
             return false;
@@ -91,8 +96,7 @@ public class LoginPage extends Page {
                 System.out.println("You must change your password before continuing.");
                 System.out.print("Enter new password: ");
                 String newPassword = input.nextLine();
-                loggedInUser.setPassword(newPassword);
-                loggedInUser.setNeedsPasswordReset(false);
+                accountManager.changePassword(loggedInUser, newPassword);
                 System.out.println("Password updated successfully!\n");
             }
             System.out.println("Login successful. Welcome " + loggedInUser.getName() + ".\n");
@@ -110,6 +114,16 @@ public class LoginPage extends Page {
         return currentUser;
     }
 
+    /**
+     * Sets whether the override logins, which accept any password, can be used on this page.
+     * They are allowed by default and refused for terminals connecting over the network.
+     *
+     * @param overridesAllowed true to allow the override logins, false to accept registered accounts only
+     */
+    public void setOverridesAllowed(boolean overridesAllowed) {
+        this.overridesAllowed = overridesAllowed;
+    }
+
     /**
      * Clears the currently logged-in user.
      */
@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.Scanner;
 
 import model.Admin;
+import model.Permissions;
 import model.User;
+import util.Console;
 import util.Util;
 
 /**
@@ -18,9 +20,9 @@ import util.Util;
  */
 public abstract class Page {
     /**
-     * A shared Scanner for reading user input.
+     * The Scanner for reading user input in the session that created this page.
      */
-    protected static final Scanner input = new Scanner(System.in);
+    protected final Scanner input = Console.input();
 
     /**
      * The user associated with this page.
@@ -124,7 +126,7 @@ public abstract class Page {
      * @param permission the permission to check
      * @return {@code true} if the user has the permission, {@code false} otherwise
      */
-    public boolean checkPermission(String permission) {
+    public boolean checkPermission(Permissions permission) {
         if (user instanceof Admin admin) {
             return admin.hasPermission(permission);
         }
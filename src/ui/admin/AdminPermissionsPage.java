@@ -5,12 +5,16 @@ import java.util.List;
 
 import model.Admin;
 import model.Permissions;
+import model.Role;
 import system.AccountManager;
 import ui.Page;
+import util.ColumnExtractor;
+import util.TablePrinter;
 
 /**
  * The AdminPermissionsPage class provides a user interface for managing the permissions
- * of a specific admin. It allows an admin to grant or revoke permissions for another admin
+ * of a specific admin. It allows an admin to grant or revoke permissions for another admin,
+ * give them roles, change the permissions of a role for every admin holding it,
  * and view all admins in the system.
  *
  * @version Apr 25, 2025
@@ -54,7 +58,8 @@ public class AdminPermissionsPage extends Page {
     public List<String> getMenuOptions() {
         List<String> menuOptions = new ArrayList<>();
         if (checkPermission(Permissions.ADMIN_MANAGEMENT)) {
-            menuOptions.addAll(List.of("Grant All Permissions", "View all admins", "Grant Specific Permissions", "Revoke Specific Permission"));
+            menuOptions.addAll(List.of("Grant All Permissions", "View all admins", "Grant Specific Permissions", "Revoke Specific Permission",
+                    "Assign Role", "Remove Role", "View Roles", "Grant Permissions to Role", "Revoke Permissions from Role"));
         }
         menuOptions.add("Return to Admin Menu");
         return menuOptions;
@@ -87,7 +92,7 @@ public class AdminPermissionsPage extends Page {
     public void handleAction(int choice) {
         switch (choice) {
             case 1:
-                targetAdmin.grantAllPermissions();
+                accountManager.grantAllPermissions(targetAdmin);
                 System.out.println("All permissions granted to " + targetAdmin.getName() + ".");
                 break;
             case 2:
@@ -96,21 +101,115 @@ public class AdminPermissionsPage extends Page {
             case 3:
                 System.out.println("Possible Permissions: " + Permissions.toPermissionsString());
                 System.out.print("Enter permission to grant (e.g. COURSE_MANAGEMENT): ");
-                String permissionToGrant = input.nextLine().toUpperCase().strip().replace(" ", "_");
-                targetAdmin.addPermission(permissionToGrant);
-                System.out.println("Permission granted.");
+                String permissionToGrant = input.nextLine();
+                if (accountManager.grantPermission(targetAdmin, permissionToGrant)) {
+                    System.out.println("Permission granted.");
+                } else {
+                    System.out.println("No such permission: " + permissionToGrant.strip());
+                }
                 break;
             case 4: 
-                System.out.println("Current Permissions: " + targetAdmin.getPermissions());
+                System.out.println("Current Permissions: " + targetAdmin.getPermissionsFormatted());
                 System.out.print("Enter permission to revoke (e.g. COURSE_MANAGEMENT): ");
-                String permissionToRevoke = input.nextLine().toUpperCase().strip().replace(" ", "_");
-                targetAdmin.revokePermission(permissionToRevoke);
-                System.out.println("Permission revoked.");
+                String permissionToRevoke = input.nextLine();
+                if (accountManager.revokePermission(targetAdmin, permissionToRevoke)) {
+                    System.out.println("Permission revoked.");
+                } else {
+                    System.out.println("No such permission: " + permissionToRevoke.strip());
+                }
                 break;
             case 5:
+                System.out.println("Possible Roles: " + roleNames());
+                System.out.print("Enter role to assign (e.g. registrar): ");
+                String roleToAssign = input.nextLine();
+                if (accountManager.assignRole(List.of(targetAdmin), roleToAssign)) {
+                    System.out.println("Role assigned.");
+                } else {
+                    System.out.println("No such role: " + roleToAssign.strip());
+                }
+                break;
+            case 6:
+                System.out.println("Current Roles: " + targetAdmin.getRolesFormatted());
+                System.out.print("Enter role to remove: ");
+                String roleToRemove = input.nextLine();
+                if (accountManager.unassignRole(List.of(targetAdmin), roleToRemove)) {
+                    System.out.println("Role removed.");
+                } else {
+                    System.out.println("No such role: " + roleToRemove.strip());
+                }
+                break;
+            case 7:
+                viewRoles();
+                break;
+            case 8:
+            case 9:
+                editRole(choice == 8);
+                break;
+            case 10:
                 return;
             default:
                 System.out.println("Invalid option");
         }
     }
+
+    /**
+     * Changes the permissions of a role, and so of every admin holding it.
+     * Granting permissions to a role that does not exist creates it.
+     *
+     * @param grant true to grant permissions, false to revoke them
+     */
+    private void editRole(boolean grant) {
+        System.out.println("Possible Roles: " + roleNames());
+        System.out.print(grant ? "Enter role to grant to (a new name creates the role): " : "Enter role to revoke from: ");
+        String roleName = input.nextLine();
+        Role role = accountManager.getRoleManager().getRole(roleName);
+        if (role == null && (!grant || Role.normalizeName(roleName) == null)) {
+            System.out.println(grant ? "Invalid role name: " + roleName.strip() : "No such role: " + roleName.strip());
+            return;
+        }
+        System.out.println("Possible Permissions: " + Permissions.toPermissionsString());
+        System.out.print("Enter permissions separated by commas: ");
+        String names = input.nextLine();
+        List<Permissions> permissions = Permissions.parseList(names);
+        if (permissions == null) {
+            System.out.println("Unknown permission in: " + names.strip());
+            return;
+        }
+        if (role == null) {
+            accountManager.defineRole(roleName, permissions);
+        } else if (grant) {
+            accountManager.grantToRole(roleName, permissions);
+        } else {
+            accountManager.revokeFromRole(roleName, permissions);
+        }
+        Role updated = accountManager.getRoleManager().getRole(roleName);
+        System.out.println("Role " + updated.getName() + " now gives: " + updated.getPermissionsFormatted());
+    }
+
+    /**
+     * Displays every role with its permissions and the number of admins holding it.
+     */
+    private void viewRoles() {
+        List<Admin> admins = accountManager.getAdmins();
+        List<String> headers = List.of("Role", "Permissions", "Admins");
+        List<ColumnExtractor<Role>> extractors = List.of(
+                Role::getName,
+                Role::getPermissionsFormatted,
+                role -> String.valueOf(admins.stream()
+                        .filter(admin -> admin.getRoleSet().getRoleNames().contains(role.getName())).count()));
+        new TablePrinter<>(headers, extractors, accountManager.getRoleManager().getRoles()).printTable();
+    }
+
+    /**
+     * Returns the names of every role.
+     *
+     * @return the role names, comma-separated
+     */
+    private String roleNames() {
+        List<String> names = new ArrayList<>();
+        for (Role role : accountManager.getRoleManager().getRoles()) {
+            names.add(role.getName());
+        }
+        return String.join(", ", names);
+    }
 }
@@ -98,7 +98,7 @@ public class AdvisingHoldPage extends Page {
                     System.out.print("Press ENTER to toggle advising hold, or type 'CANCEL' to abort: ");
                     String toggleInput = input.nextLine().strip();
                     if (!toggleInput.equalsIgnoreCase("CANCEL")) {
-                        student.setAdvisingHold(!currentStatus);
+                        accountManager.setAdvisingHold(student, !currentStatus);
                         System.out.println("Advising hold is now: " + (student.hasAdvisingHold() ? "ON" : "OFF"));
                     } else {
                         System.out.println("No changes made.");
@@ -1,16 +1,21 @@
 package ui.admin;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import model.Admin;
 import model.Permissions;
+import system.CatalogImporter;
 import system.EnrollmentSystem;
 import ui.Page;
+import util.Util;
 
 /**
  * The CoursesPage class provides a user interface for managing courses.
- * It allows an admin to create new courses, delete existing courses, and view all courses.
+ * It allows an admin to create new courses, import courses and sections from a CSV file,
+ * delete existing courses, and view all courses.
  *
  * @version Apr 25, 2025
  */
@@ -39,7 +44,7 @@ public class CoursesPage extends Page {
     public List<String> getMenuOptions() {
         List<String> menuOptions = new ArrayList<>();
         if (checkPermission(Permissions.COURSE_MANAGEMENT)) {
-            menuOptions.addAll(List.of("Create new course", "Delete existing course"));
+            menuOptions.addAll(List.of("Create new course", "Import courses from CSV", "Delete existing course"));
         }
         menuOptions.add("View all courses");
         menuOptions.add("Return to Admin Menu");
@@ -75,6 +80,9 @@ public class CoursesPage extends Page {
             case "Create new course":
                 enrollmentSystem.createCourse();
                 break;
+            case "Import courses from CSV":
+                importCourses();
+                break;
             case "View all courses":
                 enrollmentSystem.viewAllCourses();
                 break;
@@ -89,4 +97,24 @@ public class CoursesPage extends Page {
                 break;
         }
     }
+
+    /**
+     * Prompts for a CSV file and imports its courses and sections, printing a summary and any row errors.
+     */
+    private void importCourses() {
+        System.out.print("CSV file (id,name,credits,description,day,start,end,capacity): ");
+        String file = input.nextLine().strip();
+        CatalogImporter.Result result;
+        long start = System.nanoTime();
+        try {
+            result = new CatalogImporter(enrollmentSystem).importFile(Path.of(file));
+        } catch (IOException e) {
+            System.out.println("Could not read " + file + ": " + e.getMessage());
+            return;
+        }
+        System.out.printf("Imported %d courses and %d sections from %d rows in %.1f seconds.%n",
+                result.getCoursesAdded(), result.getSectionsAdded(), result.getRowCount(),
+                (System.nanoTime() - start) / 1e9);
+        Util.printImportErrors(result.getErrors(), "rows");
+    }
 }
@@ -5,6 +5,7 @@ import java.util.List;
 
 import model.Admin;
 import model.CourseSection;
+import model.EnrollmentStatus;
 import model.Instructor;
 import model.Student;
 import model.User;
@@ -112,12 +113,12 @@ public class EnrollmentPage extends Page {
         String value = promptUserId();
         User user = accountManager.getUserByIdOrEmail(value);
         if (user instanceof Student student) {
-            boolean success = student.enroll(section);
-            if (success) {
+            EnrollmentStatus status = enrollmentSystem.getEnrollmentEngine().enroll(student, section);
+            if (status.isSuccess()) {
                 System.out.println("Enrolled " + student.getName() + " in " + section.getCourse().getId()
                         + " Section " + section.getSectionId());
             } else {
-                System.out.println("Enrollment failed.");
+                System.out.println("Enrollment failed: " + status.getMessage() + ".");
             }
         } else {
             System.out.println("No student found with that ID or email.");
@@ -137,8 +138,8 @@ public class EnrollmentPage extends Page {
         String id = promptUserId();
         User user = accountManager.getUserByIdOrEmail(id);
         if (user instanceof Student student) {
-            boolean success = student.drop(section);
-            if (success) {
+            EnrollmentStatus status = enrollmentSystem.getEnrollmentEngine().drop(student, section);
+            if (status.isSuccess()) {
                 System.out.println("Dropped " + student.getName() + " from " + section.getCourse().getId() + " Section "
                         + section.getSectionId());
             } else {
@@ -159,7 +160,9 @@ public class EnrollmentPage extends Page {
         User user = accountManager.getUserByIdOrEmail(value);
         
         if (user instanceof Instructor instructor) {
-            section.assignInstructor(instructor);
+            if (!enrollmentSystem.assignInstructor(section, instructor)) {
+                return;
+            }
             System.out.println("Assigned " + instructor.getName() + " to " + section.getCourse().getId() + " Section "
                     + section.getSectionId());
         } else {
@@ -176,7 +179,9 @@ public class EnrollmentPage extends Page {
         String value = promptUserId();
         User user = accountManager.getUserByIdOrEmail(value);
         if (user instanceof Instructor instructor) {
-            instructor.removeCourseAssignment(section);
+            if (!enrollmentSystem.unassignInstructor(section, instructor)) {
+                return;
+            }
             System.out.println("Unassigned " + instructor.getName() + " from " + section.getCourse().getId() + " Section " + section.getSectionId());
         } else {
             System.out.println("No instructor found with that ID or email.");
@@ -1,16 +1,21 @@
 package ui.admin;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import model.Admin;
 import model.Permissions;
 import system.AccountManager;
+import system.StudentImporter;
 import ui.Page;
+import util.Util;
 
 /**
  * The UsersPage class provides a user interface for managing user accounts.
- * It allows an admin to create new users, view all users, and delete existing users.
+ * It allows an admin to create new users, import students from a file of names, view all users,
+ * and delete existing users.
  *
  * @version Apr 25, 2025
  */
@@ -40,7 +45,7 @@ public class UsersPage extends Page {
         List<String> menuOptions = new ArrayList<>();
         if (checkPermission(Permissions.USER_MANAGEMENT)) {
             menuOptions.addAll(
-                    List.of("Create new user", "Delete existing user"));
+                    List.of("Create new user", "Import students from file", "Delete existing user"));
         }
         menuOptions.add("View all users");
         menuOptions.add("Return to Admin Menu");
@@ -68,6 +73,9 @@ public class UsersPage extends Page {
             case "Create new user":
                 createUserView();
                 break;
+            case "Import students from file":
+                importStudents();
+                break;
             case "View all users":
                 accountManager.displayUsers();
                 break;
@@ -83,6 +91,28 @@ public class UsersPage extends Page {
         }
     }
 
+    /**
+     * Prompts for a file of names and a credentials file, creates a student for each name,
+     * and prints a summary and any invalid names.
+     */
+    private void importStudents() {
+        System.out.print("File of student names (First Last, one per line): ");
+        String names = input.nextLine().strip();
+        System.out.print("Credentials file to write: ");
+        String credentials = input.nextLine().strip();
+        StudentImporter.Result result;
+        long start = System.nanoTime();
+        try {
+            result = new StudentImporter(accountManager).importFile(Path.of(names), Path.of(credentials));
+        } catch (IOException e) {
+            System.out.println("Could not import students: " + e.getMessage());
+            return;
+        }
+        System.out.printf("Created %d students from %d names in %.1f seconds. Credentials written to %s.%n",
+                result.getStudentsCreated(), result.getRowCount(), (System.nanoTime() - start) / 1e9, credentials);
+        Util.printImportErrors(result.getErrors(), "names");
+    }
+
     /**
      * Displays the view for creating a new user.
      */
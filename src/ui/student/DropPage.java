@@ -3,6 +3,7 @@ package ui.student;
 import java.util.List;
 
 import model.CourseSection;
+import model.EnrollmentStatus;
 import model.Student;
 import system.EnrollmentSystem;
 import ui.Page;
@@ -78,12 +79,12 @@ public class DropPage extends Page {
                 System.out.println("No course section found with CRN: " + crn);
                 continue;
             } else {
-                boolean success = student.drop(section);
-                if (success) {
+                EnrollmentStatus status = enrollmentSystem.getEnrollmentEngine().drop(student, section);
+                if (status.isSuccess()) {
                     System.out.println("Successfully dropped " + section.getCourse().getId() + " Section "
                             + section.getSectionId());
                 } else {
-                    System.out.println("Drop failed.");
+                    System.out.println("Drop failed: " + status.getMessage() + ".");
                     break;
                 }
             }
@@ -1,11 +1,14 @@
 package ui.student;
 
+import java.util.InputMismatchException;
 import java.util.List;
 
 import model.CourseSection;
+import model.EnrollmentStatus;
 import model.Student;
 import system.EnrollmentSystem;
 import ui.Page;
+import util.Util;
 
 /**
  * The EnrollmentPage class provides a user interface for managing enrollment actions.
@@ -78,16 +81,47 @@ public class EnrollmentPage extends Page {
         if (section == null) {
             System.out.println("No course section found with CRN: " + crn);
         } else {
-            boolean success = student.enroll(section);
-            if (success) {
+            EnrollmentStatus status = enrollmentSystem.getEnrollmentEngine().enroll(student, section);
+            if (status.isSuccess()) {
                 System.out.println("Successfully enrolled in " + section.getCourse().getId() + " Section "
                         + section.getSectionId());
+            } else if (status == EnrollmentStatus.SECTION_FULL) {
+                offerWaitlist(section);
             } else {
-                System.out.println("Enrollment failed.");
+                System.out.println("Enrollment failed: " + status.getMessage() + ".");
             }
         }
     }
     
+    /**
+     * Offers to add the student to the waitlist of a full section.
+     *
+     * @param section the full course section
+     */
+    private void offerWaitlist(CourseSection section) {
+        System.out.println("This section is at capacity (" + section.getWaitlist().size() + "/"
+                + section.getWaitlist().getCapacity() + " on the waitlist).");
+        System.out.print("Join the waitlist? You will be enrolled automatically when a seat opens (y/n): ");
+        try {
+            if (!Util.yesNoToBoolean(input.nextLine().strip())) {
+                return;
+            }
+        } catch (InputMismatchException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+        EnrollmentStatus status = enrollmentSystem.getEnrollmentEngine().joinWaitlist(student, section);
+        if (status == EnrollmentStatus.WAITLISTED) {
+            System.out.println("Added to the waitlist for " + section.getCourse().getId() + " Section "
+                    + section.getSectionId());
+        } else if (status.isSuccess()) {
+            System.out.println("A seat opened up. Successfully enrolled in " + section.getCourse().getId()
+                    + " Section " + section.getSectionId());
+        } else {
+            System.out.println("Could not join the waitlist: " + status.getMessage() + ".");
+        }
+    }
+
     /**
     * Displays message if user if logging out
     */
@@ -59,6 +59,9 @@ public class StudentPage extends Page {
                 dropPage.display();
                 break;
             case 5:
+                enrollmentSystem.searchSections();
+                break;
+            case 6:
                 break;
         }
     }
@@ -71,7 +74,7 @@ public class StudentPage extends Page {
     @Override
     public List<String> getMenuOptions() {
         return List.of("View available courses", "View schedule", "Enroll in a course", "Drop a course",
-                "Logout");
+                "Search sections", "Logout");
     }
 
     /**
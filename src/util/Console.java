@@ -0,0 +1,317 @@
+package util;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Scanner;
+
+/**
+ * Gives each console session its own input and output.
+ *
+ * The pages and managers read from {@link #input()} and print to {@code System.out}. A thread
+ * that has not called {@link #attach(InputStream, OutputStream)} uses the real standard input and
+ * output, so the local console works as before. A thread serving a remote terminal attaches that
+ * terminal's streams, and once {@link #routeOutput()} has been called, {@code System.out} sends
+ * each thread's printing to its own terminal.
+ *
+ * How to use, on the thread serving a connection:
+ * <pre>
+ * Console.routeOutput();
+ * Console.attach(socket.getInputStream(), socket.getOutputStream());
+ * try {
+ *     new LoginPage(accountManager).display();
+ * } finally {
+ *     Console.detach();
+ * }
+ * </pre>
+ *
+ * @version Oct 17, 2026
+ */
+public class Console {
+    /**
+     * The standard output when this class was loaded, before {@link #routeOutput()} replaced it.
+     */
+    private static final PrintStream standardOutput = System.out;
+
+    /**
+     * The one Scanner over standard input. Scanners buffer what they read, so sharing one keeps
+     * input typed ahead from being taken by a different Scanner.
+     */
+    private static final Scanner standardInput = new Scanner(System.in);
+
+    private static final ThreadLocal<Scanner> sessionInput = new ThreadLocal<>();
+    private static final ThreadLocal<PrintStream> sessionOutput = new ThreadLocal<>();
+    private static boolean routed;
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private Console() {
+    }
+
+    /**
+     * Returns the Scanner for the current thread's session, or for standard input if none is attached.
+     *
+     * @return the Scanner to read user input from
+     */
+    public static Scanner input() {
+        Scanner input = sessionInput.get();
+        return input != null ? input : standardInput;
+    }
+
+    /**
+     * Returns the output for the current thread's session, or standard output if none is attached.
+     *
+     * @return the stream to print to
+     */
+    public static PrintStream output() {
+        PrintStream output = sessionOutput.get();
+        return output != null ? output : standardOutput;
+    }
+
+    /**
+     * Replaces {@code System.out} with a stream that sends each thread's printing to its own session.
+     * Calling this again has no effect.
+     */
+    public static synchronized void routeOutput() {
+        if (routed) {
+            return;
+        }
+        System.setOut(new DispatchingPrintStream());
+        routed = true;
+    }
+
+    /**
+     * Sends the current thread's printing to a stream, leaving its input and every other thread unchanged.
+     * Routes {@code System.out} through {@link #routeOutput()} first, so the change applies to it as well.
+     *
+     * @param out the stream to print to, or {@code null} for standard output
+     * @return the thread's previous output, or {@code null} if it printed to standard output;
+     *         pass it back to this method to restore it
+     */
+    public static PrintStream setOutput(PrintStream out) {
+        routeOutput();
+        PrintStream previous = sessionOutput.get();
+        if (out == null) {
+            sessionOutput.remove();
+        } else {
+            sessionOutput.set(out);
+        }
+        return previous;
+    }
+
+    /**
+     * Attaches a session's streams to the current thread.
+     * Output is buffered and flushed whenever the session waits for input, so a whole menu or table
+     * is sent at once and prompts printed without a newline are seen.
+     *
+     * @param in the session's input
+     * @param out the session's output
+     */
+    public static void attach(InputStream in, OutputStream out) {
+        PrintStream output = new PrintStream(new BufferedOutputStream(out, 1 << 13), false, StandardCharsets.UTF_8);
+        InputStream flushingInput = new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                output.flush();
+                return super.read();
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                output.flush();
+                return super.read(bytes, offset, length);
+            }
+        };
+        sessionOutput.set(output);
+        sessionInput.set(new Scanner(flushingInput, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Detaches the current thread's session, flushing its output. The session's streams are not closed.
+     */
+    public static void detach() {
+        PrintStream output = sessionOutput.get();
+        if (output != null) {
+            output.flush();
+        }
+        sessionOutput.remove();
+        sessionInput.remove();
+    }
+
+    /**
+     * The {@code System.out} installed by {@link #routeOutput()}. Every method forwards to the
+     * current thread's session, so sessions only ever wait on their own stream's lock and a slow
+     * terminal cannot hold up the others.
+     */
+    private static class DispatchingPrintStream extends PrintStream {
+        /**
+         * Constructs a DispatchingPrintStream.
+         */
+        private DispatchingPrintStream() {
+            super(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void flush() {
+            output().flush();
+        }
+
+        @Override
+        public boolean checkError() {
+            return output().checkError();
+        }
+
+        @Override
+        public void write(int b) {
+            output().write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            output().write(bytes, offset, length);
+        }
+
+        @Override
+        public void print(boolean b) {
+            output().print(b);
+        }
+
+        @Override
+        public void print(char c) {
+            output().print(c);
+        }
+
+        @Override
+        public void print(int i) {
+            output().print(i);
+        }
+
+        @Override
+        public void print(long l) {
+            output().print(l);
+        }
+
+        @Override
+        public void print(float f) {
+            output().print(f);
+        }
+
+        @Override
+        public void print(double d) {
+            output().print(d);
+        }
+
+        @Override
+        public void print(char[] chars) {
+            output().print(chars);
+        }
+
+        @Override
+        public void print(String s) {
+            output().print(s);
+        }
+
+        @Override
+        public void print(Object obj) {
+            output().print(obj);
+        }
+
+        @Override
+        public void println() {
+            output().println();
+        }
+
+        @Override
+        public void println(boolean b) {
+            output().println(b);
+        }
+
+        @Override
+        public void println(char c) {
+            output().println(c);
+        }
+
+        @Override
+        public void println(int i) {
+            output().println(i);
+        }
+
+        @Override
+        public void println(long l) {
+            output().println(l);
+        }
+
+        @Override
+        public void println(float f) {
+            output().println(f);
+        }
+
+        @Override
+        public void println(double d) {
+            output().println(d);
+        }
+
+        @Override
+        public void println(char[] chars) {
+            output().println(chars);
+        }
+
+        @Override
+        public void println(String s) {
+            output().println(s);
+        }
+
+        @Override
+        public void println(Object obj) {
+            output().println(obj);
+        }
+
+        @Override
+        public PrintStream printf(String format, Object... args) {
+            output().printf(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream printf(Locale locale, String format, Object... args) {
+            output().printf(locale, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(String format, Object... args) {
+            output().format(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(Locale locale, String format, Object... args) {
+            output().format(locale, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq) {
+            output().append(csq);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq, int start, int end) {
+            output().append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(char c) {
+            output().append(c);
+            return this;
+        }
+    }
+}
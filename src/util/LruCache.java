@@ -0,0 +1,92 @@
+package util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map that holds at most a fixed number of entries, dropping the least recently used one when full.
+ * All methods are synchronized, so one cache can be shared by many threads.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @version Oct 17, 2026
+ */
+public class LruCache<K, V> {
+    private final int capacity;
+    private final LinkedHashMap<K, V> entries;
+
+    /**
+     * Constructs an empty LruCache.
+     *
+     * @param capacity the most entries to hold; 0 holds none
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public LruCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value for a key and marks it as recently used.
+     *
+     * @param key the key
+     * @return the value, or null if the key is not cached
+     */
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Caches a value for a key, dropping the least recently used entry if the cache is full.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public synchronized void put(K key, V value) {
+        if (capacity > 0) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * Removes the value for a key.
+     *
+     * @param key the key
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries held.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the most entries the cache holds.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
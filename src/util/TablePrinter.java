@@ -1,11 +1,16 @@
 package util;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
 
 /**
  * The TablePrinter class is a utility for printing tabular data to the console.
  * It dynamically generates a table based on the provided headers, data, and column extractors.
  * This class is generic and can be used to print tables for any type of object.
+ * Each cell is extracted once and the whole table is written with one print, so tables of tens of
+ * thousands of rows print in milliseconds.
  *
  * How to use: 
  * <pre>
@@ -20,9 +25,18 @@ import java.util.List;
  * printer.printTable();
  * </pre>
  *
+ * Long listings can be shown a page at a time with {@link #printPaged()}, which lets the user move
+ * to the next, previous, or any page. Column widths are measured over the rows shown only, so a page
+ * of a 50,000 row listing takes as long to show as a table of one page.
+ *
  * @version Apr 19, 2025
  */
 public class TablePrinter<T> {
+    /**
+     * The number of rows shown on each page by {@link #printPaged()}.
+     */
+    public static final int defaultPageSize = 25;
+
     /**
      * The headers for the table columns.
      */
@@ -57,71 +71,201 @@ public class TablePrinter<T> {
 
     /**
      * Prints the table to the console, including headers, rows, and separators.
+     * The whole table is built first and written with a single print, see {@link #render()}.
      */
     public void printTable() {
-        int[] columnWidths = new int[headers.size()];
+        System.out.print(render());
+    }
 
-        // Calculate the maximum width for each column
-        for (int i = 0; i < headers.size(); i++) {
-            columnWidths[i] = headers.get(i).length();
-        }
+    /**
+     * Prints a listing a page at a time, {@link #defaultPageSize} rows per page.
+     * See {@link #printPaged(int)}.
+     */
+    public void printPaged() {
+        printPaged(defaultPageSize);
+    }
 
-        for (T item : data) {
-            for (int i = 0; i < extractors.size(); i++) {
-                String cell = extractors.get(i).extract(item);
-                columnWidths[i] = Math.max(columnWidths[i], cell.length());
+    /**
+     * Prints a listing a page at a time. After each page the user may enter n for the next page,
+     * p for the previous one, or a page number, and presses Enter alone to stop.
+     * A listing that fits on one page is printed as a whole table without asking.
+     *
+     * @param pageSize the number of rows on each page
+     * @throws IllegalArgumentException if the page size is less than 1
+     */
+    public void printPaged(int pageSize) {
+        int pageCount = getPageCount(pageSize);
+        if (pageCount == 1) {
+            printTable();
+            return;
+        }
+        Scanner input = Console.input();
+        int page = 1;
+        while (true) {
+            printPage(page, pageSize);
+            System.out.print("Enter n for next page, p for previous, a page number, or press Enter to stop: ");
+            String answer;
+            try {
+                answer = input.nextLine().strip().toLowerCase(Locale.ROOT);
+            } catch (NoSuchElementException e) {
+                return;
+            }
+            if (answer.isEmpty()) {
+                return;
+            } else if (answer.equals("n")) {
+                page = Math.min(page + 1, pageCount);
+            } else if (answer.equals("p")) {
+                page = Math.max(page - 1, 1);
+            } else {
+                try {
+                    page = Math.max(1, Math.min(Integer.parseInt(answer), pageCount));
+                } catch (NumberFormatException e) {
+                    System.out.println("Invalid option");
+                }
             }
         }
+    }
 
-        // Print the header row
-        printSeparator(columnWidths);
-        printRow(headers, columnWidths);
-        printSeparator(columnWidths);
+    /**
+     * Prints one page of the table followed by which rows and page it holds.
+     *
+     * @param page the page number, starting at 1; pages past the last show the last page
+     * @param pageSize the number of rows on each page
+     * @throws IllegalArgumentException if the page size is less than 1
+     */
+    public void printPage(int page, int pageSize) {
+        System.out.print(renderPage(page, pageSize));
+    }
 
-        // Print the data rows
-        for (T item : data) {
-            printDataRow(item, columnWidths);
-            printSeparator(columnWidths);
+    /**
+     * Builds one page of the table followed by which rows and page it holds, such as
+     * "Rows 26-50 of 50,000 (page 2 of 2,000)".
+     *
+     * @param page the page number, starting at 1; pages past the last show the last page
+     * @param pageSize the number of rows on each page
+     * @return the page, each line ending with the line separator
+     * @throws IllegalArgumentException if the page size is less than 1
+     */
+    public String renderPage(int page, int pageSize) {
+        int pageCount = getPageCount(pageSize);
+        int shown = Math.max(1, Math.min(page, pageCount));
+        int from = (shown - 1) * pageSize;
+        int to = Math.min(from + pageSize, data.size());
+        String summary = data.isEmpty() ? "No rows"
+                : String.format("Rows %,d-%,d of %,d (page %,d of %,d)", from + 1, to, data.size(), shown, pageCount);
+        return renderRows(from, pageSize) + summary + System.lineSeparator();
+    }
+
+    /**
+     * Builds the table for a window of rows, measuring the columns over those rows only.
+     *
+     * @param from the index of the first row, starting at 0
+     * @param count the most rows to include
+     * @return the table holding the rows from {@code from}, each line ending with the line separator
+     */
+    public String renderRows(int from, int count) {
+        int start = Math.max(0, Math.min(from, data.size()));
+        int end = (int) Math.min((long) start + Math.max(count, 0), data.size());
+        return render(data.subList(start, end));
+    }
+
+    /**
+     * Returns the number of pages the listing takes.
+     *
+     * @param pageSize the number of rows on each page
+     * @return the number of pages, at least 1
+     * @throws IllegalArgumentException if the page size is less than 1
+     */
+    public int getPageCount(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
         }
+        return (int) Math.max(1, ((long) data.size() + pageSize - 1) / pageSize);
     }
 
     /**
-     * Prints a single row of data for the specified object.
+     * Builds the table, including headers, rows, and separators, as one string.
+     * Each cell is extracted once and kept for both measuring the columns and writing the row.
      *
-     * @param item the object to extract data from
-     * @param columnWidths the widths of the columns
+     * @return the table, each line ending with the line separator
      */
-    private void printDataRow(T item, int[] columnWidths) {
-        for (int i = 0; i < extractors.size(); i++) {
-            String value = extractors.get(i).extract(item);
-            System.out.printf("| %-" + columnWidths[i] + "s ", value);
+    public String render() {
+        return render(data);
+    }
+
+    /**
+     * Builds a table of some of the rows.
+     *
+     * @param items the objects to show, one per row
+     * @return the table, each line ending with the line separator
+     */
+    private String render(List<T> items) {
+        int columnCount = headers.size();
+        int[] columnWidths = new int[columnCount];
+
+        // Extract every cell once and calculate the maximum width for each column
+        for (int i = 0; i < columnCount; i++) {
+            columnWidths[i] = headers.get(i).length();
+        }
+        String[][] rows = new String[items.size()][];
+        int rowIndex = 0;
+        for (T item : items) {
+            String[] row = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = String.valueOf(extractors.get(i).extract(item));
+                columnWidths[i] = Math.max(columnWidths[i], row[i].length());
+            }
+            rows[rowIndex++] = row;
         }
-        System.out.println("|");
+
+        String newline = System.lineSeparator();
+        String separator = separator(columnWidths, newline);
+        long capacity = (long) separator.length() * (2L * rows.length + 3);
+        StringBuilder table = new StringBuilder((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+
+        // Build the header row
+        table.append(separator);
+        appendRow(table, headers.toArray(new String[0]), columnWidths, newline);
+        table.append(separator);
+
+        // Build the data rows
+        for (String[] row : rows) {
+            appendRow(table, row, columnWidths, newline);
+            table.append(separator);
+        }
+        return table.toString();
     }
 
     /**
-     * Prints a row of cells with the specified column widths.
+     * Appends a row of cells with the specified column widths.
      *
-     * @param cells the list of cell values to print
+     * @param table the table being built
+     * @param cells the cell values
      * @param widths the widths of the columns
+     * @param newline the line separator
      */
-    private void printRow(List<String> cells, int[] widths) {
-        for (int i = 0; i < cells.size(); i++) {
-            System.out.printf("| %-" + widths[i] + "s ", cells.get(i));
+    private static void appendRow(StringBuilder table, String[] cells, int[] widths, String newline) {
+        for (int i = 0; i < cells.length; i++) {
+            table.append("| ").append(cells[i]);
+            for (int pad = cells[i].length(); pad <= widths[i]; pad++) {
+                table.append(' ');
+            }
         }
-        System.out.println("|");
+        table.append('|').append(newline);
     }
 
     /**
-     * Prints a separator line based on the column widths.
+     * Builds a separator line based on the column widths.
      *
      * @param widths the widths of the columns
+     * @param newline the line separator
+     * @return the separator line
      */
-    private void printSeparator(int[] widths) {
+    private static String separator(int[] widths, String newline) {
+        StringBuilder line = new StringBuilder();
         for (int width : widths) {
-            System.out.print("+");
-            System.out.print("-".repeat(width + 2));
+            line.append('+').append("-".repeat(width + 2));
         }
-        System.out.println("+");
+        return line.append('+').append(newline).toString();
     }
 }
@@ -18,6 +18,16 @@ import system.AccountManager;
  * @version Feb 26, 2025
  */
 public class Util {
+    /**
+     * The format of the start and end of a time slot, built once since building it parses the pattern.
+     */
+    private static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mm a");
+
+    /**
+     * The most import errors listed before the rest are only counted.
+     */
+    private static final int maxErrorsShown = 20;
+
     /**
      * Creates a separator line of a specified length and prints it to the console.
      *
@@ -89,9 +99,8 @@ public class Util {
      * @return the formatted time slot string
      */
     public static String formatTimeSlot(TimeSlot slot) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("hh:mm a");
-        String start = slot.getStartTime().format(formatter);
-        String end = slot.getEndTime().format(formatter);
+        String start = slot.getStartTime().format(timeFormatter);
+        String end = slot.getEndTime().format(timeFormatter);
         return start + " - " + end;
     }
 
@@ -219,6 +228,25 @@ public class Util {
         return max;
     }
 
+    /**
+     * Prints the rows an import skipped, listing the first few errors and counting the rest.
+     *
+     * @param errors the errors, one per skipped row
+     * @param rows what the rows are, such as "rows" or "names"
+     */
+    public static void printImportErrors(List<String> errors, String rows) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        System.out.println(errors.size() + " " + rows + " skipped:");
+        for (String error : errors.subList(0, Math.min(errors.size(), maxErrorsShown))) {
+            System.out.println("  " + error);
+        }
+        if (errors.size() > maxErrorsShown) {
+            System.out.println("  ... and " + (errors.size() - maxErrorsShown) + " more");
+        }
+    }
+
     /**
      * Converts a yes/no input string to a boolean value.
      *
@@ -0,0 +1,73 @@
+package util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors that run each task on its own thread, for servers that handle many concurrent requests.
+ *
+ * On Java 21 and later each task gets a virtual thread, so thousands of students waiting on the
+ * network or the disk cost little memory. The project still compiles and runs on Java 17, where
+ * virtual threads do not exist, so the Java 21 method is looked up at runtime and a cached pool of
+ * daemon platform threads is used when it is missing.
+ *
+ * @version Oct 17, 2026
+ */
+public class VirtualThreads {
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}, or null before Java 21.
+     */
+    private static final Method virtualExecutorFactory = findVirtualExecutorFactory();
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private VirtualThreads() {
+    }
+
+    /**
+     * Returns whether tasks run on virtual threads in this Java version.
+     *
+     * @return true if virtual threads are available
+     */
+    public static boolean isAvailable() {
+        return virtualExecutorFactory != null;
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each task.
+     *
+     * @param name the name given to platform threads when virtual threads are not available
+     * @return a virtual thread per task executor, or a cached pool of daemon threads
+     */
+    public static ExecutorService newPerTaskExecutor(String name) {
+        if (virtualExecutorFactory != null) {
+            try {
+                return (ExecutorService) virtualExecutorFactory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Fall through to platform threads
+            }
+        }
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Looks up the factory for virtual thread executors.
+     *
+     * @return the factory method, or null if this Java version has no virtual threads
+     */
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}